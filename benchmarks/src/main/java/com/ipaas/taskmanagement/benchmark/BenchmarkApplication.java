@@ -0,0 +1,96 @@
+package com.ipaas.taskmanagement.benchmark;
+
+import com.ipaas.taskmanagement.TaskManagementApiApplication;
+import com.ipaas.taskmanagement.dto.UserDTO;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.form.BulkUpdateTaskStatusForm;
+import com.ipaas.taskmanagement.form.CreateSubtaskForm;
+import com.ipaas.taskmanagement.form.CreateTaskForm;
+import com.ipaas.taskmanagement.form.CreateUserForm;
+import com.ipaas.taskmanagement.service.TaskService;
+import com.ipaas.taskmanagement.service.UserService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Starts the application without a web server against its in-memory H2 database and
+ * seeds a fixed dataset for the read benchmarks.
+ */
+final class BenchmarkApplication {
+
+    static final int USERS = 10;
+    static final int TASKS_PER_USER = 500;
+    static final int SUBTASKS_PER_TASK = 3;
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * Starts a context with SQL and request logging silenced and the entity cache
+     * disabled, so every read goes to the database.
+     */
+    static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(TaskManagementApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.ipaas.taskmanagement=WARN",
+                        "logging.level.org.springframework.web=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "app.cache.entities.maximum-size=0")
+                .run();
+    }
+
+    /**
+     * Creates {@link #USERS} users with {@link #TASKS_PER_USER} tasks each, every task with
+     * {@link #SUBTASKS_PER_TASK} subtasks, and moves every third task to IN_PROGRESS.
+     * Returns the task IDs.
+     */
+    static List<UUID> seed(ConfigurableApplicationContext context) {
+        UserService userService = context.getBean(UserService.class);
+        TaskService taskService = context.getBean(TaskService.class);
+
+        List<UUID> taskIds = new ArrayList<>();
+        for (int u = 0; u < USERS; u++) {
+            CreateUserForm userForm = new CreateUserForm();
+            userForm.setName("Benchmark User " + u);
+            userForm.setEmail("benchmark" + u + "@email.com");
+            UserDTO user = userService.createUser(userForm);
+
+            for (int t = 0; t < TASKS_PER_USER; t++) {
+                CreateTaskForm taskForm = new CreateTaskForm();
+                taskForm.setTitle("Benchmark task " + t + " of user " + u);
+                taskForm.setDescription("Seeded for the read benchmarks");
+                taskForm.setUserId(user.getId());
+                List<CreateSubtaskForm> subtasks = new ArrayList<>();
+                for (int s = 0; s < SUBTASKS_PER_TASK; s++) {
+                    CreateSubtaskForm subtaskForm = new CreateSubtaskForm();
+                    subtaskForm.setTitle("Benchmark subtask " + s);
+                    subtasks.add(subtaskForm);
+                }
+                taskForm.setSubtasks(subtasks);
+                taskIds.add(taskService.createTask(taskForm).getId());
+            }
+        }
+
+        for (int from = 0; from < taskIds.size(); from += 1000) {
+            List<UUID> started = new ArrayList<>();
+            for (int i = from; i < Math.min(from + 1000, taskIds.size()); i += 3) {
+                started.add(taskIds.get(i));
+            }
+            BulkUpdateTaskStatusForm statusForm = new BulkUpdateTaskStatusForm();
+            statusForm.setTaskIds(started);
+            statusForm.setStatus(TaskStatus.IN_PROGRESS);
+            taskService.bulkUpdateStatus(statusForm);
+        }
+        return taskIds;
+    }
+}
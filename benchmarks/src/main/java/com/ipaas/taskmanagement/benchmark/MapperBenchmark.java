@@ -0,0 +1,116 @@
+package com.ipaas.taskmanagement.benchmark;
+
+import com.ipaas.taskmanagement.dto.SubtaskDTO;
+import com.ipaas.taskmanagement.dto.TaskDTO;
+import com.ipaas.taskmanagement.entity.Subtask;
+import com.ipaas.taskmanagement.entity.Task;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.entity.User;
+import com.ipaas.taskmanagement.mapper.SubtaskMapper;
+import com.ipaas.taskmanagement.mapper.TaskMapper;
+import com.ipaas.taskmanagement.projection.SubtaskCountProjection;
+import com.ipaas.taskmanagement.projection.SubtaskView;
+import com.ipaas.taskmanagement.projection.TaskView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of converting entities and read-model projections to DTOs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private SubtaskMapper subtaskMapper;
+    private TaskMapper taskMapper;
+
+    private Task task;
+    private Subtask subtask;
+    private TaskView taskView;
+    private SubtaskView subtaskView;
+    private SubtaskCountProjection counts;
+
+    @Setup
+    public void setUp() {
+        subtaskMapper = new SubtaskMapper();
+        taskMapper = new TaskMapper(subtaskMapper);
+
+        User user = new User("Benchmark User", "benchmark@email.com");
+        user.setId(UUID.randomUUID());
+
+        task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTitle("Benchmark task");
+        task.setDescription("Task used by the mapper benchmark");
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        task.setCreatedAt(LocalDateTime.now());
+        task.setUser(user);
+
+        subtask = new Subtask();
+        subtask.setId(UUID.randomUUID());
+        subtask.setTitle("Benchmark subtask");
+        subtask.setDescription("Subtask used by the mapper benchmark");
+        subtask.setStatus(TaskStatus.COMPLETED);
+        subtask.setCreatedAt(LocalDateTime.now());
+        subtask.setCompletedAt(LocalDateTime.now());
+        subtask.setTask(task);
+
+        taskView = new TaskView(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                task.getCreatedAt(), null, user.getId(), user.getName());
+        subtaskView = new SubtaskView(subtask.getId(), subtask.getTitle(), subtask.getDescription(),
+                subtask.getStatus(), subtask.getCreatedAt(), subtask.getCompletedAt(), task.getId(), task.getTitle());
+        UUID taskId = task.getId();
+        counts = new SubtaskCountProjection() {
+            @Override
+            public UUID getTaskId() {
+                return taskId;
+            }
+
+            @Override
+            public long getTotalSubtasks() {
+                return 5;
+            }
+
+            @Override
+            public long getCompletedSubtasks() {
+                return 2;
+            }
+        };
+    }
+
+    @Benchmark
+    public TaskDTO taskEntityToDTO() {
+        return taskMapper.toDTO(task, 5, 2);
+    }
+
+    @Benchmark
+    public TaskDTO taskViewToDTO() {
+        return taskMapper.toDTO(taskView, counts);
+    }
+
+    @Benchmark
+    public SubtaskDTO subtaskEntityToDTO() {
+        return subtaskMapper.toDTO(subtask);
+    }
+
+    @Benchmark
+    public SubtaskDTO subtaskViewToDTO() {
+        return subtaskMapper.toDTO(subtaskView);
+    }
+}
@@ -0,0 +1,88 @@
+package com.ipaas.taskmanagement.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ipaas.taskmanagement.dto.TaskDTO;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of serializing a {@code Page<TaskDTO>} response body with the same Jackson settings
+ * Spring Boot applies to the application's ObjectMapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100", "1000"})
+    private int rows;
+
+    private ObjectMapper objectMapper;
+    private Page<TaskDTO> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        UUID userId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskDTO> content = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            TaskDTO dto = new TaskDTO();
+            dto.setId(UUID.randomUUID());
+            dto.setTitle("Benchmark task " + i);
+            dto.setDescription("Task used by the serialization benchmark");
+            dto.setStatus(i % 3 == 0 ? TaskStatus.COMPLETED : TaskStatus.PENDING);
+            dto.setCreatedAt(now.minusMinutes(i));
+            dto.setCompletedAt(i % 3 == 0 ? now : null);
+            dto.setUserId(userId);
+            dto.setUserName("Benchmark User");
+            dto.setTotalSubtasks(3);
+            dto.setCompletedSubtasks(i % 4);
+            content.add(dto);
+        }
+        page = new PageImpl<>(content, PageRequest.of(0, rows), 5000);
+    }
+
+    @Benchmark
+    public byte[] writeBytes() throws IOException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    /**
+     * Streams to a sink like the message converter writing to the response, without
+     * materializing the body.
+     */
+    @Benchmark
+    public void writeStream() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), page);
+    }
+}
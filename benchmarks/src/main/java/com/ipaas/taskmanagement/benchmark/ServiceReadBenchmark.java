@@ -0,0 +1,108 @@
+package com.ipaas.taskmanagement.benchmark;
+
+import com.ipaas.taskmanagement.dto.CursorPageDTO;
+import com.ipaas.taskmanagement.dto.SubtaskDTO;
+import com.ipaas.taskmanagement.dto.TaskDTO;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.form.TaskFilterForm;
+import com.ipaas.taskmanagement.service.SubtaskService;
+import com.ipaas.taskmanagement.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service read paths against the seeded in-memory H2 database: transaction, queries,
+ * subtask counts and DTO mapping, without HTTP or the response cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ServiceReadBenchmark {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private SubtaskService subtaskService;
+    private List<UUID> taskIds;
+    private int next;
+
+    private TaskFilterForm noFilters;
+    private TaskFilterForm statusFilter;
+    private TaskFilterForm titleFilter;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        taskIds = BenchmarkApplication.seed(context);
+        taskService = context.getBean(TaskService.class);
+        subtaskService = context.getBean(SubtaskService.class);
+
+        noFilters = new TaskFilterForm();
+        statusFilter = new TaskFilterForm();
+        statusFilter.setStatus(TaskStatus.IN_PROGRESS);
+        titleFilter = new TaskFilterForm();
+        titleFilter.setTitle("task 42 of");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskDTO findById() {
+        return taskService.findById(nextTaskId());
+    }
+
+    @Benchmark
+    public Page<TaskDTO> findTasks() {
+        return taskService.findTasks(noFilters, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<TaskDTO> findTasksByStatus() {
+        return taskService.findTasks(statusFilter, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Page<TaskDTO> findTasksByTitle() {
+        return taskService.findTasks(titleFilter, FIRST_PAGE);
+    }
+
+    @Benchmark
+    public CursorPageDTO<TaskDTO> scrollTasks() {
+        return taskService.scrollTasks(noFilters, null, 20);
+    }
+
+    @Benchmark
+    public List<SubtaskDTO> findSubtasksByTaskId() {
+        return subtaskService.findByTaskId(nextTaskId());
+    }
+
+    private UUID nextTaskId() {
+        next = (next + 1) % taskIds.size();
+        return taskIds.get(next);
+    }
+}
@@ -0,0 +1,99 @@
+package com.ipaas.taskmanagement.benchmark;
+
+import com.ipaas.taskmanagement.entity.Task;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.form.TaskFilterForm;
+import com.ipaas.taskmanagement.specification.TaskSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning task filters into a Criteria predicate, including the query and root
+ * creation every request pays. No SQL is rendered or executed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpecificationBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private CriteriaBuilder criteriaBuilder;
+
+    private Specification<Task> noFilters;
+    private Specification<Task> allFilters;
+    private Specification<Task> withCandidates;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+        criteriaBuilder = entityManager.getCriteriaBuilder();
+
+        noFilters = TaskSpecification.withFilters(new TaskFilterForm());
+
+        TaskFilterForm filters = new TaskFilterForm();
+        filters.setStatus(TaskStatus.PENDING);
+        filters.setUserId(UUID.randomUUID());
+        filters.setTitle("Relatório Mensal");
+        allFilters = TaskSpecification.withFilters(filters);
+
+        List<UUID> candidates = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            candidates.add(UUID.randomUUID());
+        }
+        withCandidates = allFilters.and(TaskSpecification.idIn(candidates));
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        context.close();
+    }
+
+    @Benchmark
+    public Predicate noFilters() {
+        return toPredicate(noFilters);
+    }
+
+    @Benchmark
+    public Predicate allFilters() {
+        return toPredicate(allFilters);
+    }
+
+    @Benchmark
+    public Predicate allFiltersWithTitleCandidates() {
+        return toPredicate(withCandidates);
+    }
+
+    private Predicate toPredicate(Specification<Task> spec) {
+        CriteriaQuery<Task> query = criteriaBuilder.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        return spec.toPredicate(root, query, criteriaBuilder);
+    }
+}
@@ -0,0 +1,181 @@
+package com.ipaas.taskmanagement.loadtest;
+
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.search.TitleNormalizer;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generator for users, tasks and subtasks. The same seed and sizes always
+ * produce the same rows: tasks are assigned to users following a Zipf distribution, so a
+ * few users own most tasks, and each task gets between 0 and twice the average number of
+ * subtasks. Rows are written with JDBC batches into a schema created by the application.
+ */
+final class DataGenerator {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final long YEAR_SECONDS = 365L * 24 * 60 * 60;
+
+    private static final String[] VERBS = {
+            "Implementar", "Revisar", "Configurar", "Documentar", "Testar", "Corrigir",
+            "Migrar", "Atualizar", "Analisar", "Publicar", "Refatorar", "Monitorar"
+    };
+    private static final String[] SUBJECTS = {
+            "API de usuários", "banco de dados", "relatório mensal", "pipeline de deploy",
+            "autenticação", "cache de respostas", "painel de métricas", "integração de pagamentos",
+            "contrato do cliente", "backup noturno", "fila de mensagens", "página de login",
+            "exportação de tarefas", "notificações por email", "índice de busca", "plano de testes"
+    };
+
+    private final Connection connection;
+    private final SplittableRandom random;
+    private final int users;
+    private final long tasks;
+    private final int subtasksPerTask;
+    private final double skew;
+    private final long seed;
+
+    DataGenerator(Connection connection, long seed, int users, long tasks, int subtasksPerTask, double skew) {
+        this.connection = connection;
+        this.random = new SplittableRandom(seed);
+        this.seed = seed;
+        this.users = users;
+        this.tasks = tasks;
+        this.subtasksPerTask = subtasksPerTask;
+        this.skew = skew;
+    }
+
+    /**
+     * Inserts the dataset and returns its shape. Fails if the database already has users.
+     */
+    Dataset generate() throws SQLException {
+        ensureEmpty();
+        connection.setAutoCommit(false);
+
+        long start = System.currentTimeMillis();
+        insertUsers();
+        long subtasks = insertTasks();
+        System.out.printf("Generated %d users, %d tasks and %d subtasks in %d s%n",
+                users, tasks, subtasks, (System.currentTimeMillis() - start) / 1000);
+
+        return new Dataset(seed, users, tasks, subtasks, skew);
+    }
+
+    private void ensureEmpty() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM users")) {
+            resultSet.next();
+            if (resultSet.getLong(1) > 0) {
+                throw new IllegalStateException("Database already contains users; generate into an empty schema");
+            }
+        }
+    }
+
+    private void insertUsers() throws SQLException {
+        String sql = "INSERT INTO users (id, name, email, created_at) VALUES (?, ?, ?, ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < users; i++) {
+                statement.setObject(1, Dataset.userId(i));
+                statement.setString(2, "Load User " + i);
+                statement.setString(3, "user" + i + "@loadtest.example");
+                statement.setTimestamp(4, Timestamp.valueOf(EPOCH));
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    flush(statement);
+                }
+            }
+            flush(statement);
+        }
+    }
+
+    private long insertTasks() throws SQLException {
+        ZipfDistribution owners = new ZipfDistribution(users, skew);
+        String taskSql = "INSERT INTO tasks (id, title, normalized_title, description, status, created_at, "
+                + "completed_at, user_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        String subtaskSql = "INSERT INTO subtasks (id, title, normalized_title, description, status, created_at, "
+                + "completed_at, task_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+        long subtaskIndex = 0;
+        try (PreparedStatement taskStatement = connection.prepareStatement(taskSql);
+             PreparedStatement subtaskStatement = connection.prepareStatement(subtaskSql)) {
+            for (long i = 0; i < tasks; i++) {
+                String title = title();
+                TaskStatus status = taskStatus();
+                LocalDateTime createdAt = EPOCH.plusSeconds(random.nextLong(YEAR_SECONDS));
+                LocalDateTime completedAt = status == TaskStatus.COMPLETED
+                        ? createdAt.plusHours(1 + random.nextInt(24 * 14))
+                        : null;
+
+                taskStatement.setObject(1, Dataset.taskId(i));
+                taskStatement.setString(2, title);
+                taskStatement.setString(3, TitleNormalizer.normalize(title));
+                taskStatement.setString(4, "Generated task " + i);
+                taskStatement.setString(5, status.name());
+                taskStatement.setTimestamp(6, Timestamp.valueOf(createdAt));
+                taskStatement.setTimestamp(7, completedAt == null ? null : Timestamp.valueOf(completedAt));
+                taskStatement.setObject(8, Dataset.userId(owners.sample(random)));
+                taskStatement.addBatch();
+
+                int subtaskCount = random.nextInt(2 * subtasksPerTask + 1);
+                for (int s = 0; s < subtaskCount; s++) {
+                    String subtaskTitle = title();
+                    // A completed task only has completed subtasks
+                    TaskStatus subtaskStatus = status == TaskStatus.COMPLETED ? TaskStatus.COMPLETED : taskStatus();
+                    LocalDateTime subtaskCreatedAt = createdAt.plusMinutes(s + 1L);
+
+                    subtaskStatement.setObject(1, Dataset.subtaskId(subtaskIndex++));
+                    subtaskStatement.setString(2, subtaskTitle);
+                    subtaskStatement.setString(3, TitleNormalizer.normalize(subtaskTitle));
+                    subtaskStatement.setString(4, null);
+                    subtaskStatement.setString(5, subtaskStatus.name());
+                    subtaskStatement.setTimestamp(6, Timestamp.valueOf(subtaskCreatedAt));
+                    subtaskStatement.setTimestamp(7, subtaskStatus == TaskStatus.COMPLETED
+                            ? Timestamp.valueOf(subtaskCreatedAt.plusHours(1))
+                            : null);
+                    subtaskStatement.setObject(8, Dataset.taskId(i));
+                    subtaskStatement.addBatch();
+                }
+
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    // Tasks first: subtasks reference them
+                    taskStatement.executeBatch();
+                    flush(subtaskStatement);
+                }
+                if ((i + 1) % 100_000 == 0) {
+                    System.out.printf("  %d/%d tasks%n", i + 1, tasks);
+                }
+            }
+            taskStatement.executeBatch();
+            flush(subtaskStatement);
+        }
+        return subtaskIndex;
+    }
+
+    private void flush(PreparedStatement statement) throws SQLException {
+        statement.executeBatch();
+        connection.commit();
+    }
+
+    private String title() {
+        return VERBS[random.nextInt(VERBS.length)] + " " + SUBJECTS[random.nextInt(SUBJECTS.length)];
+    }
+
+    /**
+     * Half pending, 30% in progress, 20% completed.
+     */
+    private TaskStatus taskStatus() {
+        int roll = random.nextInt(10);
+        if (roll < 5) {
+            return TaskStatus.PENDING;
+        }
+        return roll < 8 ? TaskStatus.IN_PROGRESS : TaskStatus.COMPLETED;
+    }
+}
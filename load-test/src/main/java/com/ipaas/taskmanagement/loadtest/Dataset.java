@@ -0,0 +1,62 @@
+package com.ipaas.taskmanagement.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * Shape of a generated dataset, written next to the database by the generator and read by
+ * the driver. IDs are derived from the row index, so the driver can address any generated
+ * user, task or subtask without reading them back.
+ */
+record Dataset(long seed, int users, long tasks, long subtasks, double skew) {
+
+    private static final long USER_PREFIX = 0x10ad7e57_0001_4000L;
+    private static final long TASK_PREFIX = 0x10ad7e57_0002_4000L;
+    private static final long SUBTASK_PREFIX = 0x10ad7e57_0003_4000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+
+    static UUID userId(long index) {
+        return new UUID(USER_PREFIX, VARIANT | index);
+    }
+
+    static UUID taskId(long index) {
+        return new UUID(TASK_PREFIX, VARIANT | index);
+    }
+
+    static UUID subtaskId(long index) {
+        return new UUID(SUBTASK_PREFIX, VARIANT | index);
+    }
+
+    static Dataset load(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        }
+        return new Dataset(
+                Long.parseLong(properties.getProperty("seed")),
+                Integer.parseInt(properties.getProperty("users")),
+                Long.parseLong(properties.getProperty("tasks")),
+                Long.parseLong(properties.getProperty("subtasks")),
+                Double.parseDouble(properties.getProperty("skew")));
+    }
+
+    void store(Path path) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("seed", Long.toString(seed));
+        properties.setProperty("users", Integer.toString(users));
+        properties.setProperty("tasks", Long.toString(tasks));
+        properties.setProperty("subtasks", Long.toString(subtasks));
+        properties.setProperty("skew", Double.toString(skew));
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(path)) {
+            properties.store(writer, "Generated load-test dataset");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.ipaas.taskmanagement.loadtest;
+
+/**
+ * Endpoints exercised by the load driver; results are reported per endpoint.
+ */
+enum Endpoint {
+
+    LIST_TASKS("GET /api/tasks"),
+    SEARCH_SUBTASKS("GET /api/subtasks/search"),
+    UPDATE_TASK_STATUS("PATCH /api/tasks/{id}/status"),
+    UPDATE_SUBTASK_STATUS("PATCH /api/subtasks/{id}/status");
+
+    private final String label;
+
+    Endpoint(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+}
@@ -0,0 +1,161 @@
+package com.ipaas.taskmanagement.loadtest;
+
+import com.ipaas.taskmanagement.id.UuidV7;
+
+import java.io.PrintStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Compares random version 4 and time-ordered version 7 primary keys on PostgreSQL. Each key
+ * type fills its own table shaped like {@code subtasks} (UUID primary key, task reference,
+ * title, timestamp) with the same number of rows, and the run reports insert throughput,
+ * WAL written and the size of the primary-key index. Random keys touch a random leaf page
+ * per insert and split pages half full; sequential keys append to the rightmost leaf.
+ */
+final class KeyLocalityBenchmark {
+
+    enum KeyType {
+        V4(UUID::randomUUID),
+        V7(UuidV7::randomUuid);
+
+        private final Supplier<UUID> generator;
+
+        KeyType(Supplier<UUID> generator) {
+            this.generator = generator;
+        }
+    }
+
+    record Result(KeyType keyType, long rows, long elapsedMillis, long walBytes, long tableBytes,
+                  long indexBytes, Double leafDensity) {
+
+        double rowsPerSecond() {
+            return rows * 1000.0 / Math.max(elapsedMillis, 1);
+        }
+    }
+
+    private final Connection connection;
+    private final long rows;
+    private final int batchSize;
+
+    KeyLocalityBenchmark(Connection connection, long rows, int batchSize) {
+        this.connection = connection;
+        this.rows = rows;
+        this.batchSize = batchSize;
+    }
+
+    List<Result> run() throws SQLException {
+        if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            throw new IllegalArgumentException("The key benchmark needs PostgreSQL; pass --jdbc-url jdbc:postgresql://...");
+        }
+        List<Result> results = new ArrayList<>();
+        for (KeyType keyType : KeyType.values()) {
+            results.add(run(keyType));
+        }
+        return results;
+    }
+
+    private Result run(KeyType keyType) throws SQLException {
+        String table = "key_bench_" + keyType.name().toLowerCase(Locale.ROOT);
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, task_id UUID NOT NULL, "
+                    + "title VARCHAR(200) NOT NULL, created_at TIMESTAMP NOT NULL)");
+            statement.execute("CHECKPOINT");
+        }
+
+        long walStart = walPosition();
+        long start = System.currentTimeMillis();
+        insert(table, keyType);
+        long elapsed = System.currentTimeMillis() - start;
+        long walBytes = walPosition() - walStart;
+
+        Result result = new Result(keyType, rows, elapsed, walBytes,
+                size("pg_relation_size('" + table + "')"),
+                size("pg_relation_size('" + table + "_pkey')"),
+                leafDensity(table + "_pkey"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + table);
+        }
+        return result;
+    }
+
+    private void insert(String table, KeyType keyType) throws SQLException {
+        connection.setAutoCommit(false);
+        UUID taskId = keyType.generator.get();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, task_id, title, created_at) VALUES (?, ?, ?, ?)")) {
+            for (long i = 0; i < rows; i++) {
+                if (i % 3 == 0) {
+                    taskId = keyType.generator.get();
+                }
+                insert.setObject(1, keyType.generator.get());
+                insert.setObject(2, taskId);
+                insert.setString(3, "Subtask " + i);
+                insert.setTimestamp(4, now);
+                insert.addBatch();
+                if ((i + 1) % batchSize == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private long walPosition() throws SQLException {
+        return size("pg_wal_lsn_diff(pg_current_wal_lsn(), '0/0')::bigint");
+    }
+
+    private long size(String expression) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT " + expression)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    /**
+     * Average fill of the index leaf pages, or null when the pgstattuple extension is not
+     * installed.
+     */
+    private Double leafDensity(String index) {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT avg_leaf_density FROM pgstatindex('" + index + "')")) {
+            resultSet.next();
+            return resultSet.getDouble(1);
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    static void print(List<Result> results, PrintStream out) {
+        out.printf("%-4s %12s %12s %12s %14s %14s %12s%n",
+                "key", "rows", "rows/s", "wal MB", "table MB", "pk index MB", "leaf fill %");
+        for (Result result : results) {
+            out.printf("%-4s %12d %12.0f %12.1f %14.1f %14.1f %12s%n",
+                    result.keyType(), result.rows(), result.rowsPerSecond(), megabytes(result.walBytes()),
+                    megabytes(result.tableBytes()), megabytes(result.indexBytes()),
+                    result.leafDensity() == null ? "n/a" : String.format("%.1f", result.leafDensity()));
+        }
+    }
+
+    private static double megabytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+}
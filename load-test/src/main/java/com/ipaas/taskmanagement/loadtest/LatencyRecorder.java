@@ -0,0 +1,118 @@
+package com.ipaas.taskmanagement.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms (microseconds) and error counts, safe for concurrent
+ * recording. {@link #reset()} discards the warmup phase; {@link #snapshot(long)} returns
+ * the measured interval.
+ */
+final class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+
+    LatencyRecorder() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    void recordSuccess(Endpoint endpoint, long latencyNanos) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        recorders.get(endpoint).recordValue(micros);
+    }
+
+    void recordError(Endpoint endpoint) {
+        errors.get(endpoint).increment();
+    }
+
+    void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    Report snapshot(long elapsedNanos) {
+        Map<Endpoint, Histogram> histograms = new EnumMap<>(Endpoint.class);
+        Map<Endpoint, Long> errorCounts = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            histograms.put(endpoint, recorders.get(endpoint).getIntervalHistogram());
+            errorCounts.put(endpoint, errors.get(endpoint).sum());
+        }
+        return new Report(histograms, errorCounts, elapsedNanos);
+    }
+
+    /**
+     * Throughput and latency percentiles of one measured interval.
+     */
+    record Report(Map<Endpoint, Histogram> histograms, Map<Endpoint, Long> errors, long elapsedNanos) {
+
+        void print(PrintStream out) {
+            out.printf("%-30s %10s %8s %10s %10s %10s %10s %10s%n",
+                    "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+            for (Endpoint endpoint : Endpoint.values()) {
+                Histogram histogram = histograms.get(endpoint);
+                long errorCount = errors.get(endpoint);
+                if (histogram.getTotalCount() == 0 && errorCount == 0) {
+                    continue;
+                }
+                out.printf("%-30s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                        endpoint.label(),
+                        histogram.getTotalCount(),
+                        errorCount,
+                        throughput(histogram),
+                        millis(histogram.getValueAtPercentile(50)),
+                        millis(histogram.getValueAtPercentile(99)),
+                        millis(histogram.getValueAtPercentile(99.9)),
+                        millis(histogram.getMaxValue()));
+            }
+        }
+
+        /**
+         * Writes the same figures as CSV, for comparing builds.
+         */
+        void writeCsv(Path path) throws IOException {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(path)) {
+                writer.write("endpoint,requests,errors,throughput,p50_ms,p99_ms,p999_ms,max_ms\n");
+                for (Endpoint endpoint : Endpoint.values()) {
+                    Histogram histogram = histograms.get(endpoint);
+                    writer.write(String.format(Locale.ROOT, "%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f%n",
+                            endpoint.name(),
+                            histogram.getTotalCount(),
+                            errors.get(endpoint),
+                            throughput(histogram),
+                            millis(histogram.getValueAtPercentile(50)),
+                            millis(histogram.getValueAtPercentile(99)),
+                            millis(histogram.getValueAtPercentile(99.9)),
+                            millis(histogram.getMaxValue())));
+                }
+            }
+        }
+
+        private double throughput(Histogram histogram) {
+            return histogram.getTotalCount() / (elapsedNanos / 1e9);
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.ipaas.taskmanagement.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the workload over HTTP in one of two models:
+ * <ul>
+ *   <li>closed: a fixed number of clients, each sending its next request when the previous
+ *   one completes. Throughput is the outcome; latency is measured from send.</li>
+ *   <li>open: requests arrive at a fixed rate regardless of how fast the server answers.
+ *   Latency is measured from the scheduled arrival time, so queueing behind a slow server
+ *   is counted instead of hidden (no coordinated omission).</li>
+ * </ul>
+ * Requests run on virtual threads. Non-2xx responses, timeouts and I/O failures count as errors.
+ */
+final class LoadDriver {
+
+    enum Model {
+        CLOSED, OPEN
+    }
+
+    private final HttpClient client;
+    private final Workload workload;
+    private final LatencyRecorder recorder;
+    private final SplittableRandom seedRandom;
+
+    LoadDriver(Workload workload, long seed) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.workload = workload;
+        this.recorder = new LatencyRecorder();
+        this.seedRandom = new SplittableRandom(seed);
+    }
+
+    /**
+     * Runs {@code concurrency} clients in a loop for the warmup and then the measured duration.
+     */
+    LatencyRecorder.Report runClosed(int concurrency, Duration warmup, Duration duration) throws InterruptedException {
+        long measureStart = System.nanoTime() + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                SplittableRandom random = seedRandom.split();
+                executor.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        Endpoint endpoint = workload.nextEndpoint(random);
+                        HttpRequest request = workload.request(endpoint, random);
+                        send(endpoint, request, System.nanoTime());
+                    }
+                });
+            }
+            return measure(measureStart, end);
+        }
+    }
+
+    /**
+     * Issues {@code ratePerSecond} requests per second for the warmup and then the measured
+     * duration. Arrivals that find {@code maxInFlight} requests outstanding are dropped and
+     * counted as errors, so an overloaded server cannot exhaust the client.
+     */
+    LatencyRecorder.Report runOpen(int ratePerSecond, int maxInFlight, Duration warmup, Duration duration)
+            throws InterruptedException {
+        long interval = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long measureStart = start + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        LongAdder dropped = new LongAdder();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Thread scheduler = Thread.ofPlatform().name("load-scheduler").start(() -> {
+                SplittableRandom random = seedRandom.split();
+                for (long i = 0; ; i++) {
+                    long intended = start + i * interval;
+                    if (intended >= end) {
+                        return;
+                    }
+                    long wait = intended - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    Endpoint endpoint = workload.nextEndpoint(random);
+                    HttpRequest request = workload.request(endpoint, random);
+                    if (!inFlight.tryAcquire()) {
+                        dropped.increment();
+                        recorder.recordError(endpoint);
+                        continue;
+                    }
+                    executor.submit(() -> {
+                        try {
+                            send(endpoint, request, intended);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+            });
+            LatencyRecorder.Report report = measure(measureStart, end);
+            scheduler.join();
+            if (dropped.sum() > 0) {
+                System.out.printf("Dropped %d arrivals with %d requests in flight%n", dropped.sum(), maxInFlight);
+            }
+            return report;
+        }
+    }
+
+    /**
+     * Discards everything recorded during warmup and snapshots the measured interval.
+     * Requests still in flight at the end are not included.
+     */
+    private LatencyRecorder.Report measure(long measureStart, long end) throws InterruptedException {
+        sleepUntil(measureStart);
+        recorder.reset();
+        sleepUntil(end);
+        return recorder.snapshot(end - measureStart);
+    }
+
+    private void send(Endpoint endpoint, HttpRequest request, long startNanos) {
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 == 2) {
+                recorder.recordSuccess(endpoint, System.nanoTime() - startNanos);
+            } else {
+                recorder.recordError(endpoint);
+            }
+        } catch (IOException e) {
+            recorder.recordError(endpoint);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepUntil(long deadline) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
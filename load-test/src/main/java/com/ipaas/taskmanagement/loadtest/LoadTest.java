@@ -0,0 +1,132 @@
+package com.ipaas.taskmanagement.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line entry point of the load-test harness.
+ *
+ * <pre>
+ * generate [--jdbc-url URL] [--username U] [--password P] [--users N] [--tasks N]
+ *          [--subtasks-per-task N] [--skew S] [--seed N] [--dataset FILE]
+ * run      [--base-url URL] [--dataset FILE] [--model closed|open] [--concurrency N]
+ *          [--rate N] [--max-in-flight N] [--warmup ISO-8601] [--duration ISO-8601]
+ *          [--timeout ISO-8601] [--mix LIST_TASKS=50,SEARCH_SUBTASKS=30,...] [--seed N] [--report FILE]
+ * keys     --jdbc-url jdbc:postgresql://... [--username U] [--password P] [--rows N] [--batch-size N]
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final String DEFAULT_JDBC_URL = "jdbc:h2:file:./target/loadtest/taskdb;AUTO_SERVER=TRUE";
+    private static final String DEFAULT_DATASET = "target/loadtest/dataset.properties";
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            usage();
+            return;
+        }
+        Map<String, String> options = parseOptions(args);
+        switch (args[0]) {
+            case "generate" -> generate(options);
+            case "run" -> run(options);
+            case "keys" -> keys(options);
+            default -> usage();
+        }
+    }
+
+    private static void generate(Map<String, String> options) throws Exception {
+        String url = options.getOrDefault("jdbc-url", DEFAULT_JDBC_URL);
+        try (Connection connection = DriverManager.getConnection(url,
+                options.getOrDefault("username", "sa"), options.getOrDefault("password", "password"))) {
+            DataGenerator generator = new DataGenerator(connection,
+                    Long.parseLong(options.getOrDefault("seed", "42")),
+                    Integer.parseInt(options.getOrDefault("users", "100000")),
+                    Long.parseLong(options.getOrDefault("tasks", "1000000")),
+                    Integer.parseInt(options.getOrDefault("subtasks-per-task", "3")),
+                    Double.parseDouble(options.getOrDefault("skew", "1.1")));
+            Dataset dataset = generator.generate();
+            Path path = Path.of(options.getOrDefault("dataset", DEFAULT_DATASET));
+            dataset.store(path);
+            System.out.println("Dataset written to " + path
+                    + "; restart the application to rebuild its in-memory indexes");
+        }
+    }
+
+    private static void run(Map<String, String> options) throws Exception {
+        Dataset dataset = Dataset.load(Path.of(options.getOrDefault("dataset", DEFAULT_DATASET)));
+        Workload workload = new Workload(
+                URI.create(options.getOrDefault("base-url", "http://localhost:8080")),
+                dataset,
+                parseMix(options.get("mix")),
+                Duration.parse(options.getOrDefault("timeout", "PT10S")));
+        LoadDriver driver = new LoadDriver(workload, Long.parseLong(options.getOrDefault("seed", "42")));
+
+        Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT30S"));
+        Duration duration = Duration.parse(options.getOrDefault("duration", "PT2M"));
+        LoadDriver.Model model = LoadDriver.Model.valueOf(options.getOrDefault("model", "closed").toUpperCase(Locale.ROOT));
+
+        LatencyRecorder.Report report;
+        if (model == LoadDriver.Model.CLOSED) {
+            int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+            System.out.printf("Closed model: %d clients, warmup %s, duration %s%n", concurrency, warmup, duration);
+            report = driver.runClosed(concurrency, warmup, duration);
+        } else {
+            int rate = Integer.parseInt(options.getOrDefault("rate", "1000"));
+            int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "10000"));
+            System.out.printf("Open model: %d req/s, warmup %s, duration %s%n", rate, warmup, duration);
+            report = driver.runOpen(rate, maxInFlight, warmup, duration);
+        }
+
+        report.print(System.out);
+        if (options.containsKey("report")) {
+            report.writeCsv(Path.of(options.get("report")));
+        }
+    }
+
+    private static void keys(Map<String, String> options) throws Exception {
+        try (Connection connection = DriverManager.getConnection(options.getOrDefault("jdbc-url", DEFAULT_JDBC_URL),
+                options.getOrDefault("username", "sa"), options.getOrDefault("password", "password"))) {
+            KeyLocalityBenchmark benchmark = new KeyLocalityBenchmark(connection,
+                    Long.parseLong(options.getOrDefault("rows", "5000000")),
+                    Integer.parseInt(options.getOrDefault("batch-size", "1000")));
+            KeyLocalityBenchmark.print(benchmark.run(), System.out);
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 1; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --name value, got: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        if (mix == null) {
+            return Workload.defaultMix();
+        }
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split("=", 2);
+            weights.put(Endpoint.valueOf(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    private static void usage() {
+        System.out.println("Usage: LoadTest generate|run|keys [--option value ...]; see the README for options");
+    }
+}
@@ -0,0 +1,146 @@
+package com.ipaas.taskmanagement.loadtest;
+
+import com.ipaas.taskmanagement.entity.TaskStatus;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Builds requests for a weighted mix of endpoints over a generated dataset. Users are
+ * picked with the same Zipf skew the generator used, so hot users are read the most.
+ */
+final class Workload {
+
+    private static final String[] TITLE_TERMS = {
+            "relatório", "deploy", "banco", "login", "cache", "pagamentos", "backup", "métricas"
+    };
+
+    private final URI baseUri;
+    private final Dataset dataset;
+    private final ZipfDistribution users;
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final Duration timeout;
+
+    Workload(URI baseUri, Dataset dataset, Map<Endpoint, Integer> mix, Duration timeout) {
+        this.baseUri = baseUri;
+        this.dataset = dataset;
+        this.users = new ZipfDistribution(dataset.users(), dataset.skew());
+        this.timeout = timeout;
+
+        Map<Endpoint, Integer> weights = new EnumMap<>(mix);
+        weights.values().removeIf(weight -> weight <= 0);
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The request mix has no positive weight");
+        }
+        this.endpoints = weights.keySet().toArray(new Endpoint[0]);
+        this.cumulativeWeights = new int[endpoints.length];
+        int sum = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            sum += weights.get(endpoints[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    /**
+     * Default mix: mostly reads, with a fifth of the requests changing a status.
+     */
+    static Map<Endpoint, Integer> defaultMix() {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        mix.put(Endpoint.LIST_TASKS, 50);
+        mix.put(Endpoint.SEARCH_SUBTASKS, 30);
+        mix.put(Endpoint.UPDATE_TASK_STATUS, 10);
+        mix.put(Endpoint.UPDATE_SUBTASK_STATUS, 10);
+        return mix;
+    }
+
+    Endpoint nextEndpoint(RandomGenerator random) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    HttpRequest request(Endpoint endpoint, RandomGenerator random) {
+        return switch (endpoint) {
+            case LIST_TASKS -> listTasks(random);
+            case SEARCH_SUBTASKS -> searchSubtasks(random);
+            case UPDATE_TASK_STATUS -> updateTaskStatus(random);
+            case UPDATE_SUBTASK_STATUS -> updateSubtaskStatus(random);
+        };
+    }
+
+    private HttpRequest listTasks(RandomGenerator random) {
+        StringBuilder query = new StringBuilder("userId=")
+                .append(Dataset.userId(users.sample(random)))
+                .append("&size=20&page=").append(random.nextInt(3));
+        if (random.nextInt(4) == 0) {
+            query.append("&status=").append(randomStatus(random));
+        }
+        if (random.nextInt(5) == 0) {
+            query.append("&title=").append(encode(TITLE_TERMS[random.nextInt(TITLE_TERMS.length)]));
+        }
+        return get("/api/tasks?" + query);
+    }
+
+    private HttpRequest searchSubtasks(RandomGenerator random) {
+        StringBuilder query = new StringBuilder("size=20");
+        if (random.nextBoolean()) {
+            query.append("&taskId=").append(Dataset.taskId(random.nextLong(dataset.tasks())));
+        } else {
+            query.append("&status=").append(randomStatus(random))
+                    .append("&title=").append(encode(TITLE_TERMS[random.nextInt(TITLE_TERMS.length)]));
+        }
+        return get("/api/subtasks/search?" + query);
+    }
+
+    /**
+     * Tasks only move between PENDING and IN_PROGRESS, which never conflicts with pending subtasks.
+     */
+    private HttpRequest updateTaskStatus(RandomGenerator random) {
+        TaskStatus status = random.nextBoolean() ? TaskStatus.PENDING : TaskStatus.IN_PROGRESS;
+        return patch("/api/tasks/" + Dataset.taskId(random.nextLong(dataset.tasks())) + "/status", status);
+    }
+
+    private HttpRequest updateSubtaskStatus(RandomGenerator random) {
+        if (dataset.subtasks() == 0) {
+            return updateTaskStatus(random);
+        }
+        return patch("/api/subtasks/" + Dataset.subtaskId(random.nextLong(dataset.subtasks())) + "/status",
+                randomStatus(random));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private HttpRequest patch(String path, TaskStatus status) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"status\":\"" + status + "\"}"))
+                .build();
+    }
+
+    private static TaskStatus randomStatus(RandomGenerator random) {
+        TaskStatus[] statuses = TaskStatus.values();
+        return statuses[random.nextInt(statuses.length)];
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
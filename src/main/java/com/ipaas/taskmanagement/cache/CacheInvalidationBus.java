@@ -0,0 +1,15 @@
+package com.ipaas.taskmanagement.cache;
+
+import java.util.UUID;
+
+/**
+ * Propagates entity cache invalidations to every node running the API.
+ * Implementations evict locally right away and again once the current
+ * transaction commits, so a concurrent reader cannot re-cache stale state.
+ */
+public interface CacheInvalidationBus {
+
+    void invalidateUser(UUID id);
+
+    void invalidateTask(UUID id);
+}
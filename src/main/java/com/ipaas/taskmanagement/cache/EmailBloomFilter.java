@@ -0,0 +1,148 @@
+package com.ipaas.taskmanagement.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory Bloom filter over {@code users.email}. A negative answer means the email
+ * is definitely not stored, so callers can skip the database round trip; a positive
+ * answer must still be confirmed by the repository. The filter is rebuilt from the
+ * database on startup and periodically, and is conservative (always "might contain")
+ * until the first build completes.
+ */
+@Component
+@Slf4j
+public class EmailBloomFilter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final boolean shortCircuitLookups;
+
+    private final Counter negatives;
+    private final Counter positives;
+    private final Counter falsePositives;
+    private final Timer rebuildTimer;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter building;
+
+    public EmailBloomFilter(JdbcTemplate jdbcTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.users.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                            @Value("${app.users.email-filter.false-positive-probability:0.01}") double falsePositiveProbability,
+                            @Value("${app.users.email-filter.short-circuit-lookups:true}") boolean shortCircuitLookups) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.shortCircuitLookups = shortCircuitLookups;
+
+        this.negatives = Counter.builder("app.users.email_filter.checks")
+                .tag("result", "negative")
+                .description("Email filter checks answered as definitely absent")
+                .register(meterRegistry);
+        this.positives = Counter.builder("app.users.email_filter.checks")
+                .tag("result", "positive")
+                .description("Email filter checks answered as possibly present")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("app.users.email_filter.false_positives")
+                .description("Positive email filter checks not confirmed by the database")
+                .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("app.users.email_filter.rebuild")
+                .description("Duration of email filter rebuilds")
+                .register(meterRegistry);
+
+        Gauge.builder("app.users.email_filter.false_positive_rate", this, EmailBloomFilter::observedFalsePositiveRate)
+                .description("Observed false-positive rate: false positives over all checks of absent emails")
+                .register(meterRegistry);
+        Gauge.builder("app.users.email_filter.expected_false_positive_rate", this, EmailBloomFilter::expectedFalsePositiveRate)
+                .description("False-positive probability estimated from the filter fill ratio")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Rebuilds the filter from every stored email. Emails added while the rebuild runs
+     * are written to both the current and the new filter.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.users.email-filter.rebuild-interval:PT1H}",
+               initialDelayString = "${app.users.email-filter.rebuild-interval:PT1H}")
+    public void rebuild() {
+        rebuildTimer.record(() -> {
+            Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+            long size = Math.max(expectedInsertions, count == null ? 0 : count * 2);
+
+            BloomFilter next = new BloomFilter(size, falsePositiveProbability);
+            building = next;
+            jdbcTemplate.query("SELECT email FROM users", (RowCallbackHandler) rs -> next.put(rs.getString(1)));
+            filter = next;
+            building = null;
+
+            log.info("Email filter rebuilt for {} users", count);
+        });
+    }
+
+    /**
+     * Returns false only when the email is definitely not stored.
+     */
+    public boolean mightContain(String email) {
+        BloomFilter current = filter;
+        if (current == null || current.mightContain(email)) {
+            positives.increment();
+            return true;
+        }
+        negatives.increment();
+        return false;
+    }
+
+    /**
+     * Returns true when lookups may trust a negative answer without querying the database.
+     * Disabled on deployments where other nodes can insert users between rebuilds.
+     */
+    public boolean isDefinitelyAbsent(String email) {
+        return shortCircuitLookups && !mightContain(email);
+    }
+
+    /**
+     * Records that a positive answer was not confirmed by the database.
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * Adds a newly stored email.
+     */
+    public void put(String email) {
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(email);
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(email);
+        }
+    }
+
+    private double observedFalsePositiveRate() {
+        double absent = falsePositives.count() + negatives.count();
+        return absent == 0 ? 0 : falsePositives.count() / absent;
+    }
+
+    private double expectedFalsePositiveRate() {
+        BloomFilter current = filter;
+        return current == null ? 1 : current.expectedFalsePositiveProbability();
+    }
+}
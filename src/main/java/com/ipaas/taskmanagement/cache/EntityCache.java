@@ -0,0 +1,99 @@
+package com.ipaas.taskmanagement.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ipaas.taskmanagement.entity.Task;
+import com.ipaas.taskmanagement.entity.User;
+import com.ipaas.taskmanagement.replica.ReplicaReads;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of detached users and tasks, evicted by size and TTL.
+ * Cached instances are shared between threads and must be treated as read-only;
+ * write paths load managed entities from the repositories and invalidate through
+ * {@link CacheInvalidationBus}. Tasks are cached with their user initialized.
+ * <p>
+ * Only entities loaded from the primary are cached. One read from a replica is returned to its
+ * caller but not stored, since the replica may not have applied a write whose invalidation
+ * has already run.
+ */
+@Component
+public class EntityCache {
+
+    private final Cache<UUID, User> users;
+    private final Cache<UUID, Task> tasks;
+
+    public EntityCache(MeterRegistry meterRegistry,
+                       @Value("${app.cache.entities.maximum-size:10000}") long maximumSize,
+                       @Value("${app.cache.entities.time-to-live:PT5M}") Duration timeToLive) {
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        this.tasks = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "users");
+        CaffeineCacheMetrics.monitor(meterRegistry, tasks, "tasks");
+    }
+
+    /**
+     * Returns the cached user, loading it on a miss. Loader exceptions are propagated and not cached.
+     */
+    public User getUser(UUID id, Function<UUID, User> loader) {
+        return get(users, id, loader);
+    }
+
+    /**
+     * Returns the cached task, loading it on a miss. Loader exceptions are propagated and not cached.
+     */
+    public Task getTask(UUID id, Function<UUID, Task> loader) {
+        return get(tasks, id, loader);
+    }
+
+    public void evictUser(UUID id) {
+        users.invalidate(id);
+    }
+
+    public void evictTask(UUID id) {
+        tasks.invalidate(id);
+    }
+
+    /**
+     * Drops every entry, used when invalidations may have been missed.
+     */
+    public void evictAll() {
+        users.invalidateAll();
+        tasks.invalidateAll();
+    }
+
+    private static <T> T get(Cache<UUID, T> cache, UUID id, Function<UUID, T> loader) {
+        AtomicReference<T> uncached = new AtomicReference<>();
+        // A null result stores nothing; callers waiting on the same load then load themselves
+        T value = cache.get(id, key -> {
+            long mark = ReplicaReads.mark();
+            T loaded = loader.apply(key);
+            if (!ReplicaReads.since(mark)) {
+                return loaded;
+            }
+            uncached.set(loaded);
+            return null;
+        });
+        if (value != null) {
+            return value;
+        }
+        return uncached.get() != null ? uncached.get() : loader.apply(id);
+    }
+}
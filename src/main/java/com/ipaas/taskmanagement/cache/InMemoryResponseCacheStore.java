@@ -0,0 +1,75 @@
+package com.ipaas.taskmanagement.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-local stand-in for {@link RedisResponseCacheStore}, used on H2 and in tests
+ * so no Redis server is needed. Same semantics: per-entry TTL and tag invalidation.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.response.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryResponseCacheStore implements ResponseCacheStore {
+
+    private static final long MAXIMUM_SIZE = 10_000;
+
+    private final Cache<String, Entry> entries = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfter(new Expiry<String, Entry>() {
+                @Override
+                public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                    return entry.ttl().toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                    return entry.ttl().toNanos();
+                }
+
+                @Override
+                public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    private final Cache<String, Set<String>> tags = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .build();
+
+    @Override
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(entries.getIfPresent(key)).map(Entry::value);
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl, Collection<String> tagNames) {
+        entries.put(key, new Entry(value, ttl));
+        for (String tag : tagNames) {
+            tags.get(tag, t -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+    }
+
+    @Override
+    public void invalidateTags(Collection<String> tagNames) {
+        for (String tag : tagNames) {
+            Set<String> keys = tags.asMap().remove(tag);
+            if (keys != null) {
+                entries.invalidateAll(keys);
+            }
+        }
+    }
+
+    private record Entry(String value, Duration ttl) {
+    }
+}
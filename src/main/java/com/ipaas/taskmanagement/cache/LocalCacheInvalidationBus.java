@@ -0,0 +1,43 @@
+package com.ipaas.taskmanagement.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Single-node invalidation bus used with H2: evicts from the local cache only.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LocalCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final EntityCache entityCache;
+
+    @Override
+    public void invalidateUser(UUID id) {
+        entityCache.evictUser(id);
+        afterCommit(() -> entityCache.evictUser(id));
+    }
+
+    @Override
+    public void invalidateTask(UUID id) {
+        entityCache.evictTask(id);
+        afterCommit(() -> entityCache.evictTask(id));
+    }
+
+    static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+}
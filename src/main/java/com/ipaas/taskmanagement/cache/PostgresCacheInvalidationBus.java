@@ -0,0 +1,143 @@
+package com.ipaas.taskmanagement.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * Multi-node invalidation bus over PostgreSQL {@code LISTEN/NOTIFY}. Notifications are
+ * sent inside the writing transaction, so PostgreSQL only delivers them on commit.
+ * A background thread listens on the channel and evicts the local cache. It opens its own
+ * connection to {@code spring.datasource.url} outside the pool, so the listener never holds
+ * a pooled connection or a permit of the connection limit. The connection is checked whenever
+ * a poll returns nothing and reopened when it fails; after a reconnect the whole cache is
+ * dropped because notifications may have been missed.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.invalidation", havingValue = "postgres")
+@Slf4j
+public class PostgresCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final String CHANNEL = "entity_cache";
+    private static final String USER_PREFIX = "user:";
+    private static final String TASK_PREFIX = "task:";
+    private static final int POLL_TIMEOUT_MILLIS = 5000;
+    private static final long RECONNECT_DELAY_MILLIS = 2000;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final EntityCache entityCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public PostgresCacheInvalidationBus(EntityCache entityCache, JdbcTemplate jdbcTemplate,
+                                        DataSourceProperties dataSourceProperties) {
+        this.entityCache = entityCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    @Override
+    public void invalidateUser(UUID id) {
+        entityCache.evictUser(id);
+        LocalCacheInvalidationBus.afterCommit(() -> entityCache.evictUser(id));
+        notify(USER_PREFIX + id);
+    }
+
+    @Override
+    public void invalidateTask(UUID id) {
+        entityCache.evictTask(id);
+        LocalCacheInvalidationBus.afterCommit(() -> entityCache.evictTask(id));
+        notify(TASK_PREFIX + id);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listener = new Thread(this::listen, "entity-cache-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    private void notify(String payload) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", (ResultSetExtractor<Void>) rs -> null, CHANNEL, payload);
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                // Anything evicted while we were not listening is unknown
+                entityCache.evictAll();
+                log.info("Listening for entity cache invalidations on channel {}", CHANNEL);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications == null || notifications.length == 0) {
+                        // A dropped connection can poll without error and never deliver again
+                        if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                            throw new SQLException("Listener connection is no longer valid");
+                        }
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        apply(notification.getParameter());
+                    }
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Entity cache listener failed, reconnecting: {}", e.getMessage());
+                sleep();
+            }
+        }
+    }
+
+    private void apply(String payload) {
+        try {
+            if (payload.startsWith(USER_PREFIX)) {
+                entityCache.evictUser(UUID.fromString(payload.substring(USER_PREFIX.length())));
+            } else if (payload.startsWith(TASK_PREFIX)) {
+                entityCache.evictTask(UUID.fromString(payload.substring(TASK_PREFIX.length())));
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed cache invalidation: {}", payload);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.ipaas.taskmanagement.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Shared response cache in Redis. Each tag is a set of the keys carrying it; the tag set
+ * outlives its members so invalidation always finds them.
+ */
+@Component
+@ConditionalOnProperty(name = "app.cache.response.store", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisResponseCacheStore implements ResponseCacheStore {
+
+    private static final String TAG_PREFIX = "tag:";
+
+    /**
+     * Deletes the tagged keys and the tag set atomically, so keys added concurrently are not orphaned.
+     * The member keys are not declared, so this assumes a single Redis node (no cluster slots).
+     */
+    private static final RedisScript<Long> INVALIDATE_TAG = new DefaultRedisScript<>(
+            "local keys = redis.call('SMEMBERS', KEYS[1]) "
+                    + "for _, key in ipairs(keys) do redis.call('DEL', key) end "
+                    + "redis.call('DEL', KEYS[1]) "
+                    + "return #keys",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(key));
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl, Collection<String> tags) {
+        redisTemplate.opsForValue().set(key, value, ttl);
+        for (String tag : tags) {
+            String tagKey = TAG_PREFIX + tag;
+            redisTemplate.opsForSet().add(tagKey, key);
+            redisTemplate.expire(tagKey, ttl.multipliedBy(2));
+        }
+    }
+
+    @Override
+    public void invalidateTags(Collection<String> tags) {
+        for (String tag : tags) {
+            redisTemplate.execute(INVALIDATE_TAG, List.of(TAG_PREFIX + tag));
+        }
+    }
+}
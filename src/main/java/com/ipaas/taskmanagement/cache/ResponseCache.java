@@ -0,0 +1,289 @@
+package com.ipaas.taskmanagement.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ipaas.taskmanagement.replica.ReplicaReads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for serialized API responses, shared across nodes through the
+ * configured {@link ResponseCacheStore}.
+ * <p>
+ * Concurrent misses for the same key on one node are collapsed into a single load
+ * (stampede protection). Store failures never fail the request: the response is
+ * loaded from the database and the store is bypassed until the circuit closes again.
+ * <p>
+ * A load that overlaps an invalidation of one of its tags on this node is returned but not
+ * stored, since it may have read the database before the invalidating commit. Invalidations
+ * from other nodes only remove what is stored; a load overlapping them can still store its
+ * result, which is then served until its TTL expires.
+ * <p>
+ * Responses loaded from a read replica are returned but neither stored nor handed to collapsed
+ * requests: cache hits are not checked against the request's consistency token, so the cache
+ * only holds what the primary returned.
+ */
+@Component
+@Slf4j
+public class ResponseCache {
+
+    private final ResponseCacheStore store;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final String keyPrefix;
+    private final Duration itemTtl;
+    private final Duration pageTtl;
+    private final int maxCachedPages;
+    private final Duration openDuration;
+
+    private static final int TAG_GENERATION_STRIPES = 1024;
+
+    // Completes a collapsed load whose result must not be shared with the waiting requests
+    private static final Object REPLICA_LOAD = new Object();
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    // Invalidation counts by tag hash; tags sharing a stripe only cost a skipped store
+    private final AtomicLongArray tagGenerations = new AtomicLongArray(TAG_GENERATION_STRIPES);
+    private volatile long openUntil;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter errors;
+    private final Counter bypassed;
+
+    @Autowired
+    public ResponseCache(ResponseCacheStore store,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${app.cache.response.key-prefix:tm:v2:}") String keyPrefix,
+                         @Value("${app.cache.response.item-ttl:PT60S}") Duration itemTtl,
+                         @Value("${app.cache.response.page-ttl:PT10S}") Duration pageTtl,
+                         @Value("${app.cache.response.max-cached-pages:5}") int maxCachedPages,
+                         @Value("${app.cache.response.circuit-open-duration:PT30S}") Duration openDuration) {
+        this(store, objectMapper, meterRegistry, Clock.systemUTC(), keyPrefix, itemTtl, pageTtl, maxCachedPages,
+                openDuration);
+    }
+
+    ResponseCache(ResponseCacheStore store, ObjectMapper objectMapper, MeterRegistry meterRegistry, Clock clock,
+                  String keyPrefix, Duration itemTtl, Duration pageTtl, int maxCachedPages, Duration openDuration) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.keyPrefix = keyPrefix;
+        this.itemTtl = itemTtl;
+        this.pageTtl = pageTtl;
+        this.maxCachedPages = maxCachedPages;
+        this.openDuration = openDuration;
+
+        this.hits = meterRegistry.counter("app.cache.response.requests", "result", "hit");
+        this.misses = meterRegistry.counter("app.cache.response.requests", "result", "miss");
+        this.errors = meterRegistry.counter("app.cache.response.requests", "result", "error");
+        this.bypassed = meterRegistry.counter("app.cache.response.requests", "result", "bypass");
+    }
+
+    /**
+     * Returns the cached value for the key, loading and storing it on a miss.
+     */
+    public <T> T get(String key, Class<T> type, Collection<String> tags, Supplier<T> loader) {
+        return get(key, objectMapper.constructType(type), itemTtl, tags, loader);
+    }
+
+    /**
+     * Returns the cached page for the key. Only the leading pages are cached, with a shorter TTL;
+     * deeper pages go straight to the loader. Only the content and total are stored and the page
+     * is rebuilt against the request's pageable.
+     */
+    public <T> Page<T> getPage(String key, Class<T> elementType, Pageable pageable,
+                               Collection<String> tags, Supplier<Page<T>> loader) {
+        if (pageable.isUnpaged() || pageable.getPageNumber() >= maxCachedPages) {
+            return loader.get();
+        }
+        JavaType type = objectMapper.getTypeFactory().constructParametricType(PageSnapshot.class, elementType);
+        PageSnapshot<T> snapshot = get(key, type, pageTtl, tags, () -> PageSnapshot.of(loader.get()));
+        return new PageImpl<>(snapshot.getContent(), pageable, snapshot.getTotalElements());
+    }
+
+    /**
+     * Invalidates every response carrying one of the tags once the current transaction commits.
+     * Loads on this node that started before then are not stored, so they cannot cache the
+     * pre-commit state again. Failures are logged and left to the TTL.
+     */
+    public void invalidate(Collection<String> tags) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(tags);
+                }
+            });
+        } else {
+            invalidateNow(tags);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(String key, JavaType type, Duration ttl, Collection<String> tags, Supplier<T> loader) {
+        if (isOpen()) {
+            bypassed.increment();
+            return loader.get();
+        }
+
+        String cacheKey = keyPrefix + key;
+        Optional<T> cached = read(cacheKey, type);
+        if (cached.isPresent()) {
+            hits.increment();
+            return cached.get();
+        }
+        misses.increment();
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(cacheKey, load);
+        if (existing != null) {
+            Object value = await(existing);
+            // The replica that served the other request may be behind what this one requires
+            return value == REPLICA_LOAD ? loader.get() : (T) value;
+        }
+
+        try {
+            long generation = generation(tags);
+            long mark = ReplicaReads.mark();
+            T value = loader.get();
+            if (ReplicaReads.since(mark)) {
+                load.complete(REPLICA_LOAD);
+                return value;
+            }
+            if (generation(tags) == generation) {
+                write(cacheKey, value, ttl, tags);
+            }
+            load.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, load);
+        }
+    }
+
+    private <T> Optional<T> read(String cacheKey, JavaType type) {
+        try {
+            Optional<String> json = store.get(cacheKey);
+            if (json.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(json.get(), type));
+        } catch (JsonProcessingException e) {
+            log.warn("Discarding unreadable cached response {}: {}", cacheKey, e.getMessage());
+            return Optional.empty();
+        } catch (RuntimeException e) {
+            trip(e);
+            return Optional.empty();
+        }
+    }
+
+    private void write(String cacheKey, Object value, Duration ttl, Collection<String> tags) {
+        if (isOpen()) {
+            return;
+        }
+        try {
+            store.put(cacheKey, objectMapper.writeValueAsString(value), ttl, tags);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize response for {}: {}", cacheKey, e.getMessage());
+        } catch (RuntimeException e) {
+            trip(e);
+        }
+    }
+
+    private void invalidateNow(Collection<String> tags) {
+        for (String tag : tags) {
+            tagGenerations.incrementAndGet(stripe(tag));
+        }
+        try {
+            store.invalidateTags(tags);
+        } catch (RuntimeException e) {
+            log.warn("Could not invalidate cached responses for tags {}: {}", tags, e.getMessage());
+            trip(e);
+        }
+    }
+
+    /**
+     * Sum of the invalidation counts of the tags; it changes whenever one of them is invalidated.
+     */
+    private long generation(Collection<String> tags) {
+        long generation = 0;
+        for (String tag : tags) {
+            generation += tagGenerations.get(stripe(tag));
+        }
+        return generation;
+    }
+
+    private static int stripe(String tag) {
+        return Math.floorMod(tag.hashCode(), TAG_GENERATION_STRIPES);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T await(CompletableFuture<Object> load) {
+        try {
+            return (T) load.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for cached response", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private boolean isOpen() {
+        return clock.millis() < openUntil;
+    }
+
+    private void trip(RuntimeException e) {
+        errors.increment();
+        openUntil = clock.millis() + openDuration.toMillis();
+        log.warn("Response cache store unavailable, bypassing for {}: {}", openDuration, e.getMessage());
+    }
+
+    /**
+     * Serializable form of a page.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class PageSnapshot<T> {
+
+        private List<T> content;
+        private long totalElements;
+
+        static <T> PageSnapshot<T> of(Page<T> page) {
+            return new PageSnapshot<>(page.getContent(), page.getTotalElements());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.ipaas.taskmanagement.cache;
+
+import com.ipaas.taskmanagement.form.TaskFilterForm;
+import com.ipaas.taskmanagement.search.TitleNormalizer;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keys and invalidation tags for cached responses.
+ * <p>
+ * Task responses are tagged with the task, task lists with the filtered user's lists or,
+ * when not filtered by user, with the shared list tag. A task write invalidates its task,
+ * its user's lists and the shared list tag.
+ */
+public final class ResponseCacheKeys {
+
+    private static final String ANY = "*";
+    private static final String TASK_LISTS_TAG = "tasks";
+
+    private ResponseCacheKeys() {
+    }
+
+    public static String task(UUID id) {
+        return "task:" + id;
+    }
+
+    public static String user(UUID id) {
+        return "user:" + id;
+    }
+
+    /**
+     * Builds the key for a task list from the normalized filters and the page. The title
+     * is last so no value can shift the other fields.
+     */
+    public static String taskList(TaskFilterForm filters, Pageable pageable) {
+        String status = filters.getStatus() != null ? filters.getStatus().name() : ANY;
+        String userId = filters.getUserId() != null ? filters.getUserId().toString() : ANY;
+        String title = filters.getTitle() != null && !filters.getTitle().isBlank()
+                ? TitleNormalizer.normalize(filters.getTitle().trim())
+                : ANY;
+        return "tasks:" + status + "|" + userId + "|" + pageable.getPageNumber() + "|" + pageable.getPageSize()
+                + "|" + pageable.getSort() + "|" + title;
+    }
+
+    public static List<String> taskTags(UUID taskId) {
+        return List.of(taskTag(taskId));
+    }
+
+    public static List<String> userTags(UUID userId) {
+        return List.of("user:" + userId);
+    }
+
+    public static List<String> taskListTags(TaskFilterForm filters) {
+        return filters.getUserId() != null ? List.of(userTasksTag(filters.getUserId())) : List.of(TASK_LISTS_TAG);
+    }
+
+    /**
+     * Tags to invalidate after a task, or one of its subtasks, is written.
+     */
+    public static List<String> taskWriteTags(UUID taskId, UUID userId) {
+        return List.of(taskTag(taskId), userTasksTag(userId), TASK_LISTS_TAG);
+    }
+
+    private static String taskTag(UUID taskId) {
+        return "task:" + taskId;
+    }
+
+    private static String userTasksTag(UUID userId) {
+        return "user-tasks:" + userId;
+    }
+}
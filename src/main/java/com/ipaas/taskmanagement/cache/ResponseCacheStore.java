@@ -0,0 +1,18 @@
+package com.ipaas.taskmanagement.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Key-value store behind {@link ResponseCache}. Values are serialized responses;
+ * tags group keys so a write can invalidate every response it affects.
+ */
+public interface ResponseCacheStore {
+
+    Optional<String> get(String key);
+
+    void put(String key, String value, Duration ttl, Collection<String> tags);
+
+    void invalidateTags(Collection<String> tags);
+}
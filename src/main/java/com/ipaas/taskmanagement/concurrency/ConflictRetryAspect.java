@@ -0,0 +1,108 @@
+package com.ipaas.taskmanagement.concurrency;
+
+import com.ipaas.taskmanagement.exception.ConcurrentUpdateException;
+import com.ipaas.taskmanagement.metrics.RequestMetricsContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Runs {@link RetryOnConflict} methods again when they fail with a
+ * {@link ConcurrencyFailureException}: a stale {@code @Version}, a lost version bump or a
+ * lock the database gave up on. It is ordered before the transaction advice, so every attempt
+ * runs and commits in its own transaction and re-reads what it checks. Calls made inside an
+ * existing transaction are not retried; the outermost transactional caller owns the retry.
+ * <p>
+ * Attempts are spaced by exponential backoff with full jitter, so writers that collided do not
+ * collide again in lockstep. Once the attempts are used up the call fails with
+ * {@link ConcurrentUpdateException} (409). Every conflict is counted as
+ * {@code app.concurrency.conflicts} and every retry as {@code app.concurrency.retries}, tagged
+ * with the service, method and endpoint.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+@Slf4j
+public class ConflictRetryAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.concurrency.retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.concurrency.retry.initial-backoff:PT0.01S}")
+    private Duration initialBackoff;
+
+    @Value("${app.concurrency.retry.max-backoff:PT0.2S}")
+    private Duration maxBackoff;
+
+    @Around("@annotation(com.ipaas.taskmanagement.concurrency.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        String endpoint = RequestMetricsContext.currentEndpoint();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (ConcurrencyFailureException e) {
+                counter("app.concurrency.conflicts", service, method, endpoint).increment();
+                if (attempt >= maxAttempts) {
+                    log.warn("{}.{} still conflicting after {} attempts", service, method, attempt);
+                    throw new ConcurrentUpdateException(
+                            "The resource was modified concurrently, please retry the request", e);
+                }
+                log.debug("{}.{} conflicted on attempt {}: {}", service, method, attempt, e.getMessage());
+                counter("app.concurrency.retries", service, method, endpoint).increment();
+                sleep(backoff(attempt));
+            }
+        }
+    }
+
+    /**
+     * Random delay between zero and the exponential backoff for the attempt that just failed.
+     */
+    long backoff(int attempt) {
+        long ceiling = initialBackoff.toMillis() << Math.min(attempt - 1, 20);
+        long bound = Math.min(ceiling, maxBackoff.toMillis());
+        return bound <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bound + 1);
+    }
+
+    private Counter counter(String name, String service, String method, String endpoint) {
+        return Counter.builder(name)
+                .tag("service", service)
+                .tag("method", method)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off", e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.ipaas.taskmanagement.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Retries a transactional service method, in a new transaction each time, when it loses an
+ * optimistic locking race. Attempts and backoff are configured under
+ * {@code app.concurrency.retry}; see {@link ConflictRetryAspect}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RetryOnConflict {
+}
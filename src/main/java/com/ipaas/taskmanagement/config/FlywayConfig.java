@@ -0,0 +1,24 @@
+package com.ipaas.taskmanagement.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+/**
+ * Flyway settings that Spring Boot 3.1 has no properties for.
+ */
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * On PostgreSQL Flyway takes its advisory lock inside a transaction by default. The
+     * {@code CREATE INDEX CONCURRENTLY} migrations wait for every older transaction, that one
+     * included, so they would never finish. A session-level lock holds no transaction open.
+     */
+    @Bean
+    public FlywayConfigurationCustomizer postgresNonTransactionalLock() {
+        return configuration -> configuration.configuration(Map.of("flyway.postgresql.transactional.lock", "false"));
+    }
+}
@@ -0,0 +1,39 @@
+package com.ipaas.taskmanagement.config;
+
+import com.ipaas.taskmanagement.metrics.EntityLoadCountingListener;
+import com.ipaas.taskmanagement.metrics.RequestMetricsInterceptor;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Wires the per-request statement and entity counters: the interceptor that opens and records
+ * the request context, and the Hibernate listener that counts loaded entities. Statements are
+ * counted by the statement inspector configured in {@code hibernate.session_factory.statement_inspector}.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final RequestMetricsInterceptor requestMetricsInterceptor;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void registerEntityLoadListener() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, new EntityLoadCountingListener());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestMetricsInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,107 @@
+package com.ipaas.taskmanagement.config;
+
+import com.ipaas.taskmanagement.replica.ConsistencyTokenInterceptor;
+import com.ipaas.taskmanagement.replica.ConsistencyTokens;
+import com.ipaas.taskmanagement.replica.ReplicaRouter;
+import com.ipaas.taskmanagement.replica.ReplicaRoutingDataSource;
+import com.ipaas.taskmanagement.replica.ReplicationPositions;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Opt-in read replicas. Enabled with {@code app.datasource.replicas.enabled=true}; the primary
+ * is configured by {@code spring.datasource} and the replicas by
+ * {@code app.datasource.replicas.urls}, all with the {@code spring.datasource.hikari} pool settings.
+ * <p>
+ * The application data source routes read-only transactions to the replicas through a
+ * {@link ReplicaRouter} and everything else to the primary. Writes return a consistency
+ * token that clients send back to read their writes; see {@link ConsistencyTokens}.
+ * The reactive API keeps reading from its own R2DBC connection.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+@Slf4j
+public class ReadReplicaConfig implements WebMvcConfigurer {
+
+    @Bean
+    public ReplicaRouter replicaRouter(DataSourceProperties properties,
+                                       Environment environment,
+                                       ReplicationPositions positions,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${app.datasource.replicas.urls:}") List<String> urls,
+                                       @Value("${app.datasource.replicas.username:${spring.datasource.username:}}") String username,
+                                       @Value("${app.datasource.replicas.password:${spring.datasource.password:}}") String password,
+                                       @Value("${app.datasource.replicas.max-lag:PT10S}") Duration maxLag) {
+        HikariDataSource primary = pool("primary", properties.determineUrl(), properties.determineUsername(),
+                properties.determinePassword(), properties, environment, meterRegistry);
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            replicas.add(pool("replica-" + replicas.size(), url.trim(), username, password,
+                    properties, environment, meterRegistry));
+        }
+        if (replicas.isEmpty()) {
+            log.warn("Read replicas are enabled but app.datasource.replicas.urls is empty; all reads go to the primary");
+        } else {
+            log.info("Routing read-only transactions to {} replicas", replicas.size());
+        }
+
+        ReplicaRouter router = new ReplicaRouter(primary, replicas, positions, maxLag, meterRegistry);
+        router.checkReplicas();
+        return router;
+    }
+
+    /**
+     * The application data source. The lazy proxy defers fetching a connection until the
+     * first statement, when the read-only flag of the transaction is known.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRouter router, ReplicationPositions positions) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        ReplicaRoutingDataSource routingDataSource =
+                new ReplicaRoutingDataSource(router, new ConsistencyTokens(dataSource, positions));
+        routingDataSource.afterPropertiesSet();
+        dataSource.setTargetDataSource(routingDataSource);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConsistencyTokenInterceptor()).addPathPatterns("/api/**");
+    }
+
+    private static HikariDataSource pool(String name, String url, String username, String password,
+                                         DataSourceProperties properties, Environment environment,
+                                         MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        // Spring Boot only instruments data source beans; the pools behind the router are not
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
@@ -0,0 +1,87 @@
+package com.ipaas.taskmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Opt-in mode that runs request handling, async MVC work (such as streamed exports) and
+ * therefore the blocking service and JPA calls on virtual threads instead of platform thread pools.
+ * Enabled with {@code app.threads.virtual.enabled=true}; requires Java 21.
+ * <p>
+ * The data source is wrapped in a {@link ConnectionLimitingDataSource} with as many permits
+ * as the Hikari pool has connections, so excess requests wait as parked virtual threads. With
+ * read replicas that is the primary pool, which connections resolve to outside a transaction.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadConfig {
+
+    // Hikari's default maximum pool size
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    /**
+     * Replaces Tomcat's request worker pool with a virtual thread per request.
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        log.info("Handling requests on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Used by Spring MVC for async request processing and by {@code @Async} methods.
+     */
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${app.threads.virtual.connection-permits:0}") int configuredPermits,
+            @Value("${app.threads.virtual.permit-timeout:PT30S}") Duration permitTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource) {
+                    return bean;
+                }
+                int permits = configuredPermits > 0 ? configuredPermits : poolSize(dataSource);
+                log.info("Limiting concurrent database connection holders to {}", permits);
+                return new ConnectionLimitingDataSource(dataSource, permits, permitTimeout);
+            }
+        };
+    }
+
+    /**
+     * Maximum size of the Hikari pool behind the data source, unwrapping proxies and routing
+     * data sources, or Hikari's default when there is none.
+     */
+    static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.debug("Could not unwrap the connection pool: {}", e.getMessage());
+        }
+        log.warn("No Hikari pool found behind {}; sizing connection permits to {}, set "
+                + "app.threads.virtual.connection-permits to match the pool", dataSource, DEFAULT_POOL_SIZE);
+        return DEFAULT_POOL_SIZE;
+    }
+}
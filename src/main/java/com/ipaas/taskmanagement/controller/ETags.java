@@ -0,0 +1,60 @@
+package com.ipaas.taskmanagement.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Strong ETags derived from row versions. A conditional GET is answered from a version-only
+ * lookup, so polling an unchanged resource costs one primary-key read and no serialization.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * ETag of a task, or of its subtask list, with subtask status updates buffered on this node
+     * (see {@link com.ipaas.taskmanagement.service.TaskService#findPendingSubtaskSequence}).
+     * Without pending updates it is the plain version ETag.
+     */
+    static String of(long version, long pendingSequence) {
+        return pendingSequence == 0 ? of(version) : "\"" + version + "." + pendingSequence + "\"";
+    }
+
+    /**
+     * Returns a 304 response when {@code If-None-Match} matches the current ETag. The ETag
+     * is only looked up when the header is present; when the row does not exist the request
+     * falls through to the handler, which reports the 404.
+     */
+    static <T> Optional<ResponseEntity<T>> notModified(String ifNoneMatch, Supplier<Optional<String>> currentETag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return Optional.empty();
+        }
+        return currentETag.get()
+                .filter(etag -> matches(ifNoneMatch, etag))
+                .map(etag -> ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build());
+    }
+
+    /**
+     * Weak comparison, as required for {@code If-None-Match}: a {@code W/} prefix is ignored.
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,68 @@
+package com.ipaas.taskmanagement.controller;
+
+import com.ipaas.taskmanagement.dto.ImportResultDTO;
+import com.ipaas.taskmanagement.importer.ImportEntity;
+import com.ipaas.taskmanagement.importer.ImportFormat;
+import com.ipaas.taskmanagement.service.ImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * REST Controller for bulk imports. The request body is the CSV (with a header row) or
+ * NDJSON file itself and is streamed, not buffered.
+ */
+@RestController
+@RequestMapping("/api/import")
+@RequiredArgsConstructor
+@Tag(name = "Import", description = "Bulk import of users, tasks and subtasks")
+public class ImportController {
+
+    private final ImportService importService;
+
+    @Operation(summary = "Import users", description = "Imports users (name, email, optional id and createdAt)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished; rejected rows are listed in the error file")
+    })
+    @PostMapping("/users")
+    public ResponseEntity<ImportResultDTO> importUsers(
+            @Parameter(description = "Input format") @RequestParam(defaultValue = "CSV") ImportFormat format,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(importService.importRecords(ImportEntity.USERS, format, request.getInputStream()));
+    }
+
+    @Operation(summary = "Import tasks", description = "Imports tasks (title, userId, optional id, description, "
+            + "status, createdAt and completedAt) for existing users")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished; rejected rows are listed in the error file")
+    })
+    @PostMapping("/tasks")
+    public ResponseEntity<ImportResultDTO> importTasks(
+            @Parameter(description = "Input format") @RequestParam(defaultValue = "CSV") ImportFormat format,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(importService.importRecords(ImportEntity.TASKS, format, request.getInputStream()));
+    }
+
+    @Operation(summary = "Import subtasks", description = "Imports subtasks (title, taskId, optional id, description, "
+            + "status, createdAt and completedAt) for existing tasks")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished; rejected rows are listed in the error file")
+    })
+    @PostMapping("/subtasks")
+    public ResponseEntity<ImportResultDTO> importSubtasks(
+            @Parameter(description = "Input format") @RequestParam(defaultValue = "CSV") ImportFormat format,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(importService.importRecords(ImportEntity.SUBTASKS, format, request.getInputStream()));
+    }
+}
@@ -0,0 +1,93 @@
+package com.ipaas.taskmanagement.controller;
+
+import com.ipaas.taskmanagement.dto.SubtaskDTO;
+import com.ipaas.taskmanagement.dto.TaskDTO;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.form.TaskFilterForm;
+import com.ipaas.taskmanagement.service.ReactiveTaskService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking read API for tasks and subtasks, backed by R2DBC. Handlers return
+ * {@link Mono}/{@link Flux}, so no request thread is held while the database works,
+ * and streamed results are written as the client consumes them.
+ */
+@RestController
+@RequestMapping("/api/reactive/tasks")
+@RequiredArgsConstructor
+@Tag(name = "Reactive Tasks", description = "Non-blocking read operations for tasks and subtasks")
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService reactiveTaskService;
+
+    @Operation(summary = "List tasks", description = "Lists tasks with optional filters and pagination, with the same results as GET /api/tasks")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tasks page returned successfully")
+    })
+    @GetMapping
+    public Mono<Page<TaskDTO>> listTasks(
+            @Parameter(description = "Filter by task status") @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Filter by user ID") @RequestParam(required = false) UUID userId,
+            @Parameter(description = "Filter by title") @RequestParam(required = false) String title,
+            @Parameter(description = "Pagination information") @PageableDefault(size = 20, sort = "createdAt") Pageable pageable) {
+
+        return reactiveTaskService.findTasks(filters(status, userId, title), pageable);
+    }
+
+    @Operation(summary = "Stream tasks", description = "Streams every task matching the filters as newline-delimited JSON")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tasks streamed successfully")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskDTO> streamTasks(
+            @Parameter(description = "Filter by task status") @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Filter by user ID") @RequestParam(required = false) UUID userId,
+            @Parameter(description = "Filter by title") @RequestParam(required = false) String title) {
+
+        return reactiveTaskService.streamTasks(filters(status, userId, title));
+    }
+
+    @Operation(summary = "Find task by ID", description = "Finds a specific task by their ID")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Task found"),
+        @ApiResponse(responseCode = "404", description = "Task not found")
+    })
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<TaskDTO>> findTaskById(@PathVariable UUID id) {
+        return reactiveTaskService.findById(id)
+                .map(task -> ResponseEntity.ok().eTag(ETags.of(task.getVersion())).body(task));
+    }
+
+    @Operation(summary = "List subtasks of a task", description = "Lists all subtasks of a specific task")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Subtasks returned successfully"),
+        @ApiResponse(responseCode = "404", description = "Task not found")
+    })
+    @GetMapping("/{taskId}/subtasks")
+    public Flux<SubtaskDTO> findSubtasksByTaskId(@PathVariable UUID taskId) {
+        return reactiveTaskService.findSubtasksByTaskId(taskId);
+    }
+
+    private TaskFilterForm filters(TaskStatus status, UUID userId, String title) {
+        TaskFilterForm filters = new TaskFilterForm();
+        filters.setStatus(status);
+        filters.setUserId(userId);
+        filters.setTitle(title);
+        return filters;
+    }
+}
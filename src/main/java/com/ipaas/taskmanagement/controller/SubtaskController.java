@@ -1,10 +1,12 @@
 package com.ipaas.taskmanagement.controller;
 
+import com.ipaas.taskmanagement.dto.CursorPageDTO;
 import com.ipaas.taskmanagement.dto.SubtaskDTO;
 import com.ipaas.taskmanagement.entity.TaskStatus;
 import com.ipaas.taskmanagement.form.CreateSubtaskForm;
 import com.ipaas.taskmanagement.form.UpdateTaskStatusForm;
 import com.ipaas.taskmanagement.service.SubtaskService;
+import com.ipaas.taskmanagement.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,11 +17,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -32,23 +36,37 @@ import java.util.UUID;
 public class SubtaskController {
 
     private final SubtaskService subtaskService;
+    private final TaskService taskService;
 
-    @Operation(summary = "List subtasks", description = "Lists subtasks of a task")
+    @Operation(summary = "List subtasks", description = "Lists subtasks of a task. The ETag is the version of the task, which every subtask write bumps, combined with any status updates buffered for its subtasks")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Subtasks returned successfully"),
+        @ApiResponse(responseCode = "304", description = "Subtasks unchanged since the given ETag"),
         @ApiResponse(responseCode = "404", description = "Task not found")
     })
     @GetMapping("/tasks/{taskId}/subtasks")
-    public ResponseEntity<List<SubtaskDTO>> listSubtasks(@PathVariable UUID taskId) {
+    public ResponseEntity<List<SubtaskDTO>> listSubtasks(
+            @PathVariable UUID taskId,
+            @Parameter(description = "ETag of a previously returned list") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        long pending = taskService.findPendingSubtaskSequence(taskId);
+        Optional<ResponseEntity<List<SubtaskDTO>>> notModified = ETags.notModified(ifNoneMatch,
+                () -> taskService.findVersion(taskId).map(version -> ETags.of(version, pending)));
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
+        // Read the version before the list, so the ETag never claims newer data than the body
+        long version = taskService.getVersion(taskId);
         List<SubtaskDTO> subtasks = subtaskService.findByTaskId(taskId);
-        return ResponseEntity.ok(subtasks);
+        return ResponseEntity.ok().eTag(ETags.of(version, pending)).body(subtasks);
     }
 
     @Operation(summary = "Create subtask", description = "Creates a new subtask for a task")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Subtask created successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid data"),
-        @ApiResponse(responseCode = "404", description = "Task not found")
+        @ApiResponse(responseCode = "404", description = "Task not found"),
+        @ApiResponse(responseCode = "409", description = "Task kept changing concurrently")
     })
     @PostMapping("/tasks/{taskId}/subtasks")
     public ResponseEntity<SubtaskDTO> createSubtask(
@@ -85,13 +103,15 @@ public class SubtaskController {
     @Operation(summary = "Update subtask status", description = "Updates the status of a subtask")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Subtask status updated successfully"),
-        @ApiResponse(responseCode = "404", description = "Subtask not found")
+        @ApiResponse(responseCode = "404", description = "Subtask not found"),
+        @ApiResponse(responseCode = "409", description = "Subtask or task kept changing concurrently")
     })
     @PatchMapping("/subtasks/{id}/status")
     public ResponseEntity<SubtaskDTO> updateSubtaskStatus(
             @PathVariable UUID id,
             @Valid @RequestBody UpdateTaskStatusForm form) {
-        SubtaskDTO subtask = subtaskService.updateStatus(id, form);
+        SubtaskDTO subtask = subtaskService.bufferStatus(id, form)
+                .orElseGet(() -> subtaskService.updateStatus(id, form));
         return ResponseEntity.ok(subtask);
     }
 
@@ -109,4 +129,21 @@ public class SubtaskController {
         Page<SubtaskDTO> subtasks = subtaskService.findSubtasks(taskId, status, title, pageable);
         return ResponseEntity.ok(subtasks);
     }
+
+    @Operation(summary = "Scroll subtasks", description = "Search subtasks with filters using cursor pagination, without a total count")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Subtasks slice returned successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/subtasks/search/scroll")
+    public ResponseEntity<CursorPageDTO<SubtaskDTO>> scrollSubtasks(
+            @Parameter(description = "Filter by task ID") @RequestParam(required = false) UUID taskId,
+            @Parameter(description = "Filter by status") @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Filter by title") @RequestParam(required = false) String title,
+            @Parameter(description = "Cursor returned as nextCursor by the previous slice") @RequestParam(required = false) String after,
+            @Parameter(description = "Slice size (max 100)") @RequestParam(defaultValue = "20") int size) {
+
+        CursorPageDTO<SubtaskDTO> subtasks = subtaskService.scrollSubtasks(taskId, status, title, after, size);
+        return ResponseEntity.ok(subtasks);
+    }
 }
@@ -1,10 +1,18 @@
 package com.ipaas.taskmanagement.controller;
 
+import com.ipaas.taskmanagement.cache.ResponseCache;
+import com.ipaas.taskmanagement.cache.ResponseCacheKeys;
+import com.ipaas.taskmanagement.dto.CursorPageDTO;
 import com.ipaas.taskmanagement.dto.TaskDTO;
+import com.ipaas.taskmanagement.dto.TaskStatusUpdateResultDTO;
 import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.events.TaskEventBroker;
+import com.ipaas.taskmanagement.export.ExportFormat;
+import com.ipaas.taskmanagement.form.BulkUpdateTaskStatusForm;
 import com.ipaas.taskmanagement.form.CreateTaskForm;
 import com.ipaas.taskmanagement.form.TaskFilterForm;
 import com.ipaas.taskmanagement.form.UpdateTaskStatusForm;
+import com.ipaas.taskmanagement.replica.ConsistencyContext;
 import com.ipaas.taskmanagement.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,10 +24,17 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -32,6 +47,8 @@ import java.util.UUID;
 public class TaskController {
 
     private final TaskService taskService;
+    private final ResponseCache responseCache;
+    private final TaskEventBroker taskEventBroker;
 
     @Operation(summary = "List tasks", description = "Lists tasks with optional filters and pagination")
     @ApiResponses(value = {
@@ -49,11 +66,69 @@ public class TaskController {
         filters.setUserId(userId);
         filters.setTitle(title);
         
-        Page<TaskDTO> tasks = taskService.findTasks(filters, pageable);
+        Page<TaskDTO> tasks = responseCache.getPage(ResponseCacheKeys.taskList(filters, pageable), TaskDTO.class,
+                pageable, ResponseCacheKeys.taskListTags(filters), () -> taskService.findTasks(filters, pageable));
         return ResponseEntity.ok(tasks);
     }
 
-    @Operation(summary = "Create task", description = "Creates a new task for a user")
+    @Operation(summary = "Scroll tasks", description = "Lists tasks with optional filters using cursor pagination, without a total count")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tasks slice returned successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageDTO<TaskDTO>> scrollTasks(
+            @Parameter(description = "Filter by task status") @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Filter by user ID") @RequestParam(required = false) UUID userId,
+            @Parameter(description = "Filter by title") @RequestParam(required = false) String title,
+            @Parameter(description = "Cursor returned as nextCursor by the previous slice") @RequestParam(required = false) String after,
+            @Parameter(description = "Slice size (max 100)") @RequestParam(defaultValue = "20") int size) {
+
+        TaskFilterForm filters = new TaskFilterForm();
+        filters.setStatus(status);
+        filters.setUserId(userId);
+        filters.setTitle(title);
+
+        CursorPageDTO<TaskDTO> tasks = taskService.scrollTasks(filters, after, size);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @Operation(summary = "Export tasks", description = "Streams every task matching the filters as NDJSON or CSV, with subtask counts")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed successfully")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = "Filter by task status") @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Filter by user ID") @RequestParam(required = false) UUID userId,
+            @Parameter(description = "Filter by title") @RequestParam(required = false) String title,
+            @Parameter(description = "Export format") @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+
+        TaskFilterForm filters = new TaskFilterForm();
+        filters.setStatus(status);
+        filters.setUserId(userId);
+        filters.setTitle(title);
+
+        // The body is written on an async thread, which must read what the request's token requires
+        long requiredPosition = ConsistencyContext.requiredPosition();
+        StreamingResponseBody body = outputStream -> {
+            ConsistencyContext.begin(requiredPosition);
+            try {
+                taskService.exportTasks(filters, format, outputStream);
+            } finally {
+                ConsistencyContext.end();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @Operation(summary = "Create task", description = "Creates a new task for a user, optionally with its subtasks")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Task created successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid data"),
@@ -65,22 +140,51 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(task);
     }
 
-    @Operation(summary = "Find task by ID", description = "Finds a specific task by their ID")
+    @Operation(summary = "Stream task changes", description = "Pushes task and subtask creation and status changes as Server-Sent Events. "
+            + "Reconnect with Last-Event-ID to receive the events missed in between")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Event stream opened")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamTaskEvents(
+            @Parameter(description = "Only changes to tasks of this user") @RequestParam(required = false) UUID userId,
+            @Parameter(description = "Only changes to this task and its subtasks") @RequestParam(required = false) UUID taskId,
+            @Parameter(description = "ID of the last event received") @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        SseEmitter emitter = taskEventBroker.subscribe(userId, taskId, lastEventId);
+        // Stop nginx from buffering the stream
+        return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+    }
+
+    @Operation(summary = "Find task by ID", description = "Finds a specific task by their ID. Supports conditional requests with If-None-Match")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Task found"),
+        @ApiResponse(responseCode = "304", description = "Task unchanged since the given ETag"),
         @ApiResponse(responseCode = "404", description = "Task not found")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<TaskDTO> findTaskById(@PathVariable UUID id) {
-        TaskDTO task = taskService.findById(id);
-        return ResponseEntity.ok(task);
+    public ResponseEntity<TaskDTO> findTaskById(
+            @PathVariable UUID id,
+            @Parameter(description = "ETag of a previously returned task") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        long pending = taskService.findPendingSubtaskSequence(id);
+        Optional<ResponseEntity<TaskDTO>> notModified = ETags.notModified(ifNoneMatch,
+                () -> taskService.findVersion(id).map(version -> ETags.of(version, pending)));
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
+        // Buffered subtask updates are only visible on this node, so such reads bypass the shared cache
+        TaskDTO task = pending != 0 ? taskService.findById(id)
+                : responseCache.get(ResponseCacheKeys.task(id), TaskDTO.class, ResponseCacheKeys.taskTags(id),
+                        () -> taskService.findById(id));
+        return ResponseEntity.ok().eTag(ETags.of(task.getVersion(), pending)).body(task);
     }
 
     @Operation(summary = "Update task status", description = "Updates the status of a task")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Task status updated successfully"),
         @ApiResponse(responseCode = "400", description = "Business rule violation"),
-        @ApiResponse(responseCode = "404", description = "Task not found")
+        @ApiResponse(responseCode = "404", description = "Task not found"),
+        @ApiResponse(responseCode = "409", description = "Task kept changing concurrently")
     })
     @PatchMapping("/{id}/status")
     public ResponseEntity<TaskDTO> updateTaskStatus(
@@ -89,4 +193,16 @@ public class TaskController {
         TaskDTO task = taskService.updateStatus(id, form);
         return ResponseEntity.ok(task);
     }
+
+    @Operation(summary = "Bulk update task status", description = "Moves several tasks to the same status and reports the outcome per task")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Outcome returned for every requested task"),
+        @ApiResponse(responseCode = "400", description = "Invalid data")
+    })
+    @PatchMapping("/status")
+    public ResponseEntity<List<TaskStatusUpdateResultDTO>> bulkUpdateTaskStatus(
+            @Valid @RequestBody BulkUpdateTaskStatusForm form) {
+        List<TaskStatusUpdateResultDTO> results = taskService.bulkUpdateStatus(form);
+        return ResponseEntity.ok(results);
+    }
 }
@@ -1,18 +1,23 @@
 package com.ipaas.taskmanagement.controller;
 
+import com.ipaas.taskmanagement.cache.ResponseCache;
+import com.ipaas.taskmanagement.cache.ResponseCacheKeys;
 import com.ipaas.taskmanagement.dto.UserDTO;
 import com.ipaas.taskmanagement.form.CreateUserForm;
 import com.ipaas.taskmanagement.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -25,6 +30,7 @@ import java.util.UUID;
 public class UserController {
 
     private final UserService userService;
+    private final ResponseCache responseCache;
 
     @Operation(summary = "Create user", description = "Creates a new user")
     @ApiResponses(value = {
@@ -38,15 +44,24 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(user);
     }
 
-    @Operation(summary = "Find user by ID", description = "Finds a specific user by their ID")
+    @Operation(summary = "Find user by ID", description = "Finds a specific user by their ID. Supports conditional requests with If-None-Match")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "User found"),
+        @ApiResponse(responseCode = "304", description = "User unchanged since the given ETag"),
         @ApiResponse(responseCode = "404", description = "User not found")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<UserDTO> findUserById(@PathVariable UUID id) {
-        UserDTO user = userService.findById(id);
-        return ResponseEntity.ok(user);
+    public ResponseEntity<UserDTO> findUserById(
+            @PathVariable UUID id,
+            @Parameter(description = "ETag of a previously returned user") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Optional<ResponseEntity<UserDTO>> notModified = ETags.notModified(ifNoneMatch, () -> userService.findVersion(id).map(ETags::of));
+        if (notModified.isPresent()) {
+            return notModified.get();
+        }
+
+        UserDTO user = responseCache.get(ResponseCacheKeys.user(id), UserDTO.class, ResponseCacheKeys.userTags(id),
+                () -> userService.findById(id));
+        return ResponseEntity.ok().eTag(ETags.of(user.getVersion())).body(user);
     }
 
     @Operation(summary = "Find user by email", description = "Finds a specific user by their email")
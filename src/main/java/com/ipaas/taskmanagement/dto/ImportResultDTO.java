@@ -0,0 +1,27 @@
+package com.ipaas.taskmanagement.dto;
+
+import com.ipaas.taskmanagement.importer.ImportEntity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Summary of a bulk import.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResultDTO {
+
+    private ImportEntity entity;
+    private long totalRows;
+    private long importedRows;
+    private long rejectedRows;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+
+    /**
+     * NDJSON file listing each rejected record with its line and reason; null when nothing was rejected.
+     */
+    private String errorFile;
+}
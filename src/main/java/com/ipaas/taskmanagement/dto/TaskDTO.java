@@ -1,5 +1,6 @@
 package com.ipaas.taskmanagement.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.ipaas.taskmanagement.entity.TaskStatus;
 import lombok.Data;
 
@@ -22,4 +23,10 @@ public class TaskDTO {
     private String userName;
     private int totalSubtasks;
     private int completedSubtasks;
+
+    /**
+     * Row version, the value of the ETag. Only present on single-task responses.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long version;
 }
@@ -0,0 +1,25 @@
+package com.ipaas.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Outcome of a bulk status update for a single task.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusUpdateResultDTO {
+
+    private UUID taskId;
+    private Outcome outcome;
+
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        REJECTED_PENDING_SUBTASKS
+    }
+}
@@ -15,4 +15,9 @@ public class UserDTO {
     private String name;
     private String email;
     private LocalDateTime createdAt;
+
+    /**
+     * Row version, the value of the ETag.
+     */
+    private Long version;
 }
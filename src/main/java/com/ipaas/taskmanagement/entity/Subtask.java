@@ -1,25 +1,38 @@
 package com.ipaas.taskmanagement.entity;
 
+import com.ipaas.taskmanagement.id.TimeOrderedUuid;
+import com.ipaas.taskmanagement.search.TitleNormalizer;
 import jakarta.persistence.*;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
 @Table(name = "subtasks")
-@Data
+@Getter
+@Setter
 @NoArgsConstructor
 public class Subtask {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @Column(nullable = false, length = 200)
     private String title;
 
+    @Column(name = "normalized_title", length = 200)
+    private String normalizedTitle;
+
     @Column(length = 1000)
     private String description;
 
@@ -41,5 +54,11 @@ public class Subtask {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         status = TaskStatus.PENDING;
+        normalizedTitle = TitleNormalizer.normalize(title);
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        normalizedTitle = TitleNormalizer.normalize(title);
     }
 }
@@ -1,8 +1,12 @@
 package com.ipaas.taskmanagement.entity;
 
+import com.ipaas.taskmanagement.id.TimeOrderedUuid;
+import com.ipaas.taskmanagement.search.TitleNormalizer;
 import jakarta.persistence.*;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -10,17 +14,30 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "tasks")
-@Data
+@Getter
+@Setter
 @NoArgsConstructor
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
+    /**
+     * Row version for optimistic locking and ETags. Subtask writes bump it as well, since
+     * subtask counts are part of the task representation.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @Column(nullable = false, length = 200)
     private String title;
 
+    @Column(name = "normalized_title", length = 200)
+    private String normalizedTitle;
+
     @Column(length = 1000)
     private String description;
 
@@ -45,5 +62,11 @@ public class Task {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         status = TaskStatus.PENDING;
+        normalizedTitle = TitleNormalizer.normalize(title);
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        normalizedTitle = TitleNormalizer.normalize(title);
     }
 }
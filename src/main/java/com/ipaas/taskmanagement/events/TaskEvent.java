@@ -0,0 +1,31 @@
+package com.ipaas.taskmanagement.events;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A committed change to a task or one of its subtasks.
+ *
+ * @param id         position in the event sequence of this node, sent as the SSE event ID
+ * @param type       what changed
+ * @param taskId     the task, or the parent task of the subtask
+ * @param subtaskId  the subtask; null for task events
+ * @param userId     owner of the task
+ * @param status     status of the task or subtask after the change
+ * @param occurredAt when the change was made
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskEvent(long id, TaskEventType type, UUID taskId, UUID subtaskId, UUID userId, TaskStatus status,
+                        LocalDateTime occurredAt) {
+
+    /**
+     * Whether the event passes the stream filters; a null filter matches everything.
+     */
+    public boolean matches(UUID userIdFilter, UUID taskIdFilter) {
+        return (userIdFilter == null || userIdFilter.equals(userId))
+                && (taskIdFilter == null || taskIdFilter.equals(taskId));
+    }
+}
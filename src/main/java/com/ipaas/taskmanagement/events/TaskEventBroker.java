@@ -0,0 +1,151 @@
+package com.ipaas.taskmanagement.events;
+
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fans committed task events out to the open event streams of this node.
+ * <p>
+ * Every stream has a bounded buffer drained by its own virtual thread, so a slow client never
+ * holds up the writer that published the event. A stream whose buffer is full is closed
+ * (slow-consumer eviction, {@code app.events.evictions}); the client reconnects with
+ * {@code Last-Event-ID} and catches up from the replay buffer, which keeps the most recent
+ * events. A client whose last event is no longer there gets a {@code resync} event and should
+ * reload what it shows.
+ * <p>
+ * Event IDs start from the boot time in microseconds, so IDs handed out before a restart are
+ * older than anything in the replay buffer and lead to a resync rather than silently missed
+ * events.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskEventBroker {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Set<TaskEventSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    // Guarded by this
+    private final Deque<TaskEvent> recent = new ArrayDeque<>();
+    private long sequence = System.currentTimeMillis() * 1000;
+
+    private Counter evictions;
+
+    @Value("${app.events.replay-size:1000}")
+    private int replaySize;
+
+    @Value("${app.events.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${app.events.heartbeat-interval:PT15S}")
+    private Duration heartbeatInterval;
+
+    @Value("${app.events.timeout:PT30M}")
+    private Duration timeout;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("app.events.subscribers", subscriptions, Set::size)
+                .description("Open task event streams")
+                .register(meterRegistry);
+        evictions = Counter.builder("app.events.evictions")
+                .description("Task event streams closed because the client fell behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream of the events matching the filters. When {@code lastEventId} is given,
+     * the matching events after it are replayed first.
+     */
+    public SseEmitter subscribe(UUID userId, UUID taskId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        TaskEventSubscription subscription =
+                new TaskEventSubscription(emitter, userId, taskId, bufferSize, heartbeatInterval, this::remove);
+
+        synchronized (this) {
+            if (lastEventId != null) {
+                List<TaskEvent> missed = eventsAfter(lastEventId);
+                if (missed == null || !subscription.replay(missed)) {
+                    subscription.resync();
+                }
+            }
+            subscriptions.add(subscription);
+        }
+        subscription.start();
+        log.debug("Task event stream opened. User ID: {}, task ID: {}, last event ID: {}", userId, taskId, lastEventId);
+        return emitter;
+    }
+
+    /**
+     * Records an event and queues it for every matching stream.
+     */
+    public synchronized void publish(TaskEventType type, UUID taskId, UUID subtaskId, UUID userId, TaskStatus status,
+                                     LocalDateTime occurredAt) {
+        TaskEvent event = new TaskEvent(++sequence, type, taskId, subtaskId, userId, status, occurredAt);
+        recent.addLast(event);
+        while (recent.size() > replaySize) {
+            recent.removeFirst();
+        }
+
+        for (TaskEventSubscription subscription : subscriptions) {
+            if (subscription.matches(event) && !subscription.offer(event)) {
+                log.info("Closing task event stream that fell {} events behind", bufferSize);
+                evictions.increment();
+                subscription.close();
+            }
+        }
+    }
+
+    @PreDestroy
+    void closeAll() {
+        subscriptions.forEach(TaskEventSubscription::close);
+    }
+
+    private void remove(TaskEventSubscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    /**
+     * Events after the given ID, or null when events after it may already have been dropped
+     * from the replay buffer or the ID was not issued by this process.
+     */
+    private List<TaskEvent> eventsAfter(String lastEventId) {
+        long after;
+        try {
+            after = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        long oldest = recent.isEmpty() ? sequence + 1 : recent.getFirst().id();
+        if (after < oldest - 1 || after > sequence) {
+            return null;
+        }
+        List<TaskEvent> missed = new ArrayList<>();
+        for (TaskEvent event : recent) {
+            if (event.id() > after) {
+                missed.add(event);
+            }
+        }
+        return missed;
+    }
+}
@@ -0,0 +1,60 @@
+package com.ipaas.taskmanagement.events;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.outbox.OutboxWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entry point for services to announce task and subtask changes. Each change is written to
+ * the outbox in the current transaction, for downstream systems, and handed to the
+ * {@link TaskEventBroker} once the transaction commits, so neither ever shows a change that
+ * was rolled back, including attempts discarded by a conflict retry.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskEventPublisher {
+
+    private final TaskEventBroker broker;
+    private final OutboxWriter outboxWriter;
+
+    public void taskChanged(TaskEventType type, UUID taskId, UUID userId, TaskStatus status) {
+        publish(type, taskId, null, userId, status);
+    }
+
+    public void subtaskChanged(TaskEventType type, UUID subtaskId, UUID taskId, UUID userId, TaskStatus status) {
+        publish(type, taskId, subtaskId, userId, status);
+    }
+
+    private void publish(TaskEventType type, UUID taskId, UUID subtaskId, UUID userId, TaskStatus status) {
+        LocalDateTime occurredAt = LocalDateTime.now();
+        outboxWriter.append(subtaskId == null ? "TASK" : "SUBTASK", subtaskId == null ? taskId : subtaskId,
+                type.name(), new Payload(type, taskId, subtaskId, userId, status, occurredAt));
+
+        Runnable action = () -> broker.publish(type, taskId, subtaskId, userId, status, occurredAt);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Outbox payload: the stream event without its stream position.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Payload(TaskEventType type, UUID taskId, UUID subtaskId, UUID userId, TaskStatus status,
+                   LocalDateTime occurredAt) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.ipaas.taskmanagement.events;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * One open event stream: a bounded buffer of pending events and the virtual thread that writes
+ * them to the client, sending a heartbeat comment whenever the stream has been idle for the
+ * heartbeat interval. Closing only signals the writer, so it never blocks the publisher on a
+ * slow client.
+ */
+@Slf4j
+class TaskEventSubscription {
+
+    static final String RESYNC_EVENT = "resync";
+
+    private final SseEmitter emitter;
+    private final UUID userId;
+    private final UUID taskId;
+    private final BlockingQueue<TaskEvent> buffer;
+    private final Duration heartbeatInterval;
+    private final Consumer<TaskEventSubscription> onClose;
+
+    private volatile boolean closed;
+    private volatile boolean resyncPending;
+    private volatile Thread writer;
+
+    TaskEventSubscription(SseEmitter emitter, UUID userId, UUID taskId, int bufferSize, Duration heartbeatInterval,
+                          Consumer<TaskEventSubscription> onClose) {
+        this.emitter = emitter;
+        this.userId = userId;
+        this.taskId = taskId;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.heartbeatInterval = heartbeatInterval;
+        this.onClose = onClose;
+
+        emitter.onCompletion(this::close);
+        emitter.onTimeout(this::close);
+        emitter.onError(e -> close());
+    }
+
+    boolean matches(TaskEvent event) {
+        return event.matches(userId, taskId);
+    }
+
+    /**
+     * Queues an event without blocking. Returns false when the buffer is full.
+     */
+    boolean offer(TaskEvent event) {
+        return closed || buffer.offer(event);
+    }
+
+    /**
+     * Queues the matching missed events. Returns false, queueing nothing, when they do not fit.
+     */
+    boolean replay(List<TaskEvent> missed) {
+        List<TaskEvent> matching = missed.stream().filter(this::matches).toList();
+        if (matching.size() > buffer.remainingCapacity()) {
+            return false;
+        }
+        buffer.addAll(matching);
+        return true;
+    }
+
+    /**
+     * Tells the client, before any queued event, that it missed events and must reload.
+     */
+    void resync() {
+        resyncPending = true;
+    }
+
+    void start() {
+        writer = Thread.ofVirtual().name("task-events").start(this::write);
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        buffer.clear();
+        onClose.accept(this);
+        Thread thread = writer;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void write() {
+        try {
+            if (resyncPending) {
+                emitter.send(SseEmitter.event().name(RESYNC_EVENT).data("{}", MediaType.APPLICATION_JSON));
+            }
+            while (!closed) {
+                TaskEvent event = buffer.poll(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (closed) {
+                    break;
+                }
+                if (event == null) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(event.id()))
+                            .name(event.type().name())
+                            .data(event, MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the emitter already completed
+            log.debug("Task event stream ended: {}", e.getMessage());
+        } finally {
+            close();
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.ipaas.taskmanagement.events;
+
+/**
+ * Kinds of changes pushed to task event streams. Also used as the SSE event name.
+ */
+public enum TaskEventType {
+    TASK_CREATED,
+    TASK_STATUS_CHANGED,
+    SUBTASK_CREATED,
+    SUBTASK_STATUS_CHANGED
+}
@@ -0,0 +1,15 @@
+package com.ipaas.taskmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a consistency token sent by a client cannot be decoded.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidConsistencyTokenException extends RuntimeException {
+
+    public InvalidConsistencyTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,129 @@
+package com.ipaas.taskmanagement.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ipaas.taskmanagement.projection.TaskExportRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes export rows one at a time to a buffered output, so memory does not grow with the result size.
+ */
+public abstract class TaskExportWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    protected final Writer writer;
+
+    protected TaskExportWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a writer for the given format.
+     */
+    public static TaskExportWriter create(ExportFormat format, OutputStream outputStream, ObjectMapper objectMapper) {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(outputStream, objectMapper);
+            case CSV -> new CsvWriter(outputStream);
+        };
+    }
+
+    public abstract void write(TaskExportRow row) throws IOException;
+
+    /**
+     * Flushes buffered rows. The underlying stream is left open for the caller.
+     */
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private static class NdjsonWriter extends TaskExportWriter {
+
+        private final ObjectWriter rowWriter;
+
+        NdjsonWriter(OutputStream outputStream, ObjectMapper objectMapper) {
+            super(outputStream);
+            this.rowWriter = objectMapper.writerFor(TaskExportRow.class);
+        }
+
+        @Override
+        public void write(TaskExportRow row) throws IOException {
+            writer.write(rowWriter.writeValueAsString(row));
+            writer.write('\n');
+        }
+    }
+
+    private static class CsvWriter extends TaskExportWriter {
+
+        private static final String HEADER = "id,title,description,status,createdAt,completedAt,"
+                + "userId,userName,totalSubtasks,completedSubtasks";
+
+        private boolean headerWritten;
+
+        CsvWriter(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(TaskExportRow row) throws IOException {
+            if (!headerWritten) {
+                writeHeader();
+            }
+            writer.write(String.valueOf(row.getId()));
+            writer.write(',');
+            writer.write(escape(row.getTitle()));
+            writer.write(',');
+            writer.write(escape(row.getDescription()));
+            writer.write(',');
+            writer.write(row.getStatus().name());
+            writer.write(',');
+            writer.write(String.valueOf(row.getCreatedAt()));
+            writer.write(',');
+            writer.write(row.getCompletedAt() != null ? row.getCompletedAt().toString() : "");
+            writer.write(',');
+            writer.write(String.valueOf(row.getUserId()));
+            writer.write(',');
+            writer.write(escape(row.getUserName()));
+            writer.write(',');
+            writer.write(Long.toString(row.getTotalSubtasks()));
+            writer.write(',');
+            writer.write(Long.toString(row.getCompletedSubtasks()));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void close() throws IOException {
+            // An empty export still gets its header
+            if (!headerWritten) {
+                writeHeader();
+            }
+            super.close();
+        }
+
+        private void writeHeader() throws IOException {
+            writer.write(HEADER);
+            writer.write("\r\n");
+            headerWritten = true;
+        }
+
+        /**
+         * Quotes a value per RFC 4180 when it contains a separator, quote or line break.
+         */
+        static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
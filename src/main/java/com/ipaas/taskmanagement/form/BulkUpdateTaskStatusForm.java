@@ -0,0 +1,24 @@
+package com.ipaas.taskmanagement.form;
+
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Form for moving several tasks to the same status.
+ */
+@Data
+public class BulkUpdateTaskStatusForm {
+
+    @NotEmpty(message = "Task IDs are required")
+    @Size(max = 1000, message = "At most 1000 tasks can be updated at once")
+    private List<@NotNull(message = "Task ID must not be null") UUID> taskIds;
+
+    @NotNull(message = "Status is required")
+    private TaskStatus status;
+}
@@ -1,10 +1,12 @@
 package com.ipaas.taskmanagement.form;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -22,4 +24,11 @@ public class CreateTaskForm {
 
     @NotNull(message = "User ID is required")
     private UUID userId;
+
+    /**
+     * Optional subtasks, created with the task in the same transaction.
+     */
+    @Valid
+    @Size(max = 100, message = "A task can be created with at most 100 subtasks")
+    private List<CreateSubtaskForm> subtasks;
 }
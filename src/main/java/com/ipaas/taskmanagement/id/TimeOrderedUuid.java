@@ -0,0 +1,19 @@
+package com.ipaas.taskmanagement.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a UUID identifier that is generated as a time-ordered {@link UuidV7} on insert.
+ * Replaces {@code @GeneratedValue(strategy = GenerationType.UUID)}, which generates random
+ * version 4 UUIDs; rows that already have version 4 IDs are left as they are.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimeOrderedUuid {
+}
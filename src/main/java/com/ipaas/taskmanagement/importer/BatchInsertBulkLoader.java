@@ -0,0 +1,31 @@
+package com.ipaas.taskmanagement.importer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Portable loader using JDBC batched inserts, for H2 and other databases without COPY.
+ */
+@Component
+@ConditionalOnProperty(name = "app.import.loader", havingValue = "batch", matchIfMissing = true)
+@RequiredArgsConstructor
+public class BatchInsertBulkLoader implements BulkLoader {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void load(ImportEntity entity, List<ImportRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        String sql = "INSERT INTO " + entity.getTable()
+                + " (" + String.join(", ", entity.getColumns()) + ")"
+                + " VALUES (" + String.join(", ", Collections.nCopies(entity.getColumns().size(), "?")) + ")";
+        jdbcTemplate.batchUpdate(sql, rows.stream().map(ImportRow::values).toList());
+    }
+}
@@ -0,0 +1,14 @@
+package com.ipaas.taskmanagement.importer;
+
+import java.util.List;
+
+/**
+ * Writes validated import rows inside the current transaction.
+ */
+public interface BulkLoader {
+
+    /**
+     * Inserts the rows into the entity's table. Either all rows are written or an exception is thrown.
+     */
+    void load(ImportEntity entity, List<ImportRow> rows);
+}
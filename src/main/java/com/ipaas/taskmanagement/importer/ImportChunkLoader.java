@@ -0,0 +1,212 @@
+package com.ipaas.taskmanagement.importer;
+
+import com.ipaas.taskmanagement.cache.CacheInvalidationBus;
+import com.ipaas.taskmanagement.cache.EmailBloomFilter;
+import com.ipaas.taskmanagement.cache.ResponseCache;
+import com.ipaas.taskmanagement.cache.ResponseCacheKeys;
+import com.ipaas.taskmanagement.search.TitleSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes one chunk of validated rows in its own transaction. References, duplicate IDs and
+ * duplicate emails are checked with one query per kind for the whole chunk; rows failing a
+ * check are returned as rejections and the rest are loaded.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImportChunkLoader {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final BulkLoader bulkLoader;
+    private final EmailBloomFilter emailBloomFilter;
+    private final TitleSearchIndex titleSearchIndex;
+    private final ResponseCache responseCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    /**
+     * Loads the rows that pass the bulk checks and returns the rejected ones.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<ImportRejection> load(ImportEntity entity, List<ImportRow> rows) {
+        List<ImportRejection> rejections = new ArrayList<>();
+        Map<UUID, UUID> taskOwners = new HashMap<>();
+        List<ImportRow> accepted = rejectDuplicateIds(entity, rows, rejections);
+        accepted = switch (entity) {
+            case USERS -> rejectDuplicateEmails(accepted, rejections);
+            case TASKS -> rejectMissingUsers(accepted, rejections);
+            case SUBTASKS -> rejectMissingTasks(accepted, rejections, taskOwners);
+        };
+
+        bulkLoader.load(entity, accepted);
+        if (entity == ImportEntity.SUBTASKS) {
+            touchParentTasks(accepted);
+        }
+        afterCommit(entity, accepted, taskOwners);
+        return rejections;
+    }
+
+    private List<ImportRow> rejectDuplicateIds(ImportEntity entity, List<ImportRow> rows,
+                                               List<ImportRejection> rejections) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        Set<UUID> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM " + entity.getTable() + " WHERE id IN (:ids)",
+                Map.of("ids", ids(rows)), UUID.class));
+
+        Set<UUID> seen = new HashSet<>();
+        List<ImportRow> accepted = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (existing.contains(row.id()) || !seen.add(row.id())) {
+                rejections.add(new ImportRejection(row.source(), "Duplicate ID: " + row.id()));
+            } else {
+                accepted.add(row);
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Only emails the Bloom filter cannot rule out are looked up.
+     */
+    private List<ImportRow> rejectDuplicateEmails(List<ImportRow> rows, List<ImportRejection> rejections) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        Set<String> candidates = new HashSet<>();
+        for (ImportRow row : rows) {
+            if (!emailBloomFilter.isDefinitelyAbsent(row.key())) {
+                candidates.add(row.key());
+            }
+        }
+        Set<String> existing = candidates.isEmpty() ? Set.of() : new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT email FROM users WHERE email IN (:emails)", Map.of("emails", candidates), String.class));
+
+        Set<String> seen = new HashSet<>();
+        List<ImportRow> accepted = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (existing.contains(row.key()) || !seen.add(row.key())) {
+                rejections.add(new ImportRejection(row.source(), "Email already exists: " + row.key()));
+            } else {
+                accepted.add(row);
+            }
+        }
+        return accepted;
+    }
+
+    private List<ImportRow> rejectMissingUsers(List<ImportRow> rows, List<ImportRejection> rejections) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        Set<UUID> userIds = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE id IN (:ids)", Map.of("ids", parentIds(rows)), UUID.class));
+
+        List<ImportRow> accepted = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (userIds.contains(row.parentId())) {
+                accepted.add(row);
+            } else {
+                rejections.add(new ImportRejection(row.source(), "User not found with ID: " + row.parentId()));
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Subtasks must reference an existing task. Collects the owner of each referenced task for
+     * cache invalidation.
+     */
+    private List<ImportRow> rejectMissingTasks(List<ImportRow> rows, List<ImportRejection> rejections,
+                                               Map<UUID, UUID> taskOwners) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        jdbcTemplate.query("SELECT id, user_id FROM tasks WHERE id IN (:ids)", Map.of("ids", parentIds(rows)),
+                (RowCallbackHandler) rs -> taskOwners.put(rs.getObject(1, UUID.class), rs.getObject(2, UUID.class)));
+
+        List<ImportRow> accepted = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (taskOwners.containsKey(row.parentId())) {
+                accepted.add(row);
+            } else {
+                rejections.add(new ImportRejection(row.source(), "Task not found with ID: " + row.parentId()));
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Bumps the version of tasks that received subtasks, so their ETags change, and evicts
+     * them from the entity cache.
+     */
+    private void touchParentTasks(List<ImportRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Set<UUID> taskIds = parentIds(rows);
+        jdbcTemplate.update("UPDATE tasks SET version = version + 1 WHERE id IN (:ids)", Map.of("ids", taskIds));
+        taskIds.forEach(cacheInvalidationBus::invalidateTask);
+    }
+
+    /**
+     * Registers the new rows with the in-memory email filter and title index, and drops
+     * cached task responses they change, once the chunk is committed.
+     */
+    private void afterCommit(ImportEntity entity, List<ImportRow> rows, Map<UUID, UUID> taskOwners) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Set<String> tags = new LinkedHashSet<>();
+        for (ImportRow row : rows) {
+            if (entity == ImportEntity.TASKS) {
+                tags.addAll(ResponseCacheKeys.taskWriteTags(row.id(), row.parentId()));
+            } else if (entity == ImportEntity.SUBTASKS) {
+                tags.addAll(ResponseCacheKeys.taskWriteTags(row.parentId(), taskOwners.get(row.parentId())));
+            }
+        }
+        if (!tags.isEmpty()) {
+            responseCache.invalidate(tags);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (ImportRow row : rows) {
+                    switch (entity) {
+                        case USERS -> emailBloomFilter.put(row.key());
+                        case TASKS -> titleSearchIndex.indexTask(row.id(), row.key());
+                        case SUBTASKS -> titleSearchIndex.indexSubtask(row.id(), row.key());
+                    }
+                }
+            }
+        });
+    }
+
+    private static Set<UUID> ids(List<ImportRow> rows) {
+        Set<UUID> ids = new HashSet<>();
+        rows.forEach(row -> ids.add(row.id()));
+        return ids;
+    }
+
+    private static Set<UUID> parentIds(List<ImportRow> rows) {
+        Set<UUID> ids = new HashSet<>();
+        rows.forEach(row -> ids.add(row.parentId()));
+        return ids;
+    }
+}
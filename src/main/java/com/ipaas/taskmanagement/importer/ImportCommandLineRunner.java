@@ -0,0 +1,60 @@
+package com.ipaas.taskmanagement.importer;
+
+import com.ipaas.taskmanagement.dto.ImportResultDTO;
+import com.ipaas.taskmanagement.service.ImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Runs a single import from a file and exits, for example
+ * {@code java -jar app.jar --spring.main.web-application-type=none --app.import.entity=TASKS --app.import.file=tasks.csv}.
+ * The exit code is 0 when every row was imported and 2 when some were rejected.
+ */
+@Component
+@ConditionalOnProperty(name = "app.import.file")
+@RequiredArgsConstructor
+@Slf4j
+public class ImportCommandLineRunner implements ApplicationRunner {
+
+    private final ImportService importService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${app.import.file}")
+    private String file;
+
+    @Value("${app.import.entity}")
+    private ImportEntity entity;
+
+    @Value("${app.import.format:}")
+    private String format;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path path = Path.of(file);
+        ImportFormat importFormat = format.isEmpty()
+                ? ImportFormat.fromFileName(path.getFileName().toString())
+                : ImportFormat.valueOf(format);
+
+        ImportResultDTO result;
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            result = importService.importRecords(entity, importFormat, inputStream);
+        }
+        log.info("Import of {} finished: {} imported, {} rejected, {} rows/s{}",
+                path, result.getImportedRows(), result.getRejectedRows(), Math.round(result.getRowsPerSecond()),
+                result.getErrorFile() == null ? "" : ", rejected rows in " + result.getErrorFile());
+
+        int exitCode = result.getRejectedRows() == 0 ? 0 : 2;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+}
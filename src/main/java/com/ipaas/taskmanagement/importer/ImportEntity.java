@@ -0,0 +1,32 @@
+package com.ipaas.taskmanagement.importer;
+
+import java.util.List;
+
+/**
+ * Tables that can be bulk imported, with the columns written for each row in order.
+ * Tasks reference users and subtasks reference tasks, so imports run in that order.
+ */
+public enum ImportEntity {
+
+    USERS("users", List.of("id", "name", "email", "created_at")),
+    TASKS("tasks", List.of("id", "title", "normalized_title", "description", "status",
+            "created_at", "completed_at", "user_id")),
+    SUBTASKS("subtasks", List.of("id", "title", "normalized_title", "description", "status",
+            "created_at", "completed_at", "task_id"));
+
+    private final String table;
+    private final List<String> columns;
+
+    ImportEntity(String table, List<String> columns) {
+        this.table = table;
+        this.columns = columns;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+}
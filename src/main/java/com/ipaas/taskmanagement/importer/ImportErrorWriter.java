@@ -0,0 +1,55 @@
+package com.ipaas.taskmanagement.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes rejected records as NDJSON ({@code line}, {@code reason}, {@code record}). The file
+ * is only created when the first rejection is written.
+ */
+public class ImportErrorWriter implements AutoCloseable {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private Writer writer;
+
+    public ImportErrorWriter(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+    }
+
+    public void write(ImportRejection rejection) throws IOException {
+        if (writer == null) {
+            Files.createDirectories(path.getParent());
+            writer = new BufferedWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8));
+        }
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("line", rejection.source().line());
+        entry.put("reason", rejection.reason());
+        entry.put("record", rejection.source().fields());
+        writer.write(objectMapper.writeValueAsString(entry));
+        writer.write('\n');
+    }
+
+    /**
+     * Returns the file path, or null when nothing was written.
+     */
+    public Path getPath() {
+        return writer == null ? null : path;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+}
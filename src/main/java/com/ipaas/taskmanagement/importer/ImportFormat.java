@@ -0,0 +1,20 @@
+package com.ipaas.taskmanagement.importer;
+
+import java.util.Locale;
+
+/**
+ * Formats accepted by the bulk import. CSV files need a header row naming the fields.
+ */
+public enum ImportFormat {
+
+    NDJSON,
+    CSV;
+
+    /**
+     * Infers the format from a file name, defaulting to CSV.
+     */
+    public static ImportFormat fromFileName(String fileName) {
+        String name = fileName.toLowerCase(Locale.ROOT);
+        return name.endsWith(".ndjson") || name.endsWith(".jsonl") ? NDJSON : CSV;
+    }
+}
@@ -0,0 +1,18 @@
+package com.ipaas.taskmanagement.importer;
+
+import java.util.Map;
+
+/**
+ * One raw input record: its fields by name, or the reason it could not be parsed.
+ *
+ * @param line  line number where the record starts
+ * @param fields field values by name; empty when the record could not be parsed
+ * @param error parse error, or null
+ */
+public record ImportRecord(long line, Map<String, String> fields, String error) {
+
+    public String get(String name) {
+        String value = fields.get(name);
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,186 @@
+package com.ipaas.taskmanagement.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads import records one at a time from a buffered input, so memory does not grow with the file size.
+ */
+public abstract class ImportRecordReader implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    protected final BufferedReader reader;
+    protected long line;
+
+    protected ImportRecordReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a reader for the given format.
+     */
+    public static ImportRecordReader create(ImportFormat format, InputStream inputStream, ObjectMapper objectMapper) {
+        return switch (format) {
+            case NDJSON -> new NdjsonReader(inputStream, objectMapper);
+            case CSV -> new CsvReader(inputStream);
+        };
+    }
+
+    /**
+     * Returns the next record, or null at the end of the input.
+     */
+    public abstract ImportRecord next() throws IOException;
+
+    /**
+     * The underlying stream is left open for the caller.
+     */
+    @Override
+    public void close() {
+    }
+
+    private static class NdjsonReader extends ImportRecordReader {
+
+        private static final TypeReference<Map<String, Object>> RECORD_TYPE = new TypeReference<>() {
+        };
+
+        private final ObjectMapper objectMapper;
+
+        NdjsonReader(InputStream inputStream, ObjectMapper objectMapper) {
+            super(inputStream);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public ImportRecord next() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                line++;
+                if (text == null) {
+                    return null;
+                }
+            } while (text.isBlank());
+
+            try {
+                Map<String, String> fields = new HashMap<>();
+                objectMapper.readValue(text, RECORD_TYPE)
+                        .forEach((name, value) -> fields.put(name, value == null ? null : String.valueOf(value)));
+                return new ImportRecord(line, fields, null);
+            } catch (JsonProcessingException e) {
+                return new ImportRecord(line, Map.of(), "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    /**
+     * RFC 4180 CSV: fields may be quoted, quotes inside quoted fields are doubled and quoted
+     * fields may span lines. The first record is the header.
+     */
+    private static class CsvReader extends ImportRecordReader {
+
+        private List<String> header;
+
+        CsvReader(InputStream inputStream) {
+            super(inputStream);
+        }
+
+        @Override
+        public ImportRecord next() throws IOException {
+            if (header == null) {
+                header = readFields();
+                if (header == null) {
+                    return null;
+                }
+                // Spreadsheet exports often start with a byte order mark
+                if (header.get(0).startsWith("\uFEFF")) {
+                    header.set(0, header.get(0).substring(1));
+                }
+            }
+
+            List<String> values;
+            long start;
+            do {
+                start = line + 1;
+                values = readFields();
+                if (values == null) {
+                    return null;
+                }
+            } while (values.size() == 1 && values.get(0).isEmpty());
+
+            if (values.size() != header.size()) {
+                return new ImportRecord(start, Map.of(),
+                        "Expected " + header.size() + " fields but found " + values.size());
+            }
+            Map<String, String> fields = new LinkedHashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                fields.put(header.get(i), values.get(i));
+            }
+            return new ImportRecord(start, fields, null);
+        }
+
+        private List<String> readFields() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            line++;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IOException("Unterminated quoted field starting before line " + line);
+                    }
+                    if (c == '"') {
+                        reader.mark(1);
+                        int following = reader.read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    fields.add(stripCarriageReturn(field));
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+
+        private static String stripCarriageReturn(StringBuilder field) {
+            int length = field.length();
+            return length > 0 && field.charAt(length - 1) == '\r'
+                    ? field.substring(0, length - 1)
+                    : field.toString();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.ipaas.taskmanagement.importer;
+
+/**
+ * A record that was not imported, and why.
+ */
+public record ImportRejection(ImportRecord source, String reason) {
+}
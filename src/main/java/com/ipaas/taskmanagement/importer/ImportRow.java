@@ -0,0 +1,15 @@
+package com.ipaas.taskmanagement.importer;
+
+import java.util.UUID;
+
+/**
+ * A record that passed field validation, ready to be written.
+ *
+ * @param source   the record it was parsed from
+ * @param id       primary key, taken from the record or generated
+ * @param parentId referenced user (tasks) or task (subtasks); null for users
+ * @param key      email for users, title for tasks and subtasks
+ * @param values   column values in {@link ImportEntity#getColumns()} order
+ */
+public record ImportRow(ImportRecord source, UUID id, UUID parentId, String key, Object[] values) {
+}
@@ -0,0 +1,155 @@
+package com.ipaas.taskmanagement.importer;
+
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.form.CreateSubtaskForm;
+import com.ipaas.taskmanagement.form.CreateTaskForm;
+import com.ipaas.taskmanagement.form.CreateUserForm;
+import com.ipaas.taskmanagement.id.UuidV7;
+import com.ipaas.taskmanagement.search.TitleNormalizer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Validates raw records field by field. Names, emails, titles and descriptions are checked
+ * against the same constraints as the create forms of the REST API; references to other
+ * rows are checked later, in bulk, per chunk.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImportRowParser {
+
+    private final Validator validator;
+
+    /**
+     * Parses a record into a row.
+     *
+     * @throws InvalidImportRowException when a field is missing or invalid
+     */
+    public ImportRow parse(ImportEntity entity, ImportRecord record, LocalDateTime now) {
+        if (record.error() != null) {
+            throw new InvalidImportRowException(record.error());
+        }
+        return switch (entity) {
+            case USERS -> parseUser(record, now);
+            case TASKS -> parseTask(record, now);
+            case SUBTASKS -> parseSubtask(record, now);
+        };
+    }
+
+    private ImportRow parseUser(ImportRecord record, LocalDateTime now) {
+        CreateUserForm form = new CreateUserForm();
+        form.setName(record.get("name"));
+        form.setEmail(record.get("email"));
+        validate(form);
+
+        UUID id = uuid(record, "id", true);
+        LocalDateTime createdAt = dateTime(record, "createdAt", now);
+        return new ImportRow(record, id, null, form.getEmail(),
+                new Object[]{id, form.getName(), form.getEmail(), Timestamp.valueOf(createdAt)});
+    }
+
+    private ImportRow parseTask(ImportRecord record, LocalDateTime now) {
+        CreateTaskForm form = new CreateTaskForm();
+        form.setTitle(record.get("title"));
+        form.setDescription(record.get("description"));
+        form.setUserId(uuid(record, "userId", false));
+        validate(form);
+
+        return workItem(record, now, form.getTitle(), form.getDescription(), form.getUserId());
+    }
+
+    private ImportRow parseSubtask(ImportRecord record, LocalDateTime now) {
+        CreateSubtaskForm form = new CreateSubtaskForm();
+        form.setTitle(record.get("title"));
+        form.setDescription(record.get("description"));
+        validate(form);
+
+        UUID taskId = uuid(record, "taskId", false);
+        if (taskId == null) {
+            throw new InvalidImportRowException("Task ID is required");
+        }
+        return workItem(record, now, form.getTitle(), form.getDescription(), taskId);
+    }
+
+    /**
+     * Builds a task or subtask row; both share the same columns apart from the parent reference.
+     */
+    private ImportRow workItem(ImportRecord record, LocalDateTime now, String title, String description, UUID parentId) {
+        UUID id = uuid(record, "id", true);
+        TaskStatus status = status(record);
+        LocalDateTime createdAt = dateTime(record, "createdAt", now);
+        LocalDateTime completedAt = dateTime(record, "completedAt", null);
+        if (status == TaskStatus.COMPLETED && completedAt == null) {
+            completedAt = now;
+        } else if (status != TaskStatus.COMPLETED && completedAt != null) {
+            throw new InvalidImportRowException("completedAt is only allowed with status COMPLETED");
+        }
+
+        return new ImportRow(record, id, parentId, title, new Object[]{
+                id,
+                title,
+                TitleNormalizer.normalize(title),
+                description,
+                status.name(),
+                Timestamp.valueOf(createdAt),
+                completedAt == null ? null : Timestamp.valueOf(completedAt),
+                parentId
+        });
+    }
+
+    private void validate(Object form) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(form);
+        if (!violations.isEmpty()) {
+            throw new InvalidImportRowException(violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+
+    private static UUID uuid(ImportRecord record, String field, boolean generate) {
+        String value = record.get(field);
+        if (value == null) {
+            return generate ? UuidV7.randomUuid() : null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidImportRowException(field + " is not a valid UUID: " + value);
+        }
+    }
+
+    private static TaskStatus status(ImportRecord record) {
+        String value = record.get("status");
+        if (value == null) {
+            return TaskStatus.PENDING;
+        }
+        try {
+            return TaskStatus.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidImportRowException("status is not a valid status: " + value);
+        }
+    }
+
+    private static LocalDateTime dateTime(ImportRecord record, String field, LocalDateTime defaultValue) {
+        String value = record.get(field);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidImportRowException(field + " is not an ISO-8601 date-time: " + value);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.ipaas.taskmanagement.importer;
+
+/**
+ * Thrown when an import record is rejected. The row is written to the error file and the
+ * import continues.
+ */
+public class InvalidImportRowException extends RuntimeException {
+
+    public InvalidImportRowException(String message) {
+        super(message);
+    }
+}
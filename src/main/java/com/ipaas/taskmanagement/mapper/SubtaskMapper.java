@@ -4,6 +4,7 @@ import com.ipaas.taskmanagement.dto.SubtaskDTO;
 import com.ipaas.taskmanagement.entity.Subtask;
 import com.ipaas.taskmanagement.entity.Task;
 import com.ipaas.taskmanagement.form.CreateSubtaskForm;
+import com.ipaas.taskmanagement.projection.SubtaskView;
 import org.springframework.stereotype.Component;
 
 /**
@@ -46,4 +47,24 @@ public class SubtaskMapper {
         dto.setTaskTitle(subtask.getTask().getTitle());
         return dto;
     }
+
+    /**
+     * Converts a SubtaskView projection to SubtaskDTO.
+     */
+    public SubtaskDTO toDTO(SubtaskView view) {
+        if (view == null) {
+            return null;
+        }
+
+        SubtaskDTO dto = new SubtaskDTO();
+        dto.setId(view.getId());
+        dto.setTitle(view.getTitle());
+        dto.setDescription(view.getDescription());
+        dto.setStatus(view.getStatus());
+        dto.setCreatedAt(view.getCreatedAt());
+        dto.setCompletedAt(view.getCompletedAt());
+        dto.setTaskId(view.getTaskId());
+        dto.setTaskTitle(view.getTaskTitle());
+        return dto;
+    }
 }
@@ -1,19 +1,29 @@
 package com.ipaas.taskmanagement.mapper;
 
 import com.ipaas.taskmanagement.dto.TaskDTO;
+import com.ipaas.taskmanagement.entity.Subtask;
 import com.ipaas.taskmanagement.entity.Task;
 import com.ipaas.taskmanagement.entity.User;
 import com.ipaas.taskmanagement.form.CreateTaskForm;
+import com.ipaas.taskmanagement.projection.SubtaskCountProjection;
+import com.ipaas.taskmanagement.projection.TaskView;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Mapper for Task entity conversions.
  */
 @Component
+@RequiredArgsConstructor
 public class TaskMapper {
 
+    private final SubtaskMapper subtaskMapper;
+
     /**
-     * Converts CreateTaskForm to Task entity.
+     * Converts CreateTaskForm to Task entity, including any nested subtasks.
      */
     public Task toEntity(CreateTaskForm form, User user) {
         if (form == null) {
@@ -24,6 +34,12 @@ public class TaskMapper {
         task.setTitle(form.getTitle());
         task.setDescription(form.getDescription());
         task.setUser(user);
+
+        List<Subtask> subtasks = new ArrayList<>();
+        if (form.getSubtasks() != null) {
+            form.getSubtasks().forEach(subtaskForm -> subtasks.add(subtaskMapper.toEntity(subtaskForm, task)));
+        }
+        task.setSubtasks(subtasks);
         return task;
     }
 
@@ -46,6 +62,31 @@ public class TaskMapper {
         dto.setUserName(task.getUser().getName());
         dto.setTotalSubtasks((int) totalSubtasks);
         dto.setCompletedSubtasks((int) completedSubtasks);
+        dto.setVersion(task.getVersion());
+        return dto;
+    }
+
+    /**
+     * Converts a TaskView projection to TaskDTO using pre-computed subtask counts.
+     * A null counts projection means the task has no subtasks.
+     */
+    public TaskDTO toDTO(TaskView view, SubtaskCountProjection counts) {
+        if (view == null) {
+            return null;
+        }
+
+        TaskDTO dto = new TaskDTO();
+        dto.setId(view.getId());
+        dto.setTitle(view.getTitle());
+        dto.setDescription(view.getDescription());
+        dto.setStatus(view.getStatus());
+        dto.setCreatedAt(view.getCreatedAt());
+        dto.setCompletedAt(view.getCompletedAt());
+        dto.setUserId(view.getUserId());
+        dto.setUserName(view.getUserName());
+        dto.setTotalSubtasks(counts == null ? 0 : (int) counts.getTotalSubtasks());
+        dto.setCompletedSubtasks(counts == null ? 0 : (int) counts.getCompletedSubtasks());
+        dto.setVersion(view.getVersion());
         return dto;
     }
 }
@@ -38,6 +38,7 @@ public class UserMapper {
         dto.setName(user.getName());
         dto.setEmail(user.getEmail());
         dto.setCreatedAt(user.getCreatedAt());
+        dto.setVersion(user.getVersion());
         return dto;
     }
 }
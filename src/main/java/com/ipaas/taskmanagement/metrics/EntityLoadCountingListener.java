@@ -0,0 +1,16 @@
+package com.ipaas.taskmanagement.metrics;
+
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+/**
+ * Counts the entities Hibernate hydrates for the current request. Projections such as the
+ * task and subtask views are not entities and are not counted.
+ */
+public class EntityLoadCountingListener implements PostLoadEventListener {
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        RequestMetricsContext.entityLoaded();
+    }
+}
@@ -0,0 +1,91 @@
+package com.ipaas.taskmanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Times every public service method ({@code app.service.method}) and every query of the
+ * hand-written read-model repositories ({@code app.repository.query}), tagged with the class,
+ * method, outcome and the endpoint of the request that made the call. Spring Data repositories
+ * are timed by Spring Boot as {@code spring.data.repository.invocations}.
+ * <p>
+ * Reactive results are timed from subscription to termination rather than to assembly.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MethodTimingAspect {
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("within(com.ipaas.taskmanagement.service..*) && execution(public * *(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("app.service.method", "service", joinPoint);
+    }
+
+    @Around("within(com.ipaas.taskmanagement.repository..*) "
+            + "&& @within(org.springframework.stereotype.Repository) && execution(public * *(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("app.repository.query", "repository", joinPoint);
+    }
+
+    private Object time(String name, String classTag, ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        String endpoint = RequestMetricsContext.currentEndpoint();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            sample.stop(timer(name, classTag, className, method, endpoint, e.getClass().getSimpleName()));
+            throw e;
+        }
+
+        if (result instanceof Mono<?> mono) {
+            return Mono.defer(() -> {
+                Timer.Sample subscribed = Timer.start(meterRegistry);
+                return mono.doFinally(signal ->
+                        subscribed.stop(timer(name, classTag, className, method, endpoint, outcome(signal))));
+            });
+        }
+        if (result instanceof Flux<?> flux) {
+            return Flux.defer(() -> {
+                Timer.Sample subscribed = Timer.start(meterRegistry);
+                return flux.doFinally(signal ->
+                        subscribed.stop(timer(name, classTag, className, method, endpoint, outcome(signal))));
+            });
+        }
+        sample.stop(timer(name, classTag, className, method, endpoint, NO_EXCEPTION));
+        return result;
+    }
+
+    private Timer timer(String name, String classTag, String className, String method, String endpoint,
+                        String exception) {
+        return Timer.builder(name)
+                .tag(classTag, className)
+                .tag("method", method)
+                .tag("endpoint", endpoint)
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_ERROR -> "error";
+            case CANCEL -> "cancelled";
+            default -> NO_EXCEPTION;
+        };
+    }
+}
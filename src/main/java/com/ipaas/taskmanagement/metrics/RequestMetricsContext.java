@@ -0,0 +1,73 @@
+package com.ipaas.taskmanagement.metrics;
+
+/**
+ * Per-request metrics state bound to the handling thread: the endpoint used to tag timers
+ * and the number of SQL statements and entities Hibernate produced for the request.
+ * Work done outside a request (scheduled jobs, the import runner) is tagged {@link #NO_ENDPOINT}.
+ */
+public final class RequestMetricsContext {
+
+    public static final String NO_ENDPOINT = "none";
+
+    private static final ThreadLocal<RequestMetricsContext> CURRENT = new ThreadLocal<>();
+
+    private final String endpoint;
+    private long statements;
+    private long entitiesLoaded;
+
+    private RequestMetricsContext(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Starts tracking a request on the current thread.
+     */
+    public static RequestMetricsContext begin(String endpoint) {
+        RequestMetricsContext context = new RequestMetricsContext(endpoint);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Stops tracking and returns the finished context, or null if none was started.
+     */
+    public static RequestMetricsContext end() {
+        RequestMetricsContext context = CURRENT.get();
+        CURRENT.remove();
+        return context;
+    }
+
+    /**
+     * Endpoint of the request being handled on this thread.
+     */
+    public static String currentEndpoint() {
+        RequestMetricsContext context = CURRENT.get();
+        return context == null ? NO_ENDPOINT : context.endpoint;
+    }
+
+    static void statementPrepared() {
+        RequestMetricsContext context = CURRENT.get();
+        if (context != null) {
+            context.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        RequestMetricsContext context = CURRENT.get();
+        if (context != null) {
+            context.entitiesLoaded++;
+        }
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+}
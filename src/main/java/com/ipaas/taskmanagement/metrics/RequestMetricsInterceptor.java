@@ -0,0 +1,52 @@
+package com.ipaas.taskmanagement.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Tags the request with its endpoint (method and route pattern, as in
+ * {@code http.server.requests}) and records how many SQL statements and entities it cost:
+ * {@code app.request.statements} and {@code app.request.entities.loaded}.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestMetricsInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        RequestMetricsContext.begin(request.getMethod() + " " + (pattern != null ? pattern : "UNKNOWN"));
+        return true;
+    }
+
+    /**
+     * Async requests (streamed exports) finish on another thread; their statements after
+     * the handler returns are not counted.
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RequestMetricsContext context = RequestMetricsContext.end();
+        if (context == null) {
+            return;
+        }
+        DistributionSummary.builder("app.request.statements")
+                .description("SQL statements prepared by Hibernate per request")
+                .tag("endpoint", context.getEndpoint())
+                .register(meterRegistry)
+                .record(context.getStatements());
+        DistributionSummary.builder("app.request.entities.loaded")
+                .description("Entities loaded by Hibernate per request")
+                .tag("endpoint", context.getEndpoint())
+                .register(meterRegistry)
+                .record(context.getEntitiesLoaded());
+    }
+}
@@ -0,0 +1,16 @@
+package com.ipaas.taskmanagement.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares for the current request. Registered through
+ * {@code hibernate.session_factory.statement_inspector}; the SQL is returned unchanged.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestMetricsContext.statementPrepared();
+        return sql;
+    }
+}
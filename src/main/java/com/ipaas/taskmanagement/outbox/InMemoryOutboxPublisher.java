@@ -0,0 +1,39 @@
+package com.ipaas.taskmanagement.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps the most recently published events in memory, for tests and local runs.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.publisher", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOutboxPublisher implements OutboxPublisher {
+
+    private final Deque<OutboxMessage> published = new ArrayDeque<>();
+
+    @Value("${app.outbox.memory.capacity:1000}")
+    private int capacity;
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            published.addLast(message);
+            if (published.size() > capacity) {
+                published.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * Events published so far, oldest first.
+     */
+    public synchronized List<OutboxMessage> getPublished() {
+        return List.copyOf(published);
+    }
+}
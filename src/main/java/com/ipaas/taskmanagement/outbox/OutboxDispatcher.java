@@ -0,0 +1,71 @@
+package com.ipaas.taskmanagement.outbox;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Publishes one batch of outbox events in its own transaction. The batch is claimed with
+ * {@code FOR UPDATE SKIP LOCKED}, so relays on several replicas drain the outbox side by side
+ * without waiting on or publishing each other's rows, and it is deleted only after the
+ * publisher accepted it.
+ * <p>
+ * H2 does not support {@code SKIP LOCKED} and claims with a plain {@code FOR UPDATE}: a
+ * concurrent relay waits for the batch instead of skipping it, which is fine for the single
+ * in-process node H2 runs as.
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final String SELECT_BATCH = """
+            SELECT id, aggregate_type, aggregate_id, event_type, payload, created_at
+            FROM outbox_events
+            ORDER BY id
+            LIMIT :limit
+            """;
+
+    private static final RowMapper<OutboxMessage> ROW_MAPPER = (rs, rowNum) -> new OutboxMessage(
+            rs.getObject("id", UUID.class),
+            rs.getString("aggregate_type"),
+            rs.getObject("aggregate_id", UUID.class),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final OutboxPublisher publisher;
+    private final String claimBatch;
+
+    public OutboxDispatcher(NamedParameterJdbcTemplate jdbcTemplate, OutboxPublisher publisher)
+            throws MetaDataAccessException {
+        this.jdbcTemplate = jdbcTemplate;
+        this.publisher = publisher;
+        String database = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getJdbcTemplate().getDataSource(),
+                DatabaseMetaData::getDatabaseProductName);
+        this.claimBatch = SELECT_BATCH + ("H2".equals(database) ? "FOR UPDATE" : "FOR UPDATE SKIP LOCKED");
+    }
+
+    /**
+     * Publishes up to {@code limit} of the oldest unclaimed events and returns them.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public List<OutboxMessage> dispatch(int limit) {
+        List<OutboxMessage> batch = jdbcTemplate.query(claimBatch, Map.of("limit", limit), ROW_MAPPER);
+        if (batch.isEmpty()) {
+            return batch;
+        }
+        publisher.publish(batch);
+        jdbcTemplate.update("DELETE FROM outbox_events WHERE id IN (:ids)",
+                Map.of("ids", batch.stream().map(OutboxMessage::id).toList()));
+        return batch;
+    }
+}
@@ -0,0 +1,21 @@
+package com.ipaas.taskmanagement.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An event read from the outbox, as handed to an {@link OutboxPublisher}. Delivery is at least
+ * once, so consumers should ignore IDs they have already processed.
+ *
+ * @param id            event ID, time-ordered
+ * @param aggregateType {@code TASK} or {@code SUBTASK}
+ * @param aggregateId   ID of the task or subtask that changed
+ * @param eventType     what happened, e.g. {@code TASK_STATUS_CHANGED}
+ * @param payload       event body as JSON
+ * @param createdAt     when the event was written
+ */
+public record OutboxMessage(UUID id, String aggregateType, UUID aggregateId, String eventType,
+                            @JsonRawValue String payload, LocalDateTime createdAt) {
+}
@@ -0,0 +1,16 @@
+package com.ipaas.taskmanagement.outbox;
+
+import java.util.List;
+
+/**
+ * Delivers outbox events to downstream systems. Implementations are selected with
+ * {@code app.outbox.publisher}.
+ */
+public interface OutboxPublisher {
+
+    /**
+     * Delivers a batch, oldest event first. Throwing leaves the whole batch in the outbox,
+     * to be delivered again by a later run of the relay.
+     */
+    void publish(List<OutboxMessage> messages);
+}
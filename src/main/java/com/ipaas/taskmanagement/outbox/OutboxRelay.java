@@ -0,0 +1,88 @@
+package com.ipaas.taskmanagement.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Background relay draining the outbox. Every run dispatches batches until the outbox is
+ * empty or a run's batch limit is reached. A failed batch stays in the outbox and the run
+ * ends; the next run delivers it again.
+ * <p>
+ * Records {@code app.outbox.lag} (time from writing an event to publishing it),
+ * {@code app.outbox.batch.size}, {@code app.outbox.published} (its rate is the throughput)
+ * and {@code app.outbox.failures}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxDispatcher dispatcher;
+    private final MeterRegistry meterRegistry;
+
+    private Timer lag;
+    private DistributionSummary batchSizes;
+    private Counter published;
+    private Counter failures;
+
+    @Value("${app.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.outbox.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @PostConstruct
+    void registerMetrics() {
+        lag = Timer.builder("app.outbox.lag")
+                .description("Time from writing an outbox event to publishing it")
+                .register(meterRegistry);
+        batchSizes = DistributionSummary.builder("app.outbox.batch.size")
+                .description("Events published per outbox batch")
+                .register(meterRegistry);
+        published = Counter.builder("app.outbox.published")
+                .description("Outbox events published")
+                .register(meterRegistry);
+        failures = Counter.builder("app.outbox.failures")
+                .description("Outbox batches that failed to publish")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT1S}")
+    public void drain() {
+        for (int run = 0; run < maxBatchesPerRun; run++) {
+            List<OutboxMessage> batch;
+            try {
+                batch = dispatcher.dispatch(batchSize);
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("Publishing outbox batch failed, retrying on the next run", e);
+                return;
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            batch.forEach(message -> lag.record(Duration.between(message.createdAt(), now)));
+            batchSizes.record(batch.size());
+            published.increment(batch.size());
+            log.debug("Published {} outbox events", batch.size());
+
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+}
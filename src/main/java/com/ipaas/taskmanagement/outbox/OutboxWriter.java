@@ -0,0 +1,90 @@
+package com.ipaas.taskmanagement.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ipaas.taskmanagement.id.UuidV7;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adds events to the outbox as part of the current transaction. Events are collected while the
+ * transaction runs and inserted as one JDBC batch just before it commits, so a bulk update
+ * costs one extra statement however many events it produces, and the events commit or roll
+ * back together with the change.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private static final String INSERT = """
+            INSERT INTO outbox_events (id, aggregate_type, aggregate_id, event_type, payload, created_at)
+            VALUES (:id, :aggregateType, :aggregateId, :eventType, :payload, :createdAt)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void append(String aggregateType, UUID aggregateId, String eventType, Object payload) {
+        OutboxMessage message = new OutboxMessage(UuidV7.randomUuid(), aggregateType, aggregateId, eventType,
+                toJson(payload), LocalDateTime.now());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            insert(List.of(message));
+            return;
+        }
+        PendingMessages pending = (PendingMessages) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingMessages();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.messages.add(message);
+    }
+
+    private void insert(List<OutboxMessage> messages) {
+        SqlParameterSource[] batch = messages.stream()
+                .map(message -> new MapSqlParameterSource()
+                        .addValue("id", message.id())
+                        .addValue("aggregateType", message.aggregateType())
+                        .addValue("aggregateId", message.aggregateId())
+                        .addValue("eventType", message.eventType())
+                        .addValue("payload", message.payload())
+                        .addValue("createdAt", Timestamp.valueOf(message.createdAt())))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT, batch);
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Outbox payload is not serializable: " + payload, e);
+        }
+    }
+
+    private final class PendingMessages implements TransactionSynchronization {
+
+        private final List<OutboxMessage> messages = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            insert(messages);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OutboxWriter.this);
+        }
+    }
+}
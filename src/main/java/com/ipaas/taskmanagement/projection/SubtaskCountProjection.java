@@ -0,0 +1,15 @@
+package com.ipaas.taskmanagement.projection;
+
+import java.util.UUID;
+
+/**
+ * Projection with the total and completed subtask counts of a task.
+ */
+public interface SubtaskCountProjection {
+
+    UUID getTaskId();
+
+    long getTotalSubtasks();
+
+    long getCompletedSubtasks();
+}
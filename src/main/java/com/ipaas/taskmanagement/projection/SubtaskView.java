@@ -0,0 +1,26 @@
+package com.ipaas.taskmanagement.projection;
+
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only constructor projection of a subtask joined with its task.
+ * Instances are not managed by the persistence context.
+ */
+@Getter
+@AllArgsConstructor
+public class SubtaskView {
+
+    private final UUID id;
+    private final String title;
+    private final String description;
+    private final TaskStatus status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime completedAt;
+    private final UUID taskId;
+    private final String taskTitle;
+}
@@ -0,0 +1,28 @@
+package com.ipaas.taskmanagement.projection;
+
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only constructor projection of a task with its user and subtask counts, used by the export.
+ * Instances are not managed by the persistence context.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskExportRow {
+
+    private final UUID id;
+    private final String title;
+    private final String description;
+    private final TaskStatus status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime completedAt;
+    private final UUID userId;
+    private final String userName;
+    private final long totalSubtasks;
+    private final long completedSubtasks;
+}
@@ -0,0 +1,13 @@
+package com.ipaas.taskmanagement.projection;
+
+import java.util.UUID;
+
+/**
+ * Projection with a task ID and the ID of the user owning it.
+ */
+public interface TaskOwnerProjection {
+
+    UUID getTaskId();
+
+    UUID getUserId();
+}
@@ -0,0 +1,35 @@
+package com.ipaas.taskmanagement.projection;
+
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only constructor projection of a task joined with its user.
+ * Instances are not managed by the persistence context.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskView {
+
+    private final UUID id;
+    private final String title;
+    private final String description;
+    private final TaskStatus status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime completedAt;
+    private final UUID userId;
+    private final String userName;
+    /**
+     * Row version; only read for single-task lookups, null in lists.
+     */
+    private final Long version;
+
+    public TaskView(UUID id, String title, String description, TaskStatus status, LocalDateTime createdAt,
+                    LocalDateTime completedAt, UUID userId, String userName) {
+        this(id, title, description, status, createdAt, completedAt, userId, userName, null);
+    }
+}
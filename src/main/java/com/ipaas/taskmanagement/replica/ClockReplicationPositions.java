@@ -0,0 +1,33 @@
+package com.ipaas.taskmanagement.replica;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Commit timestamps as positions, for databases that do not expose their replication
+ * progress (such as the embedded H2 pair used locally). A replica is assumed to lag by at most
+ * {@code app.datasource.replicas.assumed-lag}, so it serves reads that require a commit older
+ * than that; the health check only verifies that it answers.
+ */
+@Component
+@ConditionalOnProperty(name = "app.datasource.replicas.positions", havingValue = "clock", matchIfMissing = true)
+public class ClockReplicationPositions implements ReplicationPositions {
+
+    @Value("${app.datasource.replicas.assumed-lag:PT1S}")
+    private Duration assumedLag;
+
+    @Override
+    public long primaryPosition(JdbcTemplate primary) {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public ReplicaStatus replicaStatus(JdbcTemplate replica) {
+        replica.queryForObject("SELECT 1", Integer.class);
+        return new ReplicaStatus(System.currentTimeMillis() - assumedLag.toMillis(), assumedLag);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ipaas.taskmanagement.replica;
+
+/**
+ * Replication position the reads of the current request must observe, bound to the handling
+ * thread: the consistency token the client sent, raised by the request's own commits so it
+ * reads its writes. Outside a request any replica may serve reads.
+ */
+public final class ConsistencyContext {
+
+    public static final long ANY_POSITION = Long.MIN_VALUE;
+
+    private static final ThreadLocal<ConsistencyContext> CURRENT = new ThreadLocal<>();
+
+    private long requiredPosition;
+
+    private ConsistencyContext(long requiredPosition) {
+        this.requiredPosition = requiredPosition;
+    }
+
+    /**
+     * Starts tracking a request on the current thread.
+     */
+    public static void begin(long requiredPosition) {
+        CURRENT.set(new ConsistencyContext(requiredPosition));
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Position replicas must have applied to serve reads on this thread.
+     */
+    public static long requiredPosition() {
+        ConsistencyContext context = CURRENT.get();
+        return context == null ? ANY_POSITION : context.requiredPosition;
+    }
+
+    /**
+     * Raises the required position after a commit on this thread.
+     */
+    static void advance(long position) {
+        ConsistencyContext context = CURRENT.get();
+        if (context != null) {
+            context.requiredPosition = Math.max(context.requiredPosition, position);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.ipaas.taskmanagement.replica;
+
+import com.ipaas.taskmanagement.exception.InvalidConsistencyTokenException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Binds the consistency token of the request ({@value ConsistencyTokens#HEADER} header) to the
+ * handling thread, so its read-only transactions only go to replicas that have applied it.
+ */
+public class ConsistencyTokenInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String token = request.getHeader(ConsistencyTokens.HEADER);
+        ConsistencyContext.begin(token == null || token.isBlank() ? ConsistencyContext.ANY_POSITION : decode(token));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        ConsistencyContext.end();
+    }
+
+    private static long decode(String token) {
+        try {
+            return Long.parseLong(token.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidConsistencyTokenException("Invalid consistency token: " + token);
+        }
+    }
+}
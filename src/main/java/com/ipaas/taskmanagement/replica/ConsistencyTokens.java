@@ -0,0 +1,76 @@
+package com.ipaas.taskmanagement.replica;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+
+/**
+ * Issues consistency tokens: after a read-write transaction commits on the primary, the
+ * primary's replication position is returned in the {@value #HEADER} response header and
+ * required for the rest of the request. Clients send the token back on later requests to read
+ * their writes from the primary or from a replica that has caught up.
+ */
+@Slf4j
+public class ConsistencyTokens {
+
+    public static final String HEADER = "X-Consistency-Token";
+
+    private final JdbcTemplate primary;
+    private final ReplicationPositions positions;
+
+    /**
+     * @param primary   the application data source; the position query runs on the
+     *                  connection of the committed transaction while it is still bound
+     * @param positions how positions are measured
+     */
+    public ConsistencyTokens(DataSource primary, ReplicationPositions positions) {
+        this.primary = new JdbcTemplate(primary);
+        this.positions = positions;
+    }
+
+    /**
+     * Issues a token when the current read-write transaction commits. Called whenever a
+     * primary connection is obtained; registers once per transaction.
+     */
+    void issueOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                issue();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ConsistencyTokens.this);
+            }
+        });
+    }
+
+    private void issue() {
+        long position;
+        try {
+            position = positions.primaryPosition(primary);
+        } catch (RuntimeException e) {
+            // Without a token the client reads from any replica; the write itself committed
+            log.warn("Could not read the primary replication position: {}", e.getMessage());
+            return;
+        }
+        ConsistencyContext.advance(position);
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                && attributes.getResponse() != null) {
+            attributes.getResponse().setHeader(HEADER, Long.toString(position));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ipaas.taskmanagement.replica;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Tracks which reads on the current thread were served by a replica. A replica may not have
+ * applied the latest commits, so caches use this to keep what it returned out of their entries:
+ * a cache hit is not checked against the request's consistency token, and only rows read from
+ * the primary are guaranteed to be invalidated by every later write.
+ */
+public final class ReplicaReads {
+
+    private static final Object TRANSACTION_KEY = new Object();
+
+    private static final ThreadLocal<Long> COUNT = ThreadLocal.withInitial(() -> 0L);
+
+    private ReplicaReads() {
+    }
+
+    /**
+     * Marks the current point, for {@link #since(long)}.
+     */
+    public static long mark() {
+        return COUNT.get();
+    }
+
+    /**
+     * Whether a replica served reads on this thread since the mark, or serves the current
+     * transaction.
+     */
+    public static boolean since(long mark) {
+        return COUNT.get() != mark || TransactionSynchronizationManager.hasResource(TRANSACTION_KEY);
+    }
+
+    /**
+     * Records that a replica connection was obtained on this thread.
+     */
+    static void record() {
+        COUNT.set(COUNT.get() + 1);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(TRANSACTION_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(TRANSACTION_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_KEY);
+            }
+        });
+    }
+}
@@ -0,0 +1,162 @@
+package com.ipaas.taskmanagement.replica;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Chooses the database for each transaction. Read-write transactions, and anything running
+ * outside a transaction, use the primary. Read-only transactions go round-robin to the healthy
+ * replicas that have applied the position the request requires (see {@link ConsistencyContext}),
+ * and fall back to the primary when there is none.
+ * <p>
+ * Replicas are checked every {@code app.datasource.replicas.health-check-interval}; one that
+ * cannot be reached or lags by more than {@code app.datasource.replicas.max-lag} gets no reads
+ * until a later check finds it healthy again.
+ */
+@Slf4j
+public class ReplicaRouter implements Closeable {
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReplicationPositions positions;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter primaryReads;
+    private final Counter replicaReads;
+
+    public ReplicaRouter(DataSource primary, List<DataSource> replicas, ReplicationPositions positions,
+                         Duration maxLag, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.positions = positions;
+        this.maxLag = maxLag;
+        this.replicas = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = new Replica("replica-" + i, replicas.get(i));
+            this.replicas.add(replica);
+            Gauge.builder("app.datasource.replica.lag", replica, r -> r.lag.toMillis() / 1000.0)
+                    .description("Replication lag of the replica at its last health check")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.key)
+                    .register(meterRegistry);
+            Gauge.builder("app.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("Whether the replica takes reads")
+                    .tag("replica", replica.key)
+                    .register(meterRegistry);
+        }
+        this.primaryReads = readCounter(meterRegistry, PRIMARY);
+        this.replicaReads = readCounter(meterRegistry, "replica");
+    }
+
+    /**
+     * Target data sources by lookup key, the primary first.
+     */
+    public Map<Object, Object> targets() {
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.key, replica.dataSource));
+        return targets;
+    }
+
+    /**
+     * Lookup key of the data source for a connection requested on the current thread.
+     */
+    String currentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        long requiredPosition = ConsistencyContext.requiredPosition();
+        int size = replicas.size();
+        int start = size == 0 ? 0 : Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy && replica.appliedPosition >= requiredPosition) {
+                replicaReads.increment();
+                return replica.key;
+            }
+        }
+        primaryReads.increment();
+        return PRIMARY;
+    }
+
+    /**
+     * Refreshes the health, lag and applied position of every replica.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval:PT5S}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try {
+                ReplicaStatus status = positions.replicaStatus(replica.jdbcTemplate);
+                replica.lag = status.lag();
+                replica.appliedPosition = status.appliedPosition();
+                replica.update(status.lag().compareTo(maxLag) <= 0,
+                        () -> "lags by " + status.lag() + ", more than " + maxLag);
+            } catch (RuntimeException e) {
+                replica.update(false, e::getMessage);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        close(primary);
+        for (Replica replica : replicas) {
+            close(replica.dataSource);
+        }
+    }
+
+    private static void close(DataSource dataSource) throws IOException {
+        if (dataSource instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("app.datasource.reads")
+                .description("Read-only transactions by the database that served them")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    private static final class Replica {
+
+        private final String key;
+        private final DataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private volatile boolean healthy;
+        private volatile long appliedPosition = Long.MIN_VALUE;
+        private volatile Duration lag = Duration.ZERO;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+        }
+
+        private void update(boolean healthy, Supplier<String> reason) {
+            if (this.healthy && !healthy) {
+                log.warn("Replica {} takes no reads: {}", key, reason.get());
+            } else if (!this.healthy && healthy) {
+                log.info("Replica {} takes reads", key);
+            }
+            this.healthy = healthy;
+        }
+    }
+}
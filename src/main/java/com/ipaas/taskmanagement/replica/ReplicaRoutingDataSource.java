@@ -0,0 +1,36 @@
+package com.ipaas.taskmanagement.replica;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Routes connections to the primary or a replica as decided by the {@link ReplicaRouter}, and
+ * has a consistency token issued for every read-write transaction on the primary. Replica
+ * connections are recorded in {@link ReplicaReads}.
+ * <p>
+ * The routing decision depends on the transaction's read-only flag, which is only known after
+ * the transaction has begun, so this data source must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaRouter router;
+    private final ConsistencyTokens consistencyTokens;
+
+    public ReplicaRoutingDataSource(ReplicaRouter router, ConsistencyTokens consistencyTokens) {
+        this.router = router;
+        this.consistencyTokens = consistencyTokens;
+        setTargetDataSources(router.targets());
+        setDefaultTargetDataSource(router.targets().get(ReplicaRouter.PRIMARY));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String key = router.currentLookupKey();
+        if (ReplicaRouter.PRIMARY.equals(key)) {
+            consistencyTokens.issueOnCommit();
+        } else {
+            ReplicaReads.record();
+        }
+        return key;
+    }
+}
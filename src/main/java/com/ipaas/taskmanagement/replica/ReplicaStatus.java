@@ -0,0 +1,13 @@
+package com.ipaas.taskmanagement.replica;
+
+import java.time.Duration;
+
+/**
+ * Replication state of a replica at the time it was checked.
+ *
+ * @param appliedPosition position up to which the replica has applied the primary's changes,
+ *                        comparable with consistency tokens
+ * @param lag             how far the replica is behind the primary
+ */
+public record ReplicaStatus(long appliedPosition, Duration lag) {
+}
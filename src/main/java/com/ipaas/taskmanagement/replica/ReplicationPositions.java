@@ -0,0 +1,24 @@
+package com.ipaas.taskmanagement.replica;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Measures replication progress. Positions are only compared with each other: a replica can
+ * serve a read that requires position {@code p} once its applied position is at least {@code p}.
+ * Implementations are selected with {@code app.datasource.replicas.positions}.
+ */
+public interface ReplicationPositions {
+
+    /**
+     * Position of the primary, read right after a commit; returned to clients as the
+     * consistency token of their write.
+     */
+    long primaryPosition(JdbcTemplate primary);
+
+    /**
+     * Reads the replication state of a replica.
+     *
+     * @throws RuntimeException when the replica cannot be reached or does not replicate
+     */
+    ReplicaStatus replicaStatus(JdbcTemplate replica);
+}
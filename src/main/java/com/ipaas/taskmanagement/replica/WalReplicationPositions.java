@@ -0,0 +1,43 @@
+package com.ipaas.taskmanagement.replica;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * PostgreSQL WAL positions (LSNs, as bytes since {@code 0/0}) for streaming replicas. The
+ * token of a write is the primary's WAL position after its commit, and a replica serves a read
+ * once it has replayed up to that position.
+ * <p>
+ * The lag is the age of the last replayed transaction, or zero when the replica has replayed
+ * everything it received, so an idle primary does not make its replicas look stale.
+ */
+@Component
+@ConditionalOnProperty(name = "app.datasource.replicas.positions", havingValue = "lsn")
+public class WalReplicationPositions implements ReplicationPositions {
+
+    private static final String REPLICA_STATUS = """
+            SELECT pg_is_in_recovery() AS standby,
+                   pg_wal_lsn_diff(pg_last_wal_replay_lsn(), '0/0')::bigint AS applied,
+                   CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000
+                   END::bigint AS lag_millis
+            """;
+
+    @Override
+    public long primaryPosition(JdbcTemplate primary) {
+        return primary.queryForObject("SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '0/0')::bigint", Long.class);
+    }
+
+    @Override
+    public ReplicaStatus replicaStatus(JdbcTemplate replica) {
+        return replica.queryForObject(REPLICA_STATUS, (rs, rowNum) -> {
+            if (!rs.getBoolean("standby")) {
+                throw new IllegalStateException("Not a streaming replica");
+            }
+            return new ReplicaStatus(rs.getLong("applied"), Duration.ofMillis(rs.getLong("lag_millis")));
+        });
+    }
+}
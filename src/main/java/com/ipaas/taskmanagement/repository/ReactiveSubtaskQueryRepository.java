@@ -0,0 +1,47 @@
+package com.ipaas.taskmanagement.repository;
+
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.projection.SubtaskView;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Non-blocking read-model repository for subtasks over R2DBC. Mirrors {@link SubtaskQueryRepository}.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveSubtaskQueryRepository {
+
+    private static final String SELECT_VIEW = "SELECT s.id, s.title, s.description, s.status, s.created_at, "
+            + "s.completed_at, t.id AS task_id, t.title AS task_title FROM subtasks s JOIN tasks t ON t.id = s.task_id";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Streams the subtask views of a task.
+     */
+    public Flux<SubtaskView> findViewsByTaskId(UUID taskId) {
+        return databaseClient.sql(SELECT_VIEW + " WHERE s.task_id = :taskId")
+                .bind("taskId", taskId)
+                .map(this::toView)
+                .all();
+    }
+
+    private SubtaskView toView(Readable row) {
+        return new SubtaskView(
+                row.get("id", UUID.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                TaskStatus.valueOf(row.get("status", String.class)),
+                row.get("created_at", LocalDateTime.class),
+                row.get("completed_at", LocalDateTime.class),
+                row.get("task_id", UUID.class),
+                row.get("task_title", String.class));
+    }
+}
@@ -0,0 +1,214 @@
+package com.ipaas.taskmanagement.repository;
+
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.projection.SubtaskCountProjection;
+import com.ipaas.taskmanagement.projection.TaskView;
+import com.ipaas.taskmanagement.search.TitleNormalizer;
+import com.ipaas.taskmanagement.specification.TaskFilterCriteria;
+import io.r2dbc.spi.Readable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking read-model repository for tasks over R2DBC. Mirrors {@link TaskQueryRepository}
+ * and applies the same {@link TaskFilterCriteria}, so both stacks return identical results.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveTaskQueryRepository {
+
+    private static final String SELECT_VIEW = "SELECT t.id, t.title, t.description, t.status, t.created_at, "
+            + "t.completed_at, u.id AS user_id, u.name AS user_name FROM tasks t JOIN users u ON u.id = t.user_id";
+    private static final String SELECT_VIEW_WITH_VERSION = "SELECT t.id, t.title, t.description, t.status, "
+            + "t.created_at, t.completed_at, t.version, u.id AS user_id, u.name AS user_name "
+            + "FROM tasks t JOIN users u ON u.id = t.user_id";
+    private static final String KEYSET_ORDER = " ORDER BY t.created_at ASC, t.id ASC";
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "t.id",
+            "title", "t.title",
+            "status", "t.status",
+            "createdAt", "t.created_at",
+            "completedAt", "t.completed_at");
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Finds a page of task views matching the criteria, narrowed to the candidate IDs when not null.
+     */
+    public Flux<TaskView> findViews(TaskFilterCriteria criteria, Collection<UUID> candidateIds, Pageable pageable) {
+        Where where = where(criteria, candidateIds);
+        StringBuilder sql = new StringBuilder(SELECT_VIEW).append(where.sql).append(orderBy(pageable.getSort()));
+        if (pageable.isPaged()) {
+            sql.append(" LIMIT ").append(pageable.getPageSize()).append(" OFFSET ").append(pageable.getOffset());
+        }
+        return where.bind(databaseClient.sql(sql.toString())).map(this::toView).all();
+    }
+
+    /**
+     * Streams every task view matching the criteria in keyset order. Rows are requested from
+     * the driver as the subscriber consumes them.
+     */
+    public Flux<TaskView> streamViews(TaskFilterCriteria criteria, Collection<UUID> candidateIds) {
+        Where where = where(criteria, candidateIds);
+        String sql = SELECT_VIEW + where.sql + KEYSET_ORDER;
+        return where.bind(databaseClient.sql(sql)).map(this::toView).all();
+    }
+
+    public Mono<Long> count(TaskFilterCriteria criteria, Collection<UUID> candidateIds) {
+        Where where = where(criteria, candidateIds);
+        String sql = "SELECT COUNT(*) FROM tasks t" + where.sql;
+        return where.bind(databaseClient.sql(sql)).map(row -> row.get(0, Long.class)).one();
+    }
+
+    /**
+     * Finds a task with its row version, like the single-task lookup of the JPA stack.
+     */
+    public Mono<TaskView> findView(UUID id) {
+        return databaseClient.sql(SELECT_VIEW_WITH_VERSION + " WHERE t.id = :id")
+                .bind("id", id)
+                .map(row -> toVersionedView(row))
+                .one();
+    }
+
+    public Mono<Boolean> existsById(UUID id) {
+        return databaseClient.sql("SELECT COUNT(*) FROM tasks WHERE id = :id")
+                .bind("id", id)
+                .map(row -> row.get(0, Long.class) > 0)
+                .one();
+    }
+
+    /**
+     * Counts total and completed subtasks for several tasks in a single grouped query.
+     * Tasks without subtasks are not present in the result.
+     */
+    public Flux<SubtaskCountProjection> countSubtasks(Collection<UUID> taskIds) {
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        String ids = inList("taskId", taskIds, bindings);
+        String sql = "SELECT s.task_id, COUNT(*) AS total_subtasks, "
+                + "SUM(CASE WHEN s.status = 'COMPLETED' THEN 1 ELSE 0 END) AS completed_subtasks "
+                + "FROM subtasks s WHERE s.task_id IN (" + ids + ") GROUP BY s.task_id";
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+        return spec.map(row -> (SubtaskCountProjection) new SubtaskCounts(
+                        row.get("task_id", UUID.class),
+                        row.get("total_subtasks", Number.class).longValue(),
+                        row.get("completed_subtasks", Number.class).longValue()))
+                .all();
+    }
+
+    private TaskView toView(Readable row) {
+        return view(row, null);
+    }
+
+    private TaskView toVersionedView(Readable row) {
+        return view(row, row.get("version", Long.class));
+    }
+
+    private TaskView view(Readable row, Long version) {
+        return new TaskView(
+                row.get("id", UUID.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                TaskStatus.valueOf(row.get("status", String.class)),
+                row.get("created_at", LocalDateTime.class),
+                row.get("completed_at", LocalDateTime.class),
+                row.get("user_id", UUID.class),
+                row.get("user_name", String.class),
+                version);
+    }
+
+    /**
+     * Translates the criteria into the same predicates as {@code TaskSpecification.withFilters}
+     * and {@code TaskSpecification.idIn}.
+     */
+    private Where where(TaskFilterCriteria criteria, Collection<UUID> candidateIds) {
+        List<String> clauses = new ArrayList<>();
+        Map<String, Object> bindings = new LinkedHashMap<>();
+
+        if (criteria.getStatus() != null) {
+            clauses.add("t.status = :status");
+            bindings.put("status", criteria.getStatus().name());
+        }
+        if (criteria.getUserId() != null) {
+            clauses.add("t.user_id = :userId");
+            bindings.put("userId", criteria.getUserId());
+        }
+        if (criteria.getTitlePattern() != null) {
+            clauses.add("t.normalized_title LIKE :titlePattern ESCAPE '" + TitleNormalizer.LIKE_ESCAPE + "'");
+            bindings.put("titlePattern", criteria.getTitlePattern());
+        }
+        if (candidateIds != null) {
+            // An empty candidate set matches nothing
+            clauses.add(candidateIds.isEmpty() ? "1 = 0" : "t.id IN (" + inList("id", candidateIds, bindings) + ")");
+        }
+
+        String sql = clauses.isEmpty() ? "" : " WHERE " + String.join(" AND ", clauses);
+        return new Where(sql, bindings);
+    }
+
+    private String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            // Without an order LIMIT/OFFSET pages are not stable, so fall back to the keyset order
+            return KEYSET_ORDER;
+        }
+        return sort.stream()
+                .map(order -> {
+                    String column = SORT_COLUMNS.get(order.getProperty());
+                    if (column == null) {
+                        throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+                    }
+                    return column + (order.isAscending() ? " ASC" : " DESC");
+                })
+                .collect(Collectors.joining(", ", " ORDER BY ", ""));
+    }
+
+    private static String inList(String prefix, Collection<UUID> ids, Map<String, Object> bindings) {
+        List<String> parameters = new ArrayList<>(ids.size());
+        int i = 0;
+        for (UUID id : ids) {
+            String name = prefix + i++;
+            parameters.add(":" + name);
+            bindings.put(name, id);
+        }
+        return String.join(", ", parameters);
+    }
+
+    private record Where(String sql, Map<String, Object> bindings) {
+
+        DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec) {
+            for (Map.Entry<String, Object> binding : bindings.entrySet()) {
+                spec = spec.bind(binding.getKey(), binding.getValue());
+            }
+            return spec;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class SubtaskCounts implements SubtaskCountProjection {
+
+        private final UUID taskId;
+        private final long totalSubtasks;
+        private final long completedSubtasks;
+    }
+}
@@ -0,0 +1,102 @@
+package com.ipaas.taskmanagement.repository;
+
+import com.ipaas.taskmanagement.entity.Subtask;
+import com.ipaas.taskmanagement.entity.Task;
+import com.ipaas.taskmanagement.projection.SubtaskView;
+import com.ipaas.taskmanagement.specification.KeysetSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Read-model repository for subtasks. Results are {@link SubtaskView} projections built in a
+ * single query with the parent task joined, so no entities enter the persistence context
+ * and no lazy association is loaded per row.
+ */
+@Repository
+public class SubtaskQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Finds a page of subtask views matching the specification.
+     */
+    public Page<SubtaskView> findViews(Specification<Subtask> spec, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SubtaskView> query = criteriaBuilder.createQuery(SubtaskView.class);
+        Root<Subtask> root = query.from(Subtask.class);
+        selectView(query, root, criteriaBuilder);
+        applySpecification(spec, query, root, criteriaBuilder);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+
+        TypedQuery<SubtaskView> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(spec));
+    }
+
+    /**
+     * Finds up to {@code limit} subtask views matching the specification in keyset order,
+     * without issuing a count query.
+     */
+    public List<SubtaskView> findSlice(Specification<Subtask> spec, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SubtaskView> query = criteriaBuilder.createQuery(SubtaskView.class);
+        Root<Subtask> root = query.from(Subtask.class);
+        selectView(query, root, criteriaBuilder);
+        applySpecification(spec, query, root, criteriaBuilder);
+        query.orderBy(KeysetSpecification.orderBy(root, criteriaBuilder));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private long count(Specification<Subtask> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Subtask> root = query.from(Subtask.class);
+        query.select(criteriaBuilder.count(root));
+        applySpecification(spec, query, root, criteriaBuilder);
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private void selectView(CriteriaQuery<SubtaskView> query, Root<Subtask> root, CriteriaBuilder criteriaBuilder) {
+        Join<Subtask, Task> task = root.join("task");
+        query.select(criteriaBuilder.construct(SubtaskView.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("status"),
+                root.get("createdAt"),
+                root.get("completedAt"),
+                task.get("id"),
+                task.get("title")));
+    }
+
+    private void applySpecification(Specification<Subtask> spec, CriteriaQuery<?> query,
+                                    Root<Subtask> root, CriteriaBuilder criteriaBuilder) {
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
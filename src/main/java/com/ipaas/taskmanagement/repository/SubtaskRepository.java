@@ -2,6 +2,7 @@ package com.ipaas.taskmanagement.repository;
 
 import com.ipaas.taskmanagement.entity.Subtask;
 import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.projection.SubtaskCountProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -39,6 +41,16 @@ public interface SubtaskRepository extends JpaRepository<Subtask, UUID>, JpaSpec
      */
     long countByTaskIdAndStatus(UUID taskId, TaskStatus status);
 
+    /**
+     * Counts subtasks by task ID and status, leaving out the given subtasks.
+     */
+    long countByTaskIdAndStatusAndIdNotIn(UUID taskId, TaskStatus status, Collection<UUID> ids);
+
+    /**
+     * Whether a task has a subtask with another status than the given one, leaving out the given subtasks.
+     */
+    boolean existsByTaskIdAndStatusNotAndIdNotIn(UUID taskId, TaskStatus status, Collection<UUID> ids);
+
     /**
      * Checks if all subtasks of a task are completed.
      */
@@ -46,4 +58,19 @@ public interface SubtaskRepository extends JpaRepository<Subtask, UUID>, JpaSpec
            "FROM Subtask s WHERE s.task.id = :taskId AND s.status != 'COMPLETED'")
     boolean areAllSubtasksCompleted(@Param("taskId") UUID taskId);
 
+    /**
+     * Counts total and completed subtasks for several tasks in a single grouped query.
+     * Tasks without subtasks are not present in the result.
+     */
+    @Query("SELECT s.task.id AS taskId, COUNT(s) AS totalSubtasks, " +
+           "SUM(CASE WHEN s.status = 'COMPLETED' THEN 1 ELSE 0 END) AS completedSubtasks " +
+           "FROM Subtask s WHERE s.task.id IN :taskIds GROUP BY s.task.id")
+    List<SubtaskCountProjection> countByTaskIds(@Param("taskIds") Collection<UUID> taskIds);
+
+    /**
+     * Finds which of the given tasks have at least one subtask that is not completed.
+     */
+    @Query("SELECT DISTINCT s.task.id FROM Subtask s WHERE s.task.id IN :taskIds AND s.status != 'COMPLETED'")
+    List<UUID> findTaskIdsWithPendingSubtasks(@Param("taskIds") Collection<UUID> taskIds);
+
 }
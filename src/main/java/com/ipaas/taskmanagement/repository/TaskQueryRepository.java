@@ -0,0 +1,146 @@
+package com.ipaas.taskmanagement.repository;
+
+import com.ipaas.taskmanagement.entity.Subtask;
+import com.ipaas.taskmanagement.entity.Task;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.entity.User;
+import com.ipaas.taskmanagement.projection.TaskExportRow;
+import com.ipaas.taskmanagement.projection.TaskView;
+import com.ipaas.taskmanagement.specification.KeysetSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Read-model repository for tasks. Results are {@link TaskView} projections built in a
+ * single query with the user joined, so no entities enter the persistence context
+ * and no lazy association is loaded per row.
+ */
+@Repository
+public class TaskQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Finds a page of task views matching the specification.
+     */
+    public Page<TaskView> findViews(Specification<Task> spec, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskView> query = criteriaBuilder.createQuery(TaskView.class);
+        Root<Task> root = query.from(Task.class);
+        selectView(query, root, criteriaBuilder);
+        applySpecification(spec, query, root, criteriaBuilder);
+        query.orderBy(pageable.getSort().isUnsorted()
+                ? KeysetSpecification.orderBy(root, criteriaBuilder)
+                : QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+
+        TypedQuery<TaskView> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(spec));
+    }
+
+    /**
+     * Finds up to {@code limit} task views matching the specification in keyset order,
+     * without issuing a count query.
+     */
+    public List<TaskView> findSlice(Specification<Task> spec, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskView> query = criteriaBuilder.createQuery(TaskView.class);
+        Root<Task> root = query.from(Task.class);
+        selectView(query, root, criteriaBuilder);
+        applySpecification(spec, query, root, criteriaBuilder);
+        query.orderBy(KeysetSpecification.orderBy(root, criteriaBuilder));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Streams export rows matching the specification in keyset order over a forward-only cursor.
+     * Subtask counts are aggregated in the same statement. Must be called inside a transaction
+     * (PostgreSQL only honours the fetch size without autocommit) and the stream must be closed.
+     */
+    public Stream<TaskExportRow> streamExportRows(Specification<Task> spec, int fetchSize) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskExportRow> query = criteriaBuilder.createQuery(TaskExportRow.class);
+        Root<Task> root = query.from(Task.class);
+        Join<Task, User> user = root.join("user");
+        Join<Task, Subtask> subtask = root.join("subtasks", JoinType.LEFT);
+
+        query.select(criteriaBuilder.construct(TaskExportRow.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("status"),
+                root.get("createdAt"),
+                root.get("completedAt"),
+                user.get("id"),
+                user.get("name"),
+                criteriaBuilder.count(subtask.get("id")),
+                criteriaBuilder.sumAsLong(criteriaBuilder.<Integer>selectCase()
+                        .when(criteriaBuilder.equal(subtask.get("status"), TaskStatus.COMPLETED), 1)
+                        .otherwise(0))));
+        applySpecification(spec, query, root, criteriaBuilder);
+        query.groupBy(root.get("id"), root.get("title"), root.get("description"), root.get("status"),
+                root.get("createdAt"), root.get("completedAt"), user.get("id"), user.get("name"));
+        query.orderBy(KeysetSpecification.orderBy(root, criteriaBuilder));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private long count(Specification<Task> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(criteriaBuilder.count(root));
+        applySpecification(spec, query, root, criteriaBuilder);
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private void selectView(CriteriaQuery<TaskView> query, Root<Task> root, CriteriaBuilder criteriaBuilder) {
+        Join<Task, User> user = root.join("user");
+        query.select(criteriaBuilder.construct(TaskView.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("status"),
+                root.get("createdAt"),
+                root.get("completedAt"),
+                user.get("id"),
+                user.get("name")));
+    }
+
+    private void applySpecification(Specification<Task> spec, CriteriaQuery<?> query,
+                                    Root<Task> root, CriteriaBuilder criteriaBuilder) {
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
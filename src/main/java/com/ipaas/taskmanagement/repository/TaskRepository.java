@@ -2,15 +2,23 @@ package com.ipaas.taskmanagement.repository;
 
 import com.ipaas.taskmanagement.entity.Task;
 import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.projection.TaskOwnerProjection;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -19,4 +27,56 @@ import java.util.UUID;
 @Repository
 public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task> {
 
+    /**
+     * Loads a task with its user in one query, so it can be cached detached.
+     */
+    @EntityGraph(attributePaths = "user")
+    Optional<Task> findWithUserById(UUID id);
+
+    /**
+     * Finds the owners of the given tasks; IDs that do not exist are not present in the result.
+     */
+    @Query("SELECT t.id AS taskId, t.user.id AS userId FROM Task t WHERE t.id IN :ids")
+    List<TaskOwnerProjection> findOwnersByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Locks the given tasks until the end of the transaction and returns the IDs that exist.
+     * Rows are locked in ID order, so concurrent bulk updates of overlapping sets cannot deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids ORDER BY t.id")
+    List<UUID> lockAllById(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Completes the given tasks in one statement, skipping tasks that have pending subtasks.
+     * The guard alone does not see subtasks committed after the statement's snapshot; callers
+     * lock the tasks with {@link #lockAllById} before checking their subtasks.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = com.ipaas.taskmanagement.entity.TaskStatus.COMPLETED, t.completedAt = :completedAt, " +
+           "t.version = t.version + 1 " +
+           "WHERE t.id IN :ids AND NOT EXISTS " +
+           "(SELECT s.id FROM Subtask s WHERE s.task = t AND s.status != 'COMPLETED')")
+    int completeAll(@Param("ids") Collection<UUID> ids, @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * Moves the given tasks to a non-completed status in one statement.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.completedAt = NULL, t.version = t.version + 1 WHERE t.id IN :ids")
+    int reopenAll(@Param("ids") Collection<UUID> ids, @Param("status") TaskStatus status);
+
+    /**
+     * Reads only the version of a task, to answer conditional requests without loading it.
+     */
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    /**
+     * Bumps the version of a task whose subtasks changed, provided it still has the version
+     * the caller read. Returns 0 when the task was written concurrently.
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.version = t.version + 1 WHERE t.id = :id AND t.version = :version")
+    int incrementVersion(@Param("id") UUID id, @Param("version") long version);
 }
@@ -2,6 +2,8 @@ package com.ipaas.taskmanagement.repository;
 
 import com.ipaas.taskmanagement.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -22,4 +24,10 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      * Checks if a user exists by email.
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Reads only the version of a user, to answer conditional requests without loading it.
+     */
+    @Query("SELECT u.version FROM User u WHERE u.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
 }
@@ -0,0 +1,149 @@
+package com.ipaas.taskmanagement.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram inverted index over normalized titles. Documents get sequential
+ * int IDs, so every posting list is sorted and candidates are found by intersecting
+ * the posting lists of the term's trigrams.
+ */
+class NgramIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final List<UUID> documents = new ArrayList<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Adds a document with an already normalized title.
+     */
+    void add(UUID id, String normalizedTitle) {
+        Set<String> grams = grams(normalizedTitle);
+
+        lock.writeLock().lock();
+        try {
+            int document = documents.size();
+            documents.add(id);
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, key -> new Postings()).add(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the IDs of documents containing every trigram of the normalized term,
+     * or null when the term is too short or not selective enough: the rarest trigram
+     * appears in more than {@code scanThreshold} documents, or more than
+     * {@code maxCandidates} documents survive the intersection.
+     */
+    Set<UUID> candidates(String normalizedTerm, int maxCandidates, int scanThreshold) {
+        Set<String> grams = grams(normalizedTerm);
+        if (grams.isEmpty()) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                Postings list = postings.get(gram);
+                if (list == null) {
+                    return Collections.emptySet();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(Postings::size));
+            if (lists.get(0).size() > scanThreshold) {
+                return null;
+            }
+
+            Set<UUID> result = new HashSet<>();
+            Postings rarest = lists.get(0);
+            for (int i = 0; i < rarest.size(); i++) {
+                int document = rarest.get(i);
+                if (containedInAll(document, lists)) {
+                    if (result.size() == maxCandidates) {
+                        return null;
+                    }
+                    result.add(documents.get(document));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean containedInAll(int document, List<Postings> lists) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(document)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static Set<String> grams(String text) {
+        if (text == null || text.length() < GRAM_LENGTH) {
+            return Collections.emptySet();
+        }
+
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Growable sorted int array of document IDs.
+     */
+    private static final class Postings {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean contains(int value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.ipaas.taskmanagement.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-process trigram index used on databases without trigram index support (H2).
+ * It is loaded from the database on startup and kept current as tasks and subtasks
+ * are created; until it is loaded every search falls back to the database scan.
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.title.index", havingValue = "ngram", matchIfMissing = true)
+@Slf4j
+public class NgramTitleSearchIndex implements TitleSearchIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxCandidates;
+    private final int scanThreshold;
+
+    private volatile NgramIndex tasks;
+    private volatile NgramIndex subtasks;
+    private volatile NgramIndex loadingTasks;
+    private volatile NgramIndex loadingSubtasks;
+
+    public NgramTitleSearchIndex(JdbcTemplate jdbcTemplate,
+                                 @Value("${app.search.title.max-candidates:1000}") int maxCandidates,
+                                 @Value("${app.search.title.scan-threshold:50000}") int scanThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxCandidates = maxCandidates;
+        this.scanThreshold = scanThreshold;
+    }
+
+    /**
+     * Loads both indexes from the normalized title columns.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+
+        loadingTasks = new NgramIndex();
+        loadingSubtasks = new NgramIndex();
+        load("SELECT id, normalized_title FROM tasks", loadingTasks);
+        load("SELECT id, normalized_title FROM subtasks", loadingSubtasks);
+
+        tasks = loadingTasks;
+        subtasks = loadingSubtasks;
+        loadingTasks = null;
+        loadingSubtasks = null;
+
+        log.info("Title n-gram index loaded: {} tasks, {} subtasks in {} ms",
+                tasks.size(), subtasks.size(), System.currentTimeMillis() - start);
+    }
+
+    @Override
+    public Optional<Set<UUID>> findTaskCandidates(String term) {
+        return candidates(tasks, term);
+    }
+
+    @Override
+    public Optional<Set<UUID>> findSubtaskCandidates(String term) {
+        return candidates(subtasks, term);
+    }
+
+    @Override
+    public void indexTask(UUID id, String title) {
+        add(id, title, tasks, loadingTasks);
+    }
+
+    @Override
+    public void indexSubtask(UUID id, String title) {
+        add(id, title, subtasks, loadingSubtasks);
+    }
+
+    private Optional<Set<UUID>> candidates(NgramIndex index, String term) {
+        if (index == null || term == null || term.trim().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(index.candidates(TitleNormalizer.normalize(term), maxCandidates, scanThreshold));
+    }
+
+    private void add(UUID id, String title, NgramIndex active, NgramIndex loading) {
+        String normalizedTitle = TitleNormalizer.normalize(title);
+        if (active != null) {
+            active.add(id, normalizedTitle);
+        }
+        if (loading != null) {
+            loading.add(id, normalizedTitle);
+        }
+    }
+
+    private void load(String sql, NgramIndex index) {
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs ->
+                index.add(rs.getObject(1, UUID.class), rs.getString(2)));
+    }
+}
@@ -0,0 +1,43 @@
+package com.ipaas.taskmanagement.search;
+
+import java.util.Locale;
+
+/**
+ * Normalizes titles and search terms so that stored values, database indexes and
+ * the in-process n-gram index all agree on the same representation.
+ */
+public final class TitleNormalizer {
+
+    /**
+     * Escape character of the patterns built by {@link #containsPattern}.
+     */
+    public static final char LIKE_ESCAPE = '\\';
+
+    private TitleNormalizer() {
+    }
+
+    /**
+     * Returns the lower-cased form of the text, or null for null input.
+     */
+    public static String normalize(String text) {
+        return text == null ? null : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns a {@code LIKE} pattern matching normalized titles that contain the term. The
+     * wildcards {@code %} and {@code _} in the term are escaped with {@link #LIKE_ESCAPE}, so
+     * they match literally, as they do in the n-gram index.
+     */
+    public static String containsPattern(String term) {
+        String normalized = normalize(term);
+        StringBuilder pattern = new StringBuilder(normalized.length() + 2).append('%');
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+}
@@ -0,0 +1,34 @@
+package com.ipaas.taskmanagement.search;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Index used to narrow substring title searches before the database applies the
+ * {@code LIKE} predicate on the normalized title column.
+ */
+public interface TitleSearchIndex {
+
+    /**
+     * Returns a superset of the IDs of tasks whose title contains the term, or empty
+     * when the database should evaluate the predicate on its own (short or unselective
+     * terms, or when the database index already serves the query).
+     */
+    Optional<Set<UUID>> findTaskCandidates(String term);
+
+    /**
+     * Same as {@link #findTaskCandidates(String)} for subtasks.
+     */
+    Optional<Set<UUID>> findSubtaskCandidates(String term);
+
+    /**
+     * Registers a newly created task title.
+     */
+    void indexTask(UUID id, String title);
+
+    /**
+     * Registers a newly created subtask title.
+     */
+    void indexSubtask(UUID id, String title);
+}
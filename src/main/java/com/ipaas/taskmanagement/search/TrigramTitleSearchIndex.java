@@ -0,0 +1,39 @@
+package com.ipaas.taskmanagement.search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Title search backed by PostgreSQL pg_trgm GIN indexes on the normalized title columns.
+ * The database plans the {@code LIKE} predicate itself, including the fallback to a
+ * sequential scan for terms shorter than a trigram, so no candidates are computed here.
+ * The extension and indexes are created by the Flyway migrations in {@code db/migration/postgresql}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.title.index", havingValue = "trigram")
+public class TrigramTitleSearchIndex implements TitleSearchIndex {
+
+    @Override
+    public Optional<Set<UUID>> findTaskCandidates(String term) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Set<UUID>> findSubtaskCandidates(String term) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void indexTask(UUID id, String title) {
+        // Maintained by the database index
+    }
+
+    @Override
+    public void indexSubtask(UUID id, String title) {
+        // Maintained by the database index
+    }
+}
@@ -0,0 +1,118 @@
+package com.ipaas.taskmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ipaas.taskmanagement.dto.ImportResultDTO;
+import com.ipaas.taskmanagement.importer.ImportChunkLoader;
+import com.ipaas.taskmanagement.importer.ImportEntity;
+import com.ipaas.taskmanagement.importer.ImportErrorWriter;
+import com.ipaas.taskmanagement.importer.ImportFormat;
+import com.ipaas.taskmanagement.importer.ImportRecord;
+import com.ipaas.taskmanagement.importer.ImportRecordReader;
+import com.ipaas.taskmanagement.importer.ImportRejection;
+import com.ipaas.taskmanagement.importer.ImportRow;
+import com.ipaas.taskmanagement.importer.ImportRowParser;
+import com.ipaas.taskmanagement.importer.InvalidImportRowException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Service for bulk imports of users, tasks and subtasks. Records are streamed from the input,
+ * validated one by one and written in chunks, each in its own transaction, so a bad row or a
+ * failed chunk is reported in the error file instead of aborting the whole load.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ImportService {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final ImportRowParser rowParser;
+    private final ImportChunkLoader chunkLoader;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.import.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${app.import.error-dir:${java.io.tmpdir}/task-import-errors}")
+    private String errorDirectory;
+
+    /**
+     * Imports every record of the input into the entity's table.
+     */
+    public ImportResultDTO importRecords(ImportEntity entity, ImportFormat format, InputStream inputStream)
+            throws IOException {
+        log.info("Importing {} from {}", entity, format);
+
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        Path errorPath = Path.of(errorDirectory, entity.name().toLowerCase(Locale.ROOT) + "-"
+                + now.format(FILE_TIMESTAMP) + ".errors.ndjson");
+
+        long total = 0;
+        long rejected = 0;
+        try (ImportRecordReader reader = ImportRecordReader.create(format, inputStream, objectMapper);
+             ImportErrorWriter errors = new ImportErrorWriter(errorPath, objectMapper)) {
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                total++;
+                try {
+                    chunk.add(rowParser.parse(entity, record, now));
+                } catch (InvalidImportRowException e) {
+                    errors.write(new ImportRejection(record, e.getMessage()));
+                    rejected++;
+                }
+                if (chunk.size() == chunkSize) {
+                    rejected += loadChunk(entity, chunk, errors);
+                    chunk.clear();
+                }
+            }
+            rejected += loadChunk(entity, chunk, errors);
+
+            long elapsedNanos = System.nanoTime() - start;
+            long imported = total - rejected;
+            double rowsPerSecond = imported / Math.max(elapsedNanos / 1e9, 1e-3);
+            Path errorFile = errors.getPath();
+            log.info("Imported {} of {} {} in {} ms ({} rows/s), {} rejected",
+                    imported, total, entity, elapsedNanos / 1_000_000, Math.round(rowsPerSecond), rejected);
+
+            return new ImportResultDTO(entity, total, imported, rejected, elapsedNanos / 1_000_000,
+                    rowsPerSecond, errorFile == null ? null : errorFile.toString());
+        }
+    }
+
+    /**
+     * Writes a chunk and returns the number of rejected rows. If the chunk fails as a whole
+     * it is rolled back and every row in it is rejected with the failure.
+     */
+    private long loadChunk(ImportEntity entity, List<ImportRow> chunk, ImportErrorWriter errors) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        List<ImportRejection> rejections;
+        try {
+            rejections = chunkLoader.load(entity, chunk);
+        } catch (RuntimeException e) {
+            log.warn("Import chunk of {} {} rolled back: {}", chunk.size(), entity, e.getMessage());
+            rejections = chunk.stream()
+                    .map(row -> new ImportRejection(row.source(), "Chunk rolled back: " + e.getMessage()))
+                    .toList();
+        }
+        for (ImportRejection rejection : rejections) {
+            errors.write(rejection);
+        }
+        return rejections.size();
+    }
+}
@@ -0,0 +1,143 @@
+package com.ipaas.taskmanagement.service;
+
+import com.ipaas.taskmanagement.dto.SubtaskDTO;
+import com.ipaas.taskmanagement.dto.TaskDTO;
+import com.ipaas.taskmanagement.exception.TaskNotFoundException;
+import com.ipaas.taskmanagement.form.TaskFilterForm;
+import com.ipaas.taskmanagement.mapper.SubtaskMapper;
+import com.ipaas.taskmanagement.mapper.TaskMapper;
+import com.ipaas.taskmanagement.projection.SubtaskCountProjection;
+import com.ipaas.taskmanagement.projection.TaskView;
+import com.ipaas.taskmanagement.repository.ReactiveSubtaskQueryRepository;
+import com.ipaas.taskmanagement.repository.ReactiveTaskQueryRepository;
+import com.ipaas.taskmanagement.search.TitleSearchIndex;
+import com.ipaas.taskmanagement.specification.TaskFilterCriteria;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking read service for tasks and subtasks. Produces the same results as the
+ * corresponding {@link TaskService} and {@link SubtaskService} reads.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveTaskService {
+
+    private static final int STREAM_BATCH_SIZE = 100;
+
+    private final ReactiveTaskQueryRepository taskQueryRepository;
+    private final ReactiveSubtaskQueryRepository subtaskQueryRepository;
+    private final TaskMapper taskMapper;
+    private final SubtaskMapper subtaskMapper;
+    private final TitleSearchIndex titleSearchIndex;
+
+    /**
+     * Lists tasks with filters and pagination.
+     */
+    public Mono<Page<TaskDTO>> findTasks(TaskFilterForm filters, Pageable pageable) {
+        log.info("Reactively finding tasks with filters: {}", filters);
+
+        TaskFilterCriteria criteria = TaskFilterCriteria.from(filters);
+        Collection<UUID> candidates = titleCandidates(filters);
+
+        return taskQueryRepository.findViews(criteria, candidates, pageable)
+                .collectList()
+                .flatMap(views -> withCounts(views)
+                        .zipWith(total(criteria, candidates, pageable, views.size())))
+                .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+    /**
+     * Streams every task matching the filters in (createdAt, id) order. Subtask counts are
+     * loaded per batch, and rows are only read as fast as the client consumes them.
+     */
+    public Flux<TaskDTO> streamTasks(TaskFilterForm filters) {
+        log.info("Reactively streaming tasks with filters: {}", filters);
+
+        return taskQueryRepository.streamViews(TaskFilterCriteria.from(filters), titleCandidates(filters))
+                .buffer(STREAM_BATCH_SIZE)
+                .concatMap(this::withCounts)
+                .flatMapIterable(tasks -> tasks);
+    }
+
+    /**
+     * Finds a task by ID.
+     */
+    public Mono<TaskDTO> findById(UUID id) {
+        log.info("Reactively finding task by ID: {}", id);
+
+        return taskQueryRepository.findView(id)
+                .switchIfEmpty(Mono.error(() -> new TaskNotFoundException("Task not found with ID: " + id)))
+                .flatMap(view -> withCounts(List.of(view)))
+                .map(tasks -> tasks.get(0));
+    }
+
+    /**
+     * Lists the subtasks of a task.
+     */
+    public Flux<SubtaskDTO> findSubtasksByTaskId(UUID taskId) {
+        log.info("Reactively finding subtasks by task ID: {}", taskId);
+
+        return taskQueryRepository.existsById(taskId)
+                .flatMapMany(exists -> exists
+                        ? subtaskQueryRepository.findViewsByTaskId(taskId).map(subtaskMapper::toDTO)
+                        : Flux.<SubtaskDTO>error(new TaskNotFoundException("Task not found with ID: " + taskId)));
+    }
+
+    private Collection<UUID> titleCandidates(TaskFilterForm filters) {
+        return titleSearchIndex.findTaskCandidates(filters.getTitle()).orElse(null);
+    }
+
+    /**
+     * Issues the count query only when the page does not reveal the total, like
+     * {@code PageableExecutionUtils}.
+     */
+    private Mono<Long> total(TaskFilterCriteria criteria, Collection<UUID> candidates, Pageable pageable, int contentSize) {
+        if (pageable.isUnpaged() || pageable.getOffset() == 0) {
+            if (pageable.isUnpaged() || pageable.getPageSize() > contentSize) {
+                return Mono.just((long) contentSize);
+            }
+            return taskQueryRepository.count(criteria, candidates);
+        }
+        if (contentSize != 0 && pageable.getPageSize() > contentSize) {
+            return Mono.just(pageable.getOffset() + contentSize);
+        }
+        return taskQueryRepository.count(criteria, candidates);
+    }
+
+    /**
+     * Loads subtask counts for a batch of tasks with one grouped query.
+     */
+    private Mono<List<TaskDTO>> withCounts(List<TaskView> views) {
+        if (views.isEmpty()) {
+            return Mono.just(List.of());
+        }
+
+        List<UUID> taskIds = views.stream()
+                .map(TaskView::getId)
+                .collect(Collectors.toList());
+
+        return taskQueryRepository.countSubtasks(taskIds)
+                .collectMap(SubtaskCountProjection::getTaskId)
+                .map(counts -> toDTOs(views, counts));
+    }
+
+    private List<TaskDTO> toDTOs(List<TaskView> views, Map<UUID, SubtaskCountProjection> counts) {
+        return views.stream()
+                .map(view -> taskMapper.toDTO(view, counts.get(view.getId())))
+                .collect(Collectors.toList());
+    }
+}
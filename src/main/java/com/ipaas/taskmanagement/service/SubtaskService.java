@@ -1,25 +1,39 @@
 package com.ipaas.taskmanagement.service;
 
+import com.ipaas.taskmanagement.cache.ResponseCache;
+import com.ipaas.taskmanagement.cache.ResponseCacheKeys;
+import com.ipaas.taskmanagement.concurrency.RetryOnConflict;
+import com.ipaas.taskmanagement.dto.CursorPageDTO;
 import com.ipaas.taskmanagement.dto.SubtaskDTO;
 import com.ipaas.taskmanagement.entity.Subtask;
 import com.ipaas.taskmanagement.entity.Task;
 import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.events.TaskEventPublisher;
+import com.ipaas.taskmanagement.events.TaskEventType;
 import com.ipaas.taskmanagement.exception.SubtaskNotFoundException;
 import com.ipaas.taskmanagement.form.CreateSubtaskForm;
 import com.ipaas.taskmanagement.form.UpdateTaskStatusForm;
 import com.ipaas.taskmanagement.mapper.SubtaskMapper;
+import com.ipaas.taskmanagement.pagination.KeysetCursor;
+import com.ipaas.taskmanagement.projection.SubtaskView;
+import com.ipaas.taskmanagement.repository.SubtaskQueryRepository;
 import com.ipaas.taskmanagement.repository.SubtaskRepository;
+import com.ipaas.taskmanagement.search.TitleSearchIndex;
+import com.ipaas.taskmanagement.specification.KeysetSpecification;
 import com.ipaas.taskmanagement.specification.SubtaskSpecification;
+import com.ipaas.taskmanagement.writebehind.SubtaskStatusBuffer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -32,19 +46,33 @@ import java.util.stream.Collectors;
 @Transactional
 public class SubtaskService {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final SubtaskRepository subtaskRepository;
+    private final SubtaskQueryRepository subtaskQueryRepository;
     private final TaskService taskService;
     private final SubtaskMapper subtaskMapper;
+    private final TitleSearchIndex titleSearchIndex;
+    private final ResponseCache responseCache;
+    private final TaskEventPublisher taskEventPublisher;
+    private final SubtaskStatusBuffer subtaskStatusBuffer;
 
     /**
      * Creates a new subtask.
      */
+    @RetryOnConflict
     public SubtaskDTO createSubtask(UUID taskId, CreateSubtaskForm form) {
         log.info("Creating subtask for task ID: {}", taskId);
 
         Task task = taskService.getTaskEntity(taskId);
         Subtask subtask = subtaskMapper.toEntity(form, task);
         Subtask savedSubtask = subtaskRepository.save(subtask);
+        titleSearchIndex.indexSubtask(savedSubtask.getId(), savedSubtask.getTitle());
+        taskService.markSubtasksChanged(task);
+        // Subtask counts are part of the cached task responses
+        responseCache.invalidate(ResponseCacheKeys.taskWriteTags(taskId, task.getUser().getId()));
+        taskEventPublisher.subtaskChanged(TaskEventType.SUBTASK_CREATED, savedSubtask.getId(), taskId,
+                task.getUser().getId(), savedSubtask.getStatus());
 
         log.info("Subtask created successfully. ID: {}", savedSubtask.getId());
         return subtaskMapper.toDTO(savedSubtask);
@@ -60,7 +88,7 @@ public class SubtaskService {
         Subtask subtask = subtaskRepository.findById(id)
                 .orElseThrow(() -> new SubtaskNotFoundException("Subtask not found with ID: " + id));
 
-        return subtaskMapper.toDTO(subtask);
+        return subtaskStatusBuffer.overlay(subtaskMapper.toDTO(subtask));
     }
 
     /**
@@ -73,9 +101,11 @@ public class SubtaskService {
         // Verify task exists
         taskService.getTaskEntity(taskId);
 
-        List<Subtask> subtasks = subtaskRepository.findByTaskId(taskId);
+        Specification<Subtask> spec = SubtaskSpecification.belongsToTask(taskId);
+        List<SubtaskView> subtasks = subtaskQueryRepository.findViews(spec, Pageable.unpaged()).getContent();
         return subtasks.stream()
                 .map(subtaskMapper::toDTO)
+                .map(subtaskStatusBuffer::overlay)
                 .collect(Collectors.toList());
     }
 
@@ -89,8 +119,9 @@ public class SubtaskService {
         // Verify task exists
         taskService.getTaskEntity(taskId);
 
-        Page<Subtask> subtasks = subtaskRepository.findByTaskId(taskId, pageable);
-        return subtasks.map(subtaskMapper::toDTO);
+        Specification<Subtask> spec = SubtaskSpecification.belongsToTask(taskId);
+        Page<SubtaskView> subtasks = subtaskQueryRepository.findViews(spec, pageable);
+        return subtasks.map(subtaskMapper::toDTO).map(subtaskStatusBuffer::overlay);
     }
 
     /**
@@ -100,21 +131,72 @@ public class SubtaskService {
     public Page<SubtaskDTO> findSubtasks(UUID taskId, TaskStatus status, String title, Pageable pageable) {
         log.info("Finding subtasks with filters - Task ID: {}, Status: {}, Title: {}", taskId, status, title);
 
-        Specification<Subtask> spec = SubtaskSpecification.withFilters(taskId, status, title);
-        Page<Subtask> subtasks = subtaskRepository.findAll(spec, pageable);
+        Specification<Subtask> spec = filterSpecification(taskId, status, title);
+        Page<SubtaskView> subtasks = subtaskQueryRepository.findViews(spec, pageable);
 
-        return subtasks.map(subtaskMapper::toDTO);
+        return subtasks.map(subtaskMapper::toDTO).map(subtaskStatusBuffer::overlay);
+    }
+
+    /**
+     * Lists subtasks with filters using keyset pagination ordered by (createdAt, id).
+     * No count query is issued, so the cost is proportional to the page size.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<SubtaskDTO> scrollSubtasks(UUID taskId, TaskStatus status, String title, String after, int size) {
+        log.info("Scrolling subtasks with filters - Task ID: {}, Status: {}, Title: {} after cursor: {}",
+                taskId, status, title, after);
+
+        int pageSize = Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+        Specification<Subtask> spec = filterSpecification(taskId, status, title)
+                .and(KeysetSpecification.after(KeysetCursor.decode(after)));
+
+        List<SubtaskView> rows = subtaskQueryRepository.findSlice(spec, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<SubtaskView> subtasks = hasNext ? rows.subList(0, pageSize) : rows;
+
+        List<SubtaskDTO> content = subtasks.stream()
+                .map(subtaskMapper::toDTO)
+                .map(subtaskStatusBuffer::overlay)
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            SubtaskView last = subtasks.get(subtasks.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPageDTO<>(content, pageSize, hasNext, nextCursor);
+    }
+
+    /**
+     * Buffers a subtask status update when write-behind is enabled
+     * ({@code app.subtasks.status-writes=write-behind}); the update is written later, in a batch.
+     * Runs outside a transaction, so an acknowledged update holds no connection.
+     *
+     * @return the updated subtask, or empty when updates are written directly
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<SubtaskDTO> bufferStatus(UUID id, UpdateTaskStatusForm form) {
+        Optional<SubtaskDTO> buffered = subtaskStatusBuffer.buffer(id, form.getStatus());
+        buffered.ifPresent(subtask -> {
+            // Cached task responses must not hide the update from the client that made it
+            Task task = taskService.getTaskEntity(subtask.getTaskId());
+            responseCache.invalidate(ResponseCacheKeys.taskWriteTags(task.getId(), task.getUser().getId()));
+        });
+        return buffered;
     }
 
     /**
      * Updates subtask status.
      */
+    @RetryOnConflict
     public SubtaskDTO updateStatus(UUID id, UpdateTaskStatusForm form) {
         log.info("Updating subtask status. ID: {} to {}", id, form.getStatus());
 
         Subtask subtask = subtaskRepository.findById(id)
                 .orElseThrow(() -> new SubtaskNotFoundException("Subtask not found with ID: " + id));
 
+        Task task = taskService.getTaskEntity(subtask.getTask().getId());
+
         if (form.getStatus() == TaskStatus.COMPLETED) {
             subtask.setCompletedAt(LocalDateTime.now());
         } else if (subtask.getStatus() == TaskStatus.COMPLETED && form.getStatus() != TaskStatus.COMPLETED) {
@@ -124,7 +206,23 @@ public class SubtaskService {
         subtask.setStatus(form.getStatus());
         Subtask savedSubtask = subtaskRepository.save(subtask);
 
+        taskService.markSubtasksChanged(task);
+        responseCache.invalidate(ResponseCacheKeys.taskWriteTags(task.getId(), task.getUser().getId()));
+        taskEventPublisher.subtaskChanged(TaskEventType.SUBTASK_STATUS_CHANGED, savedSubtask.getId(), task.getId(),
+                task.getUser().getId(), savedSubtask.getStatus());
+
         log.info("Subtask status updated successfully");
         return subtaskMapper.toDTO(savedSubtask);
     }
+
+    /**
+     * Builds the filter specification, narrowed to title search candidates when the
+     * title index can serve the term.
+     */
+    private Specification<Subtask> filterSpecification(UUID taskId, TaskStatus status, String title) {
+        Specification<Subtask> spec = SubtaskSpecification.withFilters(taskId, status, title);
+        return titleSearchIndex.findSubtaskCandidates(title)
+                .map(ids -> spec.and(SubtaskSpecification.idIn(ids)))
+                .orElse(spec);
+    }
 }
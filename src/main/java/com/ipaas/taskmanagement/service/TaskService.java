@@ -1,28 +1,69 @@
 package com.ipaas.taskmanagement.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ipaas.taskmanagement.cache.CacheInvalidationBus;
+import com.ipaas.taskmanagement.cache.EntityCache;
+import com.ipaas.taskmanagement.cache.ResponseCache;
+import com.ipaas.taskmanagement.cache.ResponseCacheKeys;
+import com.ipaas.taskmanagement.concurrency.RetryOnConflict;
+import com.ipaas.taskmanagement.dto.CursorPageDTO;
 import com.ipaas.taskmanagement.dto.TaskDTO;
+import com.ipaas.taskmanagement.dto.TaskStatusUpdateResultDTO;
+import com.ipaas.taskmanagement.entity.Subtask;
 import com.ipaas.taskmanagement.entity.Task;
 import com.ipaas.taskmanagement.entity.TaskStatus;
 import com.ipaas.taskmanagement.entity.User;
+import com.ipaas.taskmanagement.events.TaskEventPublisher;
+import com.ipaas.taskmanagement.events.TaskEventType;
 import com.ipaas.taskmanagement.exception.BusinessRuleException;
+import com.ipaas.taskmanagement.export.ExportFormat;
+import com.ipaas.taskmanagement.export.TaskExportWriter;
 import com.ipaas.taskmanagement.exception.TaskNotFoundException;
+import com.ipaas.taskmanagement.form.BulkUpdateTaskStatusForm;
 import com.ipaas.taskmanagement.form.CreateTaskForm;
 import com.ipaas.taskmanagement.form.TaskFilterForm;
 import com.ipaas.taskmanagement.form.UpdateTaskStatusForm;
 import com.ipaas.taskmanagement.mapper.TaskMapper;
+import com.ipaas.taskmanagement.pagination.KeysetCursor;
+import com.ipaas.taskmanagement.projection.SubtaskCountProjection;
+import com.ipaas.taskmanagement.projection.TaskExportRow;
+import com.ipaas.taskmanagement.projection.TaskOwnerProjection;
+import com.ipaas.taskmanagement.projection.TaskView;
 import com.ipaas.taskmanagement.repository.SubtaskRepository;
+import com.ipaas.taskmanagement.repository.TaskQueryRepository;
 import com.ipaas.taskmanagement.repository.TaskRepository;
+import com.ipaas.taskmanagement.search.TitleSearchIndex;
+import com.ipaas.taskmanagement.specification.KeysetSpecification;
 import com.ipaas.taskmanagement.specification.TaskSpecification;
+import com.ipaas.taskmanagement.writebehind.PendingSubtaskStatuses;
+import com.ipaas.taskmanagement.writebehind.SubtaskStatusBuffer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service for Task operations.
@@ -33,13 +74,27 @@ import java.util.UUID;
 @Transactional
 public class TaskService {
 
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final TaskRepository taskRepository;
+    private final TaskQueryRepository taskQueryRepository;
     private final SubtaskRepository subtaskRepository;
     private final UserService userService;
     private final TaskMapper taskMapper;
+    private final TitleSearchIndex titleSearchIndex;
+    private final EntityCache entityCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ResponseCache responseCache;
+    private final TaskEventPublisher taskEventPublisher;
+    private final SubtaskStatusBuffer subtaskStatusBuffer;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.export.fetch-size:1000}")
+    private int exportFetchSize;
 
     /**
-     * Creates a new task.
+     * Creates a new task with its optional subtasks in one transaction.
+     * The subtasks are persisted by cascade and flushed as one JDBC batch.
      */
     public TaskDTO createTask(CreateTaskForm form) {
         log.info("Creating task for user ID: {}", form.getUserId());
@@ -47,30 +102,79 @@ public class TaskService {
         User user = userService.getUserEntity(form.getUserId());
         Task task = taskMapper.toEntity(form, user);
         Task savedTask = taskRepository.save(task);
+        titleSearchIndex.indexTask(savedTask.getId(), savedTask.getTitle());
 
-        long totalSubtasks = subtaskRepository.countByTaskId(savedTask.getId());
-        long completedSubtasks = subtaskRepository.countByTaskIdAndStatus(savedTask.getId(), TaskStatus.COMPLETED);
+        List<Subtask> subtasks = savedTask.getSubtasks() != null ? savedTask.getSubtasks() : List.of();
+        subtasks.forEach(subtask -> titleSearchIndex.indexSubtask(subtask.getId(), subtask.getTitle()));
+        responseCache.invalidate(ResponseCacheKeys.taskWriteTags(savedTask.getId(), user.getId()));
+        taskEventPublisher.taskChanged(TaskEventType.TASK_CREATED, savedTask.getId(), user.getId(), savedTask.getStatus());
+        subtasks.forEach(subtask -> taskEventPublisher.subtaskChanged(TaskEventType.SUBTASK_CREATED,
+                subtask.getId(), savedTask.getId(), user.getId(), subtask.getStatus()));
 
-        log.info("Task created successfully. ID: {}", savedTask.getId());
-        return taskMapper.toDTO(savedTask, totalSubtasks, completedSubtasks);
+        // A new task only has the subtasks created with it, all pending
+        log.info("Task created successfully. ID: {} with {} subtasks", savedTask.getId(), subtasks.size());
+        return taskMapper.toDTO(savedTask, subtasks.size(), 0);
     }
 
     /**
-     * Finds a task by ID.
+     * Finds a task by ID. Subtask counts include the subtask status updates buffered on this node.
      */
     @Transactional(readOnly = true)
     public TaskDTO findById(UUID id) {
         log.info("Finding task by ID: {}", id);
 
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
+        Task task = getTaskEntity(id);
 
         long totalSubtasks = subtaskRepository.countByTaskId(id);
-        long completedSubtasks = subtaskRepository.countByTaskIdAndStatus(id, TaskStatus.COMPLETED);
+        long completedSubtasks = countCompletedSubtasks(id);
 
         return taskMapper.toDTO(task, totalSubtasks, completedSubtasks);
     }
 
+    /**
+     * Reads the current version of a task, for answering conditional requests.
+     * Empty when the task does not exist.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersion(UUID id) {
+        return taskRepository.findVersionById(id);
+    }
+
+    /**
+     * Sequence of the latest subtask status update of the task buffered on this node, or 0 when
+     * none is pending. Reads of the task and its subtasks apply these updates, so ETags combine
+     * the sequence with the version; read it before the version.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long findPendingSubtaskSequence(UUID id) {
+        return subtaskStatusBuffer.pendingForTask(id).sequence();
+    }
+
+    /**
+     * Version of a task as seen by the entity cache. Subtask writes evict the task, so this
+     * never runs ahead of the stored version; read it before the data it versions.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public long getVersion(UUID id) {
+        return getTaskEntity(id).getVersion();
+    }
+
+    /**
+     * Records that subtasks of a task changed: bumps the task version, so its ETag and
+     * the ETag of its subtask list change, and evicts the cached task.
+     * <p>
+     * The bump only applies to the version the caller read the task at. A subtask write and a
+     * concurrent write of its task, such as completing it, therefore cannot both commit: the
+     * loser fails with an optimistic locking failure and is retried against the new state.
+     */
+    public void markSubtasksChanged(Task task) {
+        int updated = taskRepository.incrementVersion(task.getId(), task.getVersion());
+        cacheInvalidationBus.invalidateTask(task.getId());
+        if (updated == 0) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, task.getId());
+        }
+    }
+
     /**
      * Lists tasks with filters and pagination.
      */
@@ -78,19 +182,48 @@ public class TaskService {
     public Page<TaskDTO> findTasks(TaskFilterForm filters, Pageable pageable) {
         log.info("Finding tasks with filters: {}", filters);
 
-        Specification<Task> spec = TaskSpecification.withFilters(filters);
-        Page<Task> tasks = taskRepository.findAll(spec, pageable);
+        Specification<Task> spec = filterSpecification(filters);
+        Page<TaskView> tasks = taskQueryRepository.findViews(spec, pageable);
 
-        return tasks.map(task -> {
-            long totalSubtasks = subtaskRepository.countByTaskId(task.getId());
-            long completedSubtasks = subtaskRepository.countByTaskIdAndStatus(task.getId(), TaskStatus.COMPLETED);
-            return taskMapper.toDTO(task, totalSubtasks, completedSubtasks);
-        });
+        Map<UUID, SubtaskCountProjection> counts = countSubtasks(tasks.getContent());
+        return tasks.map(task -> taskMapper.toDTO(task, counts.get(task.getId())));
     }
 
     /**
-     * Updates task status.
+     * Lists tasks with filters using keyset pagination ordered by (createdAt, id).
+     * No count query is issued, so the cost is proportional to the page size.
      */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TaskDTO> scrollTasks(TaskFilterForm filters, String after, int size) {
+        log.info("Scrolling tasks with filters: {} after cursor: {}", filters, after);
+
+        int pageSize = Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+        Specification<Task> spec = filterSpecification(filters)
+                .and(KeysetSpecification.after(KeysetCursor.decode(after)));
+
+        List<TaskView> rows = taskQueryRepository.findSlice(spec, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<TaskView> tasks = hasNext ? rows.subList(0, pageSize) : rows;
+
+        Map<UUID, SubtaskCountProjection> counts = countSubtasks(tasks);
+        List<TaskDTO> content = tasks.stream()
+                .map(task -> taskMapper.toDTO(task, counts.get(task.getId())))
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            TaskView last = tasks.get(tasks.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPageDTO<>(content, pageSize, hasNext, nextCursor);
+    }
+
+    /**
+     * Updates task status. Completing a task checks its subtasks and then writes the task
+     * at the version it was read; a subtask written in between changes that version, so the
+     * update fails and is retried instead of completing a task with pending subtasks.
+     */
+    @RetryOnConflict
     public TaskDTO updateStatus(UUID id, UpdateTaskStatusForm form) {
         log.info("Updating task status. ID: {} to {}", id, form.getStatus());
 
@@ -99,7 +232,10 @@ public class TaskService {
 
         // Business rule: Cannot complete task if there are pending subtasks
         if (form.getStatus() == TaskStatus.COMPLETED) {
-            boolean allSubtasksCompleted = subtaskRepository.areAllSubtasksCompleted(id);
+            PendingSubtaskStatuses pending = subtaskStatusBuffer.pendingForTask(id);
+            boolean allSubtasksCompleted = pending.isEmpty()
+                    ? subtaskRepository.areAllSubtasksCompleted(id)
+                    : !hasIncompleteSubtasks(id, pending);
             if (!allSubtasksCompleted) {
                 throw new BusinessRuleException("Cannot complete task. There are pending subtasks.");
             }
@@ -110,20 +246,172 @@ public class TaskService {
 
         task.setStatus(form.getStatus());
         Task savedTask = taskRepository.save(task);
+        // Check the version now rather than at commit, and return the new one
+        taskRepository.flush();
+        cacheInvalidationBus.invalidateTask(id);
+        responseCache.invalidate(ResponseCacheKeys.taskWriteTags(id, savedTask.getUser().getId()));
+        taskEventPublisher.taskChanged(TaskEventType.TASK_STATUS_CHANGED, id, savedTask.getUser().getId(),
+                savedTask.getStatus());
 
         long totalSubtasks = subtaskRepository.countByTaskId(id);
-        long completedSubtasks = subtaskRepository.countByTaskIdAndStatus(id, TaskStatus.COMPLETED);
+        long completedSubtasks = countCompletedSubtasks(id);
 
         log.info("Task status updated successfully");
         return taskMapper.toDTO(savedTask, totalSubtasks, completedSubtasks);
     }
 
     /**
-     * Gets task entity by ID (for internal use).
+     * Moves several tasks to the same status with set-based updates. Existence and the
+     * pending subtasks rule are checked with one query each across all IDs, and the
+     * result reports the outcome of every requested ID in request order. Tasks to be
+     * completed are locked before the subtask check, as {@link #updateStatus} relies on
+     * their version instead.
+     */
+    public List<TaskStatusUpdateResultDTO> bulkUpdateStatus(BulkUpdateTaskStatusForm form) {
+        Set<UUID> requested = new LinkedHashSet<>(form.getTaskIds());
+        log.info("Bulk updating status of {} tasks to {}", requested.size(), form.getStatus());
+
+        Map<UUID, UUID> owners = taskRepository.findOwnersByIdIn(requested).stream()
+                .collect(Collectors.toMap(TaskOwnerProjection::getTaskId, TaskOwnerProjection::getUserId));
+
+        Set<UUID> rejected = new HashSet<>();
+        if (form.getStatus() == TaskStatus.COMPLETED && !owners.isEmpty()) {
+            // Lock the tasks before checking their subtasks. A subtask write bumps the task
+            // version under the same row lock, so it either committed before the check and is
+            // seen by it, or waits for this transaction, fails its version check and retries.
+            Set<UUID> locked = new HashSet<>(taskRepository.lockAllById(owners.keySet()));
+            owners.keySet().retainAll(locked);
+            // Business rule: Cannot complete task if there are pending subtasks
+            rejected.addAll(subtaskRepository.findTaskIdsWithPendingSubtasks(owners.keySet()));
+            for (UUID taskId : owners.keySet()) {
+                PendingSubtaskStatuses pending = subtaskStatusBuffer.pendingForTask(taskId);
+                if (pending.isEmpty()) {
+                    continue;
+                }
+                if (hasIncompleteSubtasks(taskId, pending)) {
+                    rejected.add(taskId);
+                } else {
+                    rejected.remove(taskId);
+                }
+            }
+        }
+
+        Set<UUID> eligible = new HashSet<>(owners.keySet());
+        eligible.removeAll(rejected);
+
+        if (!eligible.isEmpty()) {
+            if (form.getStatus() == TaskStatus.COMPLETED) {
+                taskRepository.completeAll(eligible, LocalDateTime.now());
+            } else {
+                taskRepository.reopenAll(eligible, form.getStatus());
+            }
+        }
+
+        for (UUID taskId : eligible) {
+            cacheInvalidationBus.invalidateTask(taskId);
+            responseCache.invalidate(ResponseCacheKeys.taskWriteTags(taskId, owners.get(taskId)));
+            taskEventPublisher.taskChanged(TaskEventType.TASK_STATUS_CHANGED, taskId, owners.get(taskId), form.getStatus());
+        }
+
+        List<TaskStatusUpdateResultDTO> results = new ArrayList<>(requested.size());
+        for (UUID taskId : requested) {
+            TaskStatusUpdateResultDTO.Outcome outcome;
+            if (!owners.containsKey(taskId)) {
+                outcome = TaskStatusUpdateResultDTO.Outcome.NOT_FOUND;
+            } else if (rejected.contains(taskId)) {
+                outcome = TaskStatusUpdateResultDTO.Outcome.REJECTED_PENDING_SUBTASKS;
+            } else {
+                outcome = TaskStatusUpdateResultDTO.Outcome.UPDATED;
+            }
+            results.add(new TaskStatusUpdateResultDTO(taskId, outcome));
+        }
+
+        log.info("Bulk status update finished. Updated: {}, rejected: {}, not found: {}",
+                eligible.size(), rejected.size(), requested.size() - owners.size());
+        return results;
+    }
+
+    /**
+     * Streams every task matching the filters to the output in the given format.
+     * Rows come from a forward-only cursor with subtask counts aggregated in SQL and are
+     * written as they are read, so memory stays flat regardless of the result size.
      */
     @Transactional(readOnly = true)
+    public void exportTasks(TaskFilterForm filters, ExportFormat format, OutputStream outputStream) throws IOException {
+        log.info("Exporting tasks as {} with filters: {}", format, filters);
+
+        long rows = 0;
+        try (Stream<TaskExportRow> stream = taskQueryRepository.streamExportRows(filterSpecification(filters), exportFetchSize);
+             TaskExportWriter writer = TaskExportWriter.create(format, outputStream, objectMapper)) {
+            Iterator<TaskExportRow> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                rows++;
+            }
+        }
+
+        log.info("Exported {} tasks", rows);
+    }
+
+    /**
+     * Builds the filter specification, narrowed to title search candidates when the
+     * title index can serve the term.
+     */
+    private Specification<Task> filterSpecification(TaskFilterForm filters) {
+        Specification<Task> spec = TaskSpecification.withFilters(filters);
+        return titleSearchIndex.findTaskCandidates(filters.getTitle())
+                .map(ids -> spec.and(TaskSpecification.idIn(ids)))
+                .orElse(spec);
+    }
+
+    /**
+     * Counts the completed subtasks of a task, with the buffered status updates applied. The
+     * buffered updates are read first: once a flush has committed, the subtasks it wrote are
+     * counted from the database either way.
+     */
+    private long countCompletedSubtasks(UUID id) {
+        PendingSubtaskStatuses pending = subtaskStatusBuffer.pendingForTask(id);
+        if (pending.isEmpty()) {
+            return subtaskRepository.countByTaskIdAndStatus(id, TaskStatus.COMPLETED);
+        }
+        return subtaskRepository.countByTaskIdAndStatusAndIdNotIn(id, TaskStatus.COMPLETED, pending.statuses().keySet())
+                + pending.count(TaskStatus.COMPLETED);
+    }
+
+    /**
+     * Whether a task has a subtask that is not completed once its buffered status updates are
+     * applied, so the pending subtasks rule agrees with what reads on this node report.
+     */
+    private boolean hasIncompleteSubtasks(UUID id, PendingSubtaskStatuses pending) {
+        return pending.count(TaskStatus.COMPLETED) < pending.statuses().size()
+                || subtaskRepository.existsByTaskIdAndStatusNotAndIdNotIn(id, TaskStatus.COMPLETED,
+                        pending.statuses().keySet());
+    }
+
+    /**
+     * Loads subtask counts for a page of tasks with one grouped query.
+     */
+    private Map<UUID, SubtaskCountProjection> countSubtasks(List<TaskView> tasks) {
+        if (tasks.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<UUID> taskIds = tasks.stream()
+                .map(TaskView::getId)
+                .collect(Collectors.toList());
+
+        return subtaskRepository.countByTaskIds(taskIds).stream()
+                .collect(Collectors.toMap(SubtaskCountProjection::getTaskId, Function.identity()));
+    }
+
+    /**
+     * Gets task entity by ID (for internal use).
+     * The result is a shared, detached instance from the entity cache with its user loaded;
+     * callers must not modify it. Cache hits do not open a transaction.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Task getTaskEntity(UUID id) {
-        return taskRepository.findById(id)
-                .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + id));
+        return entityCache.getTask(id, taskId -> taskRepository.findWithUserById(taskId)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found with ID: " + taskId)));
     }
 }
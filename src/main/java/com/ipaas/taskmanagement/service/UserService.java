@@ -1,5 +1,7 @@
 package com.ipaas.taskmanagement.service;
 
+import com.ipaas.taskmanagement.cache.EmailBloomFilter;
+import com.ipaas.taskmanagement.cache.EntityCache;
 import com.ipaas.taskmanagement.dto.UserDTO;
 import com.ipaas.taskmanagement.entity.User;
 import com.ipaas.taskmanagement.exception.EmailAlreadyExistsException;
@@ -9,9 +11,16 @@ import com.ipaas.taskmanagement.mapper.UserMapper;
 import com.ipaas.taskmanagement.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -25,6 +34,8 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final EmailBloomFilter emailBloomFilter;
+    private final EntityCache entityCache;
 
     /**
      * Creates a new user.
@@ -32,12 +43,37 @@ public class UserService {
     public UserDTO createUser(CreateUserForm form) {
         log.info("Creating user with email: {}", form.getEmail());
 
-        if (userRepository.existsByEmail(form.getEmail())) {
-            throw new EmailAlreadyExistsException("Email already in use: " + form.getEmail());
+        // Only emails the filter may contain need the existence query
+        if (emailBloomFilter.mightContain(form.getEmail())) {
+            if (userRepository.existsByEmail(form.getEmail())) {
+                throw new EmailAlreadyExistsException("Email already in use: " + form.getEmail());
+            }
+            emailBloomFilter.recordFalsePositive();
         }
 
         User user = userMapper.toEntity(form);
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            // The unique constraint is the final arbiter for concurrent signups
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (!isEmailConflict(e)) {
+                throw e;
+            }
+            throw new EmailAlreadyExistsException("Email already in use: " + form.getEmail());
+        }
+        // A rebuild that reads the users before the commit must still see the email
+        String email = savedUser.getEmail();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    emailBloomFilter.put(email);
+                }
+            });
+        } else {
+            emailBloomFilter.put(email);
+        }
 
         log.info("User created successfully. ID: {}", savedUser.getId());
         return userMapper.toDTO(savedUser);
@@ -46,14 +82,20 @@ public class UserService {
     /**
      * Finds a user by ID.
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public UserDTO findById(UUID id) {
         log.info("Finding user by ID: {}", id);
 
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + id));
+        return userMapper.toDTO(getUserEntity(id));
+    }
 
-        return userMapper.toDTO(user);
+    /**
+     * Reads the current version of a user, for answering conditional requests.
+     * Empty when the user does not exist.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersion(UUID id) {
+        return userRepository.findVersionById(id);
     }
 
     /**
@@ -63,18 +105,32 @@ public class UserService {
     public UserDTO findByEmail(String email) {
         log.info("Finding user by email: {}", email);
 
+        if (emailBloomFilter.isDefinitelyAbsent(email)) {
+            throw new UserNotFoundException("User not found with email: " + email);
+        }
+
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("User not found with email: " + email));
 
         return userMapper.toDTO(user);
     }
 
+    /**
+     * Whether the violation is of the unique constraint on the user email.
+     */
+    private static boolean isEmailConflict(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(User.EMAIL_CONSTRAINT);
+    }
+
     /**
      * Gets user entity by ID (for internal use).
+     * The result is a shared, detached instance from the entity cache; callers must not modify it.
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public User getUserEntity(UUID id) {
-        return userRepository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + id));
+        return entityCache.getUser(id, userId -> userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId)));
     }
 }
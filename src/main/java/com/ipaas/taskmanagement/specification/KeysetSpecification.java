@@ -0,0 +1,49 @@
+package com.ipaas.taskmanagement.specification;
+
+import com.ipaas.taskmanagement.pagination.KeysetCursor;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keyset pagination predicates for entities ordered by (createdAt, id).
+ */
+public class KeysetSpecification {
+
+    /**
+     * Filter rows positioned strictly after the cursor. A null cursor matches everything.
+     */
+    public static <T> Specification<T> after(KeysetCursor cursor) {
+        return (root, query, criteriaBuilder) -> {
+            if (cursor == null) {
+                return null;
+            }
+
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            Path<UUID> id = root.get("id");
+            return criteriaBuilder.or(
+                criteriaBuilder.greaterThan(createdAt, cursor.getCreatedAt()),
+                criteriaBuilder.and(
+                    criteriaBuilder.equal(createdAt, cursor.getCreatedAt()),
+                    criteriaBuilder.greaterThan(id, cursor.getId())
+                )
+            );
+        };
+    }
+
+    /**
+     * Ordering matching {@link #after(KeysetCursor)}, with the UUID as a stable tiebreak.
+     */
+    public static List<Order> orderBy(Root<?> root, CriteriaBuilder criteriaBuilder) {
+        return List.of(
+            criteriaBuilder.asc(root.get("createdAt")),
+            criteriaBuilder.asc(root.get("id"))
+        );
+    }
+}
@@ -2,10 +2,12 @@ package com.ipaas.taskmanagement.specification;
 
 import com.ipaas.taskmanagement.entity.Subtask;
 import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.search.TitleNormalizer;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -31,7 +33,7 @@ public class SubtaskSpecification {
     }
 
     /**
-     * Filter by title containing text (case insensitive).
+     * Filter by title containing text (case insensitive), on the normalized title column.
      */
     public static Specification<Subtask> titleContains(String title) {
         return (root, query, criteriaBuilder) -> {
@@ -39,8 +41,9 @@ public class SubtaskSpecification {
                 return null;
             }
             return criteriaBuilder.like(
-                criteriaBuilder.lower(root.get("title")),
-                "%" + title.toLowerCase() + "%"
+                root.get("normalizedTitle"),
+                TitleNormalizer.containsPattern(title),
+                TitleNormalizer.LIKE_ESCAPE
             );
         };
     }
@@ -62,12 +65,21 @@ public class SubtaskSpecification {
 
             if (title != null && !title.trim().isEmpty()) {
                 predicates.add(criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("title")),
-                    "%" + title.toLowerCase() + "%"
+                    root.get("normalizedTitle"),
+                    TitleNormalizer.containsPattern(title),
+                    TitleNormalizer.LIKE_ESCAPE
                 ));
             }
 
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    /**
+     * Filter by a set of IDs, typically title search candidates. An empty set matches nothing.
+     */
+    public static Specification<Subtask> idIn(Collection<UUID> ids) {
+        return (root, query, criteriaBuilder) ->
+            ids.isEmpty() ? criteriaBuilder.disjunction() : root.get("id").in(ids);
+    }
 }
@@ -0,0 +1,36 @@
+package com.ipaas.taskmanagement.specification;
+
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.form.TaskFilterForm;
+import com.ipaas.taskmanagement.search.TitleNormalizer;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Normalized task filters shared by the JPA specifications and the reactive SQL queries,
+ * so both read stacks apply exactly the same filter semantics. A null field means no filter.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TaskFilterCriteria {
+
+    private final TaskStatus status;
+    private final UUID userId;
+
+    /**
+     * LIKE pattern matched against the normalized title column, escaped with
+     * {@link TitleNormalizer#LIKE_ESCAPE}.
+     */
+    private final String titlePattern;
+
+    public static TaskFilterCriteria from(TaskFilterForm filters) {
+        String title = filters.getTitle();
+        String titlePattern = title != null && !title.trim().isEmpty()
+                ? TitleNormalizer.containsPattern(title)
+                : null;
+        return new TaskFilterCriteria(filters.getStatus(), filters.getUserId(), titlePattern);
+    }
+}
@@ -3,10 +3,12 @@ package com.ipaas.taskmanagement.specification;
 import com.ipaas.taskmanagement.entity.Task;
 import com.ipaas.taskmanagement.entity.TaskStatus;
 import com.ipaas.taskmanagement.form.TaskFilterForm;
+import com.ipaas.taskmanagement.search.TitleNormalizer;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,22 +21,21 @@ public class TaskSpecification {
      * Creates a specification based on the filter form.
      */
     public static Specification<Task> withFilters(TaskFilterForm filters) {
+        TaskFilterCriteria criteria = TaskFilterCriteria.from(filters);
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
-            if (filters.getStatus() != null) {
-                predicates.add(criteriaBuilder.equal(root.get("status"), filters.getStatus()));
+            if (criteria.getStatus() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("status"), criteria.getStatus()));
             }
 
-            if (filters.getUserId() != null) {
-                predicates.add(criteriaBuilder.equal(root.get("user").get("id"), filters.getUserId()));
+            if (criteria.getUserId() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("user").get("id"), criteria.getUserId()));
             }
 
-            if (filters.getTitle() != null && !filters.getTitle().trim().isEmpty()) {
-                predicates.add(criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("title")),
-                    "%" + filters.getTitle().toLowerCase() + "%"
-                ));
+            if (criteria.getTitlePattern() != null) {
+                predicates.add(criteriaBuilder.like(root.get("normalizedTitle"), criteria.getTitlePattern(),
+                        TitleNormalizer.LIKE_ESCAPE));
             }
 
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
@@ -58,7 +59,7 @@ public class TaskSpecification {
     }
 
     /**
-     * Filter by title containing text (case insensitive).
+     * Filter by title containing text (case insensitive), on the normalized title column.
      */
     public static Specification<Task> titleContains(String title) {
         return (root, query, criteriaBuilder) -> {
@@ -66,9 +67,18 @@ public class TaskSpecification {
                 return null;
             }
             return criteriaBuilder.like(
-                criteriaBuilder.lower(root.get("title")),
-                "%" + title.toLowerCase() + "%"
+                root.get("normalizedTitle"),
+                TitleNormalizer.containsPattern(title),
+                TitleNormalizer.LIKE_ESCAPE
             );
         };
     }
+
+    /**
+     * Filter by a set of IDs, typically title search candidates. An empty set matches nothing.
+     */
+    public static Specification<Task> idIn(Collection<UUID> ids) {
+        return (root, query, criteriaBuilder) ->
+            ids.isEmpty() ? criteriaBuilder.disjunction() : root.get("id").in(ids);
+    }
 }
@@ -0,0 +1,32 @@
+package com.ipaas.taskmanagement.writebehind;
+
+import com.ipaas.taskmanagement.dto.SubtaskDTO;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Buffers nothing: every status update is written in its own transaction.
+ */
+@Component
+@ConditionalOnProperty(name = "app.subtasks.status-writes", havingValue = "direct", matchIfMissing = true)
+public class DirectSubtaskStatusBuffer implements SubtaskStatusBuffer {
+
+    @Override
+    public Optional<SubtaskDTO> buffer(UUID id, TaskStatus status) {
+        return Optional.empty();
+    }
+
+    @Override
+    public SubtaskDTO overlay(SubtaskDTO subtask) {
+        return subtask;
+    }
+
+    @Override
+    public PendingSubtaskStatuses pendingForTask(UUID taskId) {
+        return PendingSubtaskStatuses.NONE;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ipaas.taskmanagement.writebehind;
+
+import com.ipaas.taskmanagement.entity.TaskStatus;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Status updates of the subtasks of one task that are buffered on this node and not written yet.
+ *
+ * @param sequence sequence of the latest update buffered for the task, or 0 when none is pending.
+ *                 It changes with every update buffered for the task and is never reused, so
+ *                 together with the task version it identifies the state reads return
+ * @param statuses pending status by subtask ID
+ */
+public record PendingSubtaskStatuses(long sequence, Map<UUID, TaskStatus> statuses) {
+
+    public static final PendingSubtaskStatuses NONE = new PendingSubtaskStatuses(0, Map.of());
+
+    public boolean isEmpty() {
+        return statuses.isEmpty();
+    }
+
+    /**
+     * Number of pending updates that move a subtask to the status.
+     */
+    public long count(TaskStatus status) {
+        return statuses.values().stream().filter(status::equals).count();
+    }
+}
@@ -0,0 +1,30 @@
+package com.ipaas.taskmanagement.writebehind;
+
+import com.ipaas.taskmanagement.dto.SubtaskDTO;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Where subtask status updates go before the database. The implementation is selected with
+ * {@code app.subtasks.status-writes}: {@code direct} (default) or {@code write-behind}.
+ */
+public interface SubtaskStatusBuffer {
+
+    /**
+     * Accepts a status update to be written later and returns the subtask as it will be once
+     * written. Empty when updates are written synchronously.
+     */
+    Optional<SubtaskDTO> buffer(UUID id, TaskStatus status);
+
+    /**
+     * Applies the buffered update of a subtask, if any, to the subtask as read from the database.
+     */
+    SubtaskDTO overlay(SubtaskDTO subtask);
+
+    /**
+     * The buffered updates of the subtasks of a task, to apply to its ETag and subtask counts.
+     */
+    PendingSubtaskStatuses pendingForTask(UUID taskId);
+}
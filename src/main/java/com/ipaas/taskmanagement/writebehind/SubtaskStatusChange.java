@@ -0,0 +1,17 @@
+package com.ipaas.taskmanagement.writebehind;
+
+import com.ipaas.taskmanagement.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A buffered subtask status update, as journaled and flushed.
+ *
+ * @param subtaskId   the subtask
+ * @param taskId      its task
+ * @param status      the new status
+ * @param completedAt completion time when the status is COMPLETED, otherwise null
+ */
+public record SubtaskStatusChange(UUID subtaskId, UUID taskId, TaskStatus status, LocalDateTime completedAt) {
+}
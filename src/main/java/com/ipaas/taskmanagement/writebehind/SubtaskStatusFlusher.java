@@ -0,0 +1,101 @@
+package com.ipaas.taskmanagement.writebehind;
+
+import com.ipaas.taskmanagement.cache.CacheInvalidationBus;
+import com.ipaas.taskmanagement.cache.ResponseCache;
+import com.ipaas.taskmanagement.cache.ResponseCacheKeys;
+import com.ipaas.taskmanagement.events.TaskEventPublisher;
+import com.ipaas.taskmanagement.events.TaskEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Writes buffered subtask status updates in one transaction with a fixed number of statements:
+ * the parent tasks are locked and read with one statement and versioned with another, and the
+ * subtasks are updated in one JDBC batch.
+ * <p>
+ * The parent rows are locked first, in ID order like bulk task completion, so concurrent
+ * flushes and bulk completions of overlapping tasks cannot deadlock. A task completion running
+ * concurrently either committed before the flush or waits for it and then fails its version
+ * check. Updates of subtasks whose task was deleted are not written and are returned to the
+ * caller.
+ */
+@Component
+@ConditionalOnProperty(name = "app.subtasks.status-writes", havingValue = "write-behind")
+@RequiredArgsConstructor
+public class SubtaskStatusFlusher {
+
+    private static final String UPDATE_SUBTASK = """
+            UPDATE subtasks SET status = :status, completed_at = :completedAt, version = version + 1
+            WHERE id = :id
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TaskEventPublisher taskEventPublisher;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ResponseCache responseCache;
+
+    /**
+     * Writes the changes and returns the ones that were rejected.
+     */
+    @Transactional
+    public List<SubtaskStatusChange> flush(Collection<SubtaskStatusChange> changes) {
+        Set<UUID> taskIds = changes.stream().map(SubtaskStatusChange::taskId).collect(Collectors.toSet());
+        Map<String, Object> params = Map.of("ids", taskIds);
+        Map<UUID, UUID> owners = new HashMap<>();
+        jdbcTemplate.query("SELECT id, user_id FROM tasks WHERE id IN (:ids) ORDER BY id FOR UPDATE", params, rs -> {
+            owners.put(rs.getObject("id", UUID.class), rs.getObject("user_id", UUID.class));
+        });
+        jdbcTemplate.update("UPDATE tasks SET version = version + 1 WHERE id IN (:ids)", params);
+
+        List<SubtaskStatusChange> accepted = new ArrayList<>(changes.size());
+        List<SubtaskStatusChange> rejected = new ArrayList<>();
+        for (SubtaskStatusChange change : changes) {
+            if (!owners.containsKey(change.taskId())) {
+                rejected.add(change);
+            } else {
+                accepted.add(change);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            SqlParameterSource[] batch = accepted.stream()
+                    .map(change -> new MapSqlParameterSource()
+                            .addValue("id", change.subtaskId())
+                            .addValue("status", change.status().name())
+                            .addValue("completedAt", change.completedAt() == null ? null
+                                    : Timestamp.valueOf(change.completedAt()), Types.TIMESTAMP))
+                    .toArray(SqlParameterSource[]::new);
+            int[] updated = jdbcTemplate.batchUpdate(UPDATE_SUBTASK, batch);
+            for (int i = 0; i < updated.length; i++) {
+                // Subtasks deleted since they were buffered are simply gone
+                if (updated[i] != 0) {
+                    SubtaskStatusChange change = accepted.get(i);
+                    taskEventPublisher.subtaskChanged(TaskEventType.SUBTASK_STATUS_CHANGED, change.subtaskId(),
+                            change.taskId(), owners.get(change.taskId()), change.status());
+                }
+            }
+        }
+
+        owners.forEach((taskId, userId) -> {
+            cacheInvalidationBus.invalidateTask(taskId);
+            responseCache.invalidate(ResponseCacheKeys.taskWriteTags(taskId, userId));
+        });
+        return rejected;
+    }
+}
@@ -0,0 +1,238 @@
+package com.ipaas.taskmanagement.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Local append-only journal of buffered subtask status updates, one JSON line per update.
+ * <p>
+ * The journal is split into numbered segments. When the buffer is drained for a flush the
+ * journal rolls to a new segment, so the old segment holds exactly the drained updates and is
+ * deleted once they are in the database. Segments left behind by a crash are replayed at the
+ * next start; a torn last line is skipped.
+ * <p>
+ * Appends are group-committed: {@link #enqueue} only queues the serialized line and hands out
+ * a sequence number, and {@link #sync} writes, and with fsync forces, everything queued so far
+ * in one go. Callers that queued while another caller was writing find their lines already
+ * written when they get the write lock, so concurrent appends share one write and one fsync.
+ */
+@Slf4j
+class SubtaskStatusJournal implements Closeable {
+
+    private static final String PREFIX = "subtask-status-";
+    private static final String SUFFIX = ".journal";
+
+    private final Path directory;
+    private final boolean fsync;
+    private final ObjectMapper objectMapper;
+
+    // Guards the queue and the sequence numbers; never held during I/O
+    private final ReentrantLock queueLock = new ReentrantLock();
+    // Guards the channel; held by the one caller writing a group
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private List<byte[]> queued = new ArrayList<>();
+    private long enqueued;
+    private volatile long written;
+
+    private FileChannel channel;
+    private Path current;
+    private long nextSegment = 1;
+
+    SubtaskStatusJournal(Path directory, boolean fsync, ObjectMapper objectMapper) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.fsync = fsync;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Segments left by a previous run, oldest first.
+     */
+    List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Reads the updates of the given segments in the order they were appended.
+     */
+    List<SubtaskStatusChange> read(List<Path> segments) throws IOException {
+        List<SubtaskStatusChange> changes = new ArrayList<>();
+        for (Path segment : segments) {
+            try (BufferedReader reader = Files.newBufferedReader(segment, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        changes.add(objectMapper.readValue(line, SubtaskStatusChange.class));
+                    } catch (IOException e) {
+                        log.warn("Skipping unreadable journal entry in {}: {}", segment, e.getMessage());
+                    }
+                }
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Opens a new segment for appends.
+     */
+    void open() throws IOException {
+        writeLock.lock();
+        try {
+            openSegment();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Queues an update for the next group write and returns its sequence number, to be passed
+     * to {@link #sync}. Updates are written in the order they were queued.
+     */
+    long enqueue(SubtaskStatusChange change) {
+        byte[] line;
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(change);
+            line = Arrays.copyOf(json, json.length + 1);
+            line[json.length] = '\n';
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not serialize the subtask status update " + change, e);
+        }
+        queueLock.lock();
+        try {
+            queued.add(line);
+            return ++enqueued;
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    /**
+     * Returns once every update up to the given sequence number is written, and forced to disk
+     * when the journal fsyncs. The caller that gets the write lock first writes the whole queue.
+     */
+    void sync(long sequence) {
+        if (written >= sequence) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (written < sequence) {
+                writeQueued();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Writes what is still queued to the current segment, continues in a new segment and returns
+     * the previous one.
+     */
+    Path roll() {
+        writeLock.lock();
+        try {
+            writeQueued();
+            Path previous = current;
+            channel.close();
+            openSegment();
+            return previous;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not roll the subtask status journal in " + directory, e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    void delete(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException e) {
+            log.warn("Could not delete journal segment {}; it will be replayed at the next start", segment, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            if (channel != null) {
+                writeQueued();
+                channel.close();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Called with the write lock held
+    private void openSegment() throws IOException {
+        current = directory.resolve(PREFIX + String.format("%020d", nextSegment++) + SUFFIX);
+        channel = FileChannel.open(current, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    // Called with the write lock held
+    private void writeQueued() {
+        List<byte[]> group;
+        long sequence;
+        queueLock.lock();
+        try {
+            if (queued.isEmpty()) {
+                return;
+            }
+            group = queued;
+            sequence = enqueued;
+            queued = new ArrayList<>();
+        } finally {
+            queueLock.unlock();
+        }
+
+        try {
+            ByteBuffer[] lines = group.stream().map(ByteBuffer::wrap).toArray(ByteBuffer[]::new);
+            long remaining = group.stream().mapToLong(line -> line.length).sum();
+            while (remaining > 0) {
+                remaining -= channel.write(lines);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            // Put the group back in front, so the next sync writes it again instead of reporting it written
+            queueLock.lock();
+            try {
+                group.addAll(queued);
+                queued = group;
+            } finally {
+                queueLock.unlock();
+            }
+            throw new UncheckedIOException("Could not append to the subtask status journal " + current, e);
+        }
+        written = sequence;
+    }
+}
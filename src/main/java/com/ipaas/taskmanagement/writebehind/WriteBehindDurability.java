@@ -0,0 +1,13 @@
+package com.ipaas.taskmanagement.writebehind;
+
+/**
+ * What a buffered subtask status update survives before it is flushed to the database.
+ */
+public enum WriteBehindDurability {
+    /** Kept in memory only; lost if the process stops without flushing. */
+    MEMORY,
+    /** Appended to the local journal; survives a process crash but not a host crash. */
+    JOURNAL,
+    /** Appended to the local journal and forced to disk before the update is acknowledged. */
+    JOURNAL_FSYNC
+}
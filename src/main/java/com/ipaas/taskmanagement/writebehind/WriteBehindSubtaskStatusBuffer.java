@@ -0,0 +1,451 @@
+package com.ipaas.taskmanagement.writebehind;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ipaas.taskmanagement.dto.SubtaskDTO;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.exception.SubtaskNotFoundException;
+import com.ipaas.taskmanagement.mapper.SubtaskMapper;
+import com.ipaas.taskmanagement.repository.SubtaskQueryRepository;
+import com.ipaas.taskmanagement.specification.SubtaskSpecification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind for subtask status updates. An update is journaled according to
+ * {@code app.subtasks.write-behind.durability} and acknowledged from memory; repeated updates
+ * of the same subtask before the next flush replace each other, so only the last one is
+ * written. Updates are kept in lock stripes by subtask ID, so concurrent updates of different
+ * subtasks rarely contend.
+ * <p>
+ * The buffer is flushed by {@link SubtaskStatusFlusher} every {@code flush-interval}, as soon
+ * as {@code flush-size} subtasks are pending, and on shutdown. A caller that finds
+ * {@code max-pending} subtasks pending flushes first. Reads of subtasks on this node apply
+ * the pending updates, including those of a flush that has not committed yet, so a client
+ * sees its own writes; other nodes see them after the flush. Each task with pending updates
+ * carries the sequence of its latest one until the flush that wrote it has committed, so
+ * ETags of the task change with every buffered update as well. An update the flush rejects,
+ * because its task was deleted in the meantime, is logged and counted as
+ * {@code app.writebehind.rejected}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.subtasks.status-writes", havingValue = "write-behind")
+@RequiredArgsConstructor
+@Slf4j
+public class WriteBehindSubtaskStatusBuffer implements SubtaskStatusBuffer {
+
+    private final SubtaskQueryRepository subtaskQueryRepository;
+    private final SubtaskMapper subtaskMapper;
+    private final SubtaskStatusFlusher flusher;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // Appends share the read lock; draining for a flush takes the write lock
+    private final ReadWriteLock drainLock = new ReentrantReadWriteLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    // Starts at the clock, so sequences of a previous run are not handed out again
+    private final AtomicLong updateSequence = new AtomicLong(System.currentTimeMillis());
+    // Sequence of the latest buffered update by task ID
+    private final Map<UUID, Long> taskSequences = new ConcurrentHashMap<>();
+
+    // Updates drained by the running flush, visible to reads until the flush has committed
+    private volatile Map<UUID, SubtaskDTO> inFlight = Map.of();
+
+    private Stripe[] stripes;
+    private SubtaskStatusJournal journal;
+    private ScheduledExecutorService flushExecutor;
+    private Counter coalesced;
+    private Counter rejected;
+    private Timer flushTimer;
+    private DistributionSummary flushSizes;
+
+    @Value("${app.subtasks.write-behind.stripes:16}")
+    private int stripeCount;
+
+    @Value("${app.subtasks.write-behind.flush-size:500}")
+    private int flushSize;
+
+    @Value("${app.subtasks.write-behind.flush-interval:PT0.2S}")
+    private Duration flushInterval;
+
+    @Value("${app.subtasks.write-behind.max-pending:10000}")
+    private int maxPending;
+
+    @Value("${app.subtasks.write-behind.durability:JOURNAL}")
+    private WriteBehindDurability durability;
+
+    @Value("${app.subtasks.write-behind.journal-dir:${java.io.tmpdir}/subtask-status-journal}")
+    private Path journalDir;
+
+    @PostConstruct
+    void start() throws IOException {
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        registerMetrics();
+
+        if (durability != WriteBehindDurability.MEMORY) {
+            journal = new SubtaskStatusJournal(journalDir, durability == WriteBehindDurability.JOURNAL_FSYNC, objectMapper);
+            recover();
+            journal.open();
+        }
+
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "subtask-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = flushInterval.toMillis();
+        flushExecutor.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws Exception {
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        flush();
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Override
+    public Optional<SubtaskDTO> buffer(UUID id, TaskStatus status) {
+        Stripe stripe = stripe(id);
+        SubtaskDTO current = pending(stripe, id);
+        if (current == null) {
+            current = load(id);
+        }
+
+        SubtaskDTO updated = copy(current);
+        updated.setStatus(status);
+        updated.setCompletedAt(status == TaskStatus.COMPLETED ? LocalDateTime.now() : null);
+
+        if (pendingCount.get() >= maxPending) {
+            flush();
+        }
+        int pending = put(stripe, updated);
+        if (pending >= flushSize && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(this::flushQuietly);
+        }
+        return Optional.of(copy(updated));
+    }
+
+    @Override
+    public SubtaskDTO overlay(SubtaskDTO subtask) {
+        SubtaskDTO pending = pending(stripe(subtask.getId()), subtask.getId());
+        if (pending == null) {
+            return subtask;
+        }
+        subtask.setStatus(pending.getStatus());
+        subtask.setCompletedAt(pending.getCompletedAt());
+        return subtask;
+    }
+
+    /**
+     * Scans the pending updates; their number is bounded by {@code max-pending}. The sequence
+     * is read first, and it is only dropped once the updates it covers are committed, so the
+     * statuses are never older than the sequence.
+     */
+    @Override
+    public PendingSubtaskStatuses pendingForTask(UUID taskId) {
+        Long taskSequence = taskSequences.get(taskId);
+        if (taskSequence == null) {
+            return PendingSubtaskStatuses.NONE;
+        }
+        Map<UUID, TaskStatus> statuses = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            stripe.collect(taskId, statuses);
+        }
+        // Drained updates are published before the stripes are emptied, so reading them last misses none
+        inFlight.values().stream()
+                .filter(subtask -> taskId.equals(subtask.getTaskId()))
+                .forEach(subtask -> statuses.putIfAbsent(subtask.getId(), subtask.getStatus()));
+        return new PendingSubtaskStatuses(taskSequence, statuses);
+    }
+
+    /**
+     * Writes every pending update. Runs one flush at a time; when it fails the updates go back
+     * into the buffer, unless they were superseded meanwhile. Until the flush has committed or
+     * put them back, the drained updates stay visible to reads as in-flight updates. Task
+     * sequences are dropped after the commit, unless an update was buffered for the task since.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            Map<UUID, SubtaskDTO> drained = new ConcurrentHashMap<>();
+            Map<UUID, Long> drainedSequences = new HashMap<>();
+            Path segment = null;
+            drainLock.writeLock().lock();
+            try {
+                // Published before the stripes are emptied, so a read never misses a drained update
+                inFlight = drained;
+                for (Stripe stripe : stripes) {
+                    stripe.drainTo(drained);
+                }
+                pendingCount.addAndGet(-drained.size());
+                for (SubtaskDTO subtask : drained.values()) {
+                    drainedSequences.put(subtask.getTaskId(), taskSequences.get(subtask.getTaskId()));
+                }
+                if (journal != null && !drained.isEmpty()) {
+                    segment = journal.roll();
+                }
+            } finally {
+                drainLock.writeLock().unlock();
+            }
+            if (drained.isEmpty()) {
+                inFlight = Map.of();
+                return;
+            }
+
+            List<SubtaskStatusChange> changes = drained.values().stream()
+                    .map(WriteBehindSubtaskStatusBuffer::change)
+                    .toList();
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                reject(flusher.flush(changes));
+            } catch (RuntimeException e) {
+                requeue(drained);
+                throw e;
+            } finally {
+                inFlight = Map.of();
+                sample.stop(flushTimer);
+            }
+            drainedSequences.forEach(taskSequences::remove);
+            flushSizes.record(changes.size());
+            if (segment != null) {
+                journal.delete(segment);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Flushing buffered subtask status updates failed, retrying on the next flush", e);
+        }
+    }
+
+    /**
+     * Journals and buffers an update and returns the number of pending subtasks. The journal
+     * entry is queued under the stripe lock, so entries of one subtask are in buffer order, and
+     * written after it is released, so the write and fsync are shared with concurrent updates.
+     */
+    private int put(Stripe stripe, SubtaskDTO subtask) {
+        drainLock.readLock().lock();
+        try {
+            int pending;
+            long sequence = 0;
+            stripe.lock.lock();
+            try {
+                if (journal != null) {
+                    sequence = journal.enqueue(change(subtask));
+                }
+                taskSequences.merge(subtask.getTaskId(), updateSequence.incrementAndGet(), Math::max);
+                if (stripe.updates.put(subtask.getId(), subtask) != null) {
+                    coalesced.increment();
+                    pending = pendingCount.get();
+                } else {
+                    pending = pendingCount.incrementAndGet();
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+            if (journal != null) {
+                journal.sync(sequence);
+            }
+            return pending;
+        } finally {
+            drainLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Puts back the updates of a failed flush, unless a newer update arrived. They are journaled
+     * again, so the segment they came from can go.
+     */
+    private void requeue(Map<UUID, SubtaskDTO> drained) {
+        drainLock.readLock().lock();
+        try {
+            long sequence = 0;
+            for (SubtaskDTO subtask : drained.values()) {
+                Stripe stripe = stripe(subtask.getId());
+                stripe.lock.lock();
+                try {
+                    if (!stripe.updates.containsKey(subtask.getId())) {
+                        if (journal != null) {
+                            sequence = journal.enqueue(change(subtask));
+                        }
+                        stripe.updates.put(subtask.getId(), subtask);
+                        pendingCount.incrementAndGet();
+                    }
+                } finally {
+                    stripe.lock.unlock();
+                }
+            }
+            if (journal != null) {
+                journal.sync(sequence);
+            }
+        } finally {
+            drainLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the updates journaled by a previous run before any new update is accepted.
+     */
+    private void recover() throws IOException {
+        List<Path> segments = journal.segments();
+        if (segments.isEmpty()) {
+            return;
+        }
+        Map<UUID, SubtaskStatusChange> latest = new LinkedHashMap<>();
+        for (SubtaskStatusChange change : journal.read(segments)) {
+            latest.remove(change.subtaskId());
+            latest.put(change.subtaskId(), change);
+        }
+        log.info("Replaying {} subtask status updates from {} journal segments", latest.size(), segments.size());
+        if (!latest.isEmpty()) {
+            reject(flusher.flush(latest.values()));
+        }
+        segments.forEach(journal::delete);
+    }
+
+    private void reject(List<SubtaskStatusChange> changes) {
+        for (SubtaskStatusChange change : changes) {
+            log.warn("Dropped buffered status {} of subtask {}: task {} is gone",
+                    change.status(), change.subtaskId(), change.taskId());
+        }
+        rejected.increment(changes.size());
+    }
+
+    private SubtaskDTO load(UUID id) {
+        return subtaskQueryRepository.findSlice(SubtaskSpecification.idIn(List.of(id)), 1).stream()
+                .findFirst()
+                .map(subtaskMapper::toDTO)
+                .orElseThrow(() -> new SubtaskNotFoundException("Subtask not found with ID: " + id));
+    }
+
+    /**
+     * The buffered update of a subtask, or else the one the running flush is writing.
+     */
+    private SubtaskDTO pending(Stripe stripe, UUID id) {
+        SubtaskDTO pending = stripe.get(id);
+        return pending != null ? pending : inFlight.get(id);
+    }
+
+    private Stripe stripe(UUID id) {
+        return stripes[Math.floorMod(id.hashCode(), stripes.length)];
+    }
+
+    private void registerMetrics() {
+        Gauge.builder("app.writebehind.pending", pendingCount, AtomicInteger::get)
+                .description("Subtasks with a buffered status update")
+                .register(meterRegistry);
+        coalesced = Counter.builder("app.writebehind.coalesced")
+                .description("Buffered updates replaced by a newer update of the same subtask")
+                .register(meterRegistry);
+        rejected = Counter.builder("app.writebehind.rejected")
+                .description("Buffered updates dropped at flush because their task is gone")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("app.writebehind.flush")
+                .description("Time to write one batch of buffered updates")
+                .register(meterRegistry);
+        flushSizes = DistributionSummary.builder("app.writebehind.flush.size")
+                .description("Subtasks written per flush")
+                .register(meterRegistry);
+    }
+
+    private static SubtaskStatusChange change(SubtaskDTO subtask) {
+        return new SubtaskStatusChange(subtask.getId(), subtask.getTaskId(), subtask.getStatus(),
+                subtask.getCompletedAt());
+    }
+
+    private static SubtaskDTO copy(SubtaskDTO subtask) {
+        SubtaskDTO copy = new SubtaskDTO();
+        copy.setId(subtask.getId());
+        copy.setTitle(subtask.getTitle());
+        copy.setDescription(subtask.getDescription());
+        copy.setStatus(subtask.getStatus());
+        copy.setCreatedAt(subtask.getCreatedAt());
+        copy.setCompletedAt(subtask.getCompletedAt());
+        copy.setTaskId(subtask.getTaskId());
+        copy.setTaskTitle(subtask.getTaskTitle());
+        return copy;
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<UUID, SubtaskDTO> updates = new HashMap<>();
+
+        SubtaskDTO get(UUID id) {
+            lock.lock();
+            try {
+                return updates.get(id);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void collect(UUID taskId, Map<UUID, TaskStatus> statuses) {
+            lock.lock();
+            try {
+                for (SubtaskDTO subtask : updates.values()) {
+                    if (taskId.equals(subtask.getTaskId())) {
+                        statuses.put(subtask.getId(), subtask.getStatus());
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void drainTo(Map<UUID, SubtaskDTO> drained) {
+            lock.lock();
+            try {
+                drained.putAll(updates);
+                updates.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+-- Schema previously created by Hibernate ddl-auto. Databases created that way are
+-- baselined at version 1 (spring.flyway.baseline-on-migrate) and skip this script.
+
+CREATE TABLE IF NOT EXISTS users (
+    id         UUID PRIMARY KEY,
+    name       VARCHAR(100) NOT NULL,
+    email      VARCHAR(150) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id               UUID PRIMARY KEY,
+    title            VARCHAR(200) NOT NULL,
+    normalized_title VARCHAR(200),
+    description      VARCHAR(1000),
+    status           VARCHAR(20)  NOT NULL,
+    created_at       TIMESTAMP(6) NOT NULL,
+    completed_at     TIMESTAMP(6),
+    user_id          UUID         NOT NULL REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS subtasks (
+    id               UUID PRIMARY KEY,
+    title            VARCHAR(200) NOT NULL,
+    normalized_title VARCHAR(200),
+    description      VARCHAR(1000),
+    status           VARCHAR(20)  NOT NULL,
+    created_at       TIMESTAMP(6) NOT NULL,
+    completed_at     TIMESTAMP(6),
+    task_id          UUID         NOT NULL REFERENCES tasks (id)
+);
@@ -0,0 +1,6 @@
+-- Substring title search: pg_trgm and normalized titles for rows written before the
+-- normalized_title column existed. The indexes are built in V3.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+UPDATE tasks SET normalized_title = lower(title) WHERE normalized_title IS NULL;
+UPDATE subtasks SET normalized_title = lower(title) WHERE normalized_title IS NULL;
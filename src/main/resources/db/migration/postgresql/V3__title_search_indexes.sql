@@ -0,0 +1,9 @@
+-- Trigram indexes for LIKE '%term%' on the normalized titles (TaskSpecification and
+-- SubtaskSpecification title filters). Built CONCURRENTLY, so Flyway runs this script
+-- outside a transaction and writes are not blocked on large tables. Deployments that ran
+-- the former startup script already have these indexes.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_normalized_title_trgm
+    ON tasks USING gin (normalized_title gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_subtasks_normalized_title_trgm
+    ON subtasks USING gin (normalized_title gin_trgm_ops);
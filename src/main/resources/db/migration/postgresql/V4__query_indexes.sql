@@ -0,0 +1,34 @@
+-- Indexes for the hot read paths. Lists are ordered by created_at (the default sort) or by
+-- (created_at, id) for keyset pagination and exports, so the filter columns lead and the
+-- sort columns follow. Built CONCURRENTLY, outside a transaction.
+--
+-- If a build fails, PostgreSQL leaves an INVALID index behind that IF NOT EXISTS would skip:
+-- drop it with DROP INDEX CONCURRENTLY, then run flyway repair and migrate again.
+
+-- Tasks of a user, optionally by status (TaskSpecification.withFilters with userId [and status]).
+-- Also serves the user_id foreign key and index-only counts per user and status.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_status_created
+    ON tasks (user_id, status, created_at, id);
+
+-- Tasks by status across users (TaskSpecification.withFilters with status only).
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_status_created
+    ON tasks (status, created_at, id);
+
+-- Unfiltered lists, keyset scrolling and exports.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_created
+    ON tasks (created_at, id);
+
+-- Covers every subtask query keyed by task: countByTaskId, countByTaskIdAndStatus,
+-- areAllSubtasksCompleted, countByTaskIds, findTaskIdsWithPendingSubtasks and the
+-- NOT EXISTS guard of TaskRepository.completeAll all run as index-only scans.
+-- Also serves SubtaskSpecification.withFilters with taskId and the task_id foreign key.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_subtasks_task_status
+    ON subtasks (task_id, status);
+
+-- Subtask search by status across tasks (SubtaskSpecification.withFilters with status only).
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_subtasks_status_created
+    ON subtasks (status, created_at, id);
+
+-- Unfiltered subtask search and keyset scrolling.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_subtasks_created
+    ON subtasks (created_at, id);
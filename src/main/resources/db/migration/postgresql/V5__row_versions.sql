@@ -0,0 +1,5 @@
+-- Row versions for optimistic locking and ETags. A constant default is stored in the
+-- catalog, so existing rows are not rewritten.
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE subtasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
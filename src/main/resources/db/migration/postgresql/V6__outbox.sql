@@ -0,0 +1,11 @@
+-- Transactional outbox: events are inserted in the transaction of the change that caused
+-- them and deleted once the relay has published them. Rows are short-lived, so vacuum the
+-- table well before the default 20% of dead rows.
+CREATE TABLE outbox_events (
+    id             UUID PRIMARY KEY,
+    aggregate_type VARCHAR(20)   NOT NULL,
+    aggregate_id   UUID          NOT NULL,
+    event_type     VARCHAR(50)   NOT NULL,
+    payload        VARCHAR(4000) NOT NULL,
+    created_at     TIMESTAMP(6)  NOT NULL
+) WITH (autovacuum_vacuum_scale_factor = 0.01);
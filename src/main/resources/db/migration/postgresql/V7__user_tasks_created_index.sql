@@ -0,0 +1,6 @@
+-- Tasks of a user without a status filter, in list order (TaskSpecification.withFilters with
+-- userId only). idx_tasks_user_status_created cannot return them ordered by created_at, so
+-- PostgreSQL sorted every task of the user, which hurts most for the users with the most tasks.
+-- This index returns a page in order and stops once it is full. Built CONCURRENTLY, like V4.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_user_created
+    ON tasks (user_id, created_at, id);
@@ -0,0 +1,45 @@
+package com.ipaas.taskmanagement.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for BloomFilter.
+ */
+@DisplayName("Tests for BloomFilter")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Should never report an inserted value as absent")
+    void shouldNeverReportInsertedValueAsAbsent() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@email.com");
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i + "@email.com")).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep false-positive rate close to the configured probability")
+    void shouldKeepFalsePositiveRateCloseToConfiguredProbability() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i + "@email.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("other" + i + "@email.com")) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives / 10_000.0).isLessThan(0.03);
+        assertThat(filter.expectedFalsePositiveProbability()).isLessThan(0.03);
+    }
+}
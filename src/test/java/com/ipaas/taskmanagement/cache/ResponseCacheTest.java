@@ -0,0 +1,237 @@
+package com.ipaas.taskmanagement.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ipaas.taskmanagement.dto.UserDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ResponseCache, run against the in-memory store.
+ */
+@DisplayName("Tests for ResponseCache")
+class ResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ResponseCache responseCache;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        responseCache = cache(new InMemoryResponseCacheStore(), Clock.systemUTC());
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should serve the second lookup from the cache")
+    void shouldServeSecondLookupFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+
+        UserDTO first = responseCache.get("user:" + userId, UserDTO.class, List.of("user:" + userId),
+                () -> load(loads));
+        UserDTO second = responseCache.get("user:" + userId, UserDTO.class, List.of("user:" + userId),
+                () -> load(loads));
+
+        assertThat(loads).hasValue(1);
+        assertThat(second.getId()).isEqualTo(first.getId());
+    }
+
+    @Test
+    @DisplayName("Should reload after the tag is invalidated")
+    void shouldReloadAfterTagIsInvalidated() {
+        AtomicInteger loads = new AtomicInteger();
+        responseCache.get("user:" + userId, UserDTO.class, List.of("user:" + userId), () -> load(loads));
+
+        responseCache.invalidate(List.of("user:" + userId));
+        responseCache.get("user:" + userId, UserDTO.class, List.of("user:" + userId), () -> load(loads));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not store a load that overlapped an invalidation of its tag")
+    void shouldNotStoreLoadOverlappingInvalidation() {
+        AtomicInteger loads = new AtomicInteger();
+        List<String> tags = List.of("user:" + userId);
+
+        // The commit invalidates the tag after the load read the pre-commit state
+        responseCache.get("user:" + userId, UserDTO.class, tags, () -> {
+            UserDTO stale = load(loads);
+            responseCache.invalidate(tags);
+            return stale;
+        });
+        responseCache.get("user:" + userId, UserDTO.class, tags, () -> load(loads));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should rebuild cached pages against the requested pageable")
+    void shouldRebuildCachedPagesAgainstRequestedPageable() {
+        Pageable pageable = PageRequest.of(0, 2);
+        AtomicInteger loads = new AtomicInteger();
+
+        responseCache.getPage("users", UserDTO.class, pageable, List.of("users"),
+                () -> new PageImpl<>(List.of(load(loads), load(loads)), pageable, 7));
+        Page<UserDTO> page = responseCache.getPage("users", UserDTO.class, pageable, List.of("users"),
+                () -> new PageImpl<>(List.of(load(loads)), pageable, 7));
+
+        assertThat(loads).hasValue(2);
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isEqualTo(7);
+        assertThat(page.getTotalPages()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should collapse concurrent misses into a single load")
+    void shouldCollapseConcurrentMissesIntoSingleLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<UserDTO>> results = new ArrayList<>();
+            results.add(executor.submit(() -> responseCache.get("user:" + userId, UserDTO.class, List.of(), () -> {
+                loading.countDown();
+                await(release);
+                return load(loads);
+            })));
+            loading.await(5, TimeUnit.SECONDS);
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> responseCache.get("user:" + userId, UserDTO.class, List.of(),
+                        () -> load(loads))));
+            }
+
+            // Give the followers time to join the in-flight load before it completes
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<UserDTO> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getId()).isEqualTo(userId);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should fail open and bypass the store while it is unavailable")
+    void shouldFailOpenAndBypassStoreWhileUnavailable() {
+        FailingStore store = new FailingStore();
+        MutableClock clock = new MutableClock();
+        ResponseCache failingCache = cache(store, clock);
+        AtomicInteger loads = new AtomicInteger();
+
+        UserDTO result = failingCache.get("user:" + userId, UserDTO.class, List.of(), () -> load(loads));
+        failingCache.get("user:" + userId, UserDTO.class, List.of(), () -> load(loads));
+
+        assertThat(result.getId()).isEqualTo(userId);
+        assertThat(loads).hasValue(2);
+        assertThat(store.calls).hasValue(1);
+
+        clock.advance(Duration.ofSeconds(31));
+        failingCache.get("user:" + userId, UserDTO.class, List.of(), () -> load(loads));
+
+        assertThat(store.calls).hasValue(2);
+    }
+
+    private ResponseCache cache(ResponseCacheStore store, Clock clock) {
+        return new ResponseCache(store, objectMapper, new SimpleMeterRegistry(), clock, "test:",
+                Duration.ofMinutes(1), Duration.ofSeconds(10), 5, Duration.ofSeconds(30));
+    }
+
+    private UserDTO load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        UserDTO user = new UserDTO();
+        user.setId(userId);
+        user.setName("John Doe");
+        user.setEmail("john.doe@email.com");
+        return user;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Store that times out on every call, like an overloaded Redis.
+     */
+    private static class FailingStore implements ResponseCacheStore {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public Optional<String> get(String key) {
+            calls.incrementAndGet();
+            throw new QueryTimeoutException("Redis command timed out");
+        }
+
+        @Override
+        public void put(String key, String value, Duration ttl, Collection<String> tags) {
+            calls.incrementAndGet();
+            throw new QueryTimeoutException("Redis command timed out");
+        }
+
+        @Override
+        public void invalidateTags(Collection<String> tags) {
+            calls.incrementAndGet();
+            throw new QueryTimeoutException("Redis command timed out");
+        }
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T10:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
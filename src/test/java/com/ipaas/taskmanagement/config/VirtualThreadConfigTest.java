@@ -0,0 +1,35 @@
+package com.ipaas.taskmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for sizing the connection permits of VirtualThreadConfig.
+ */
+@DisplayName("Tests for VirtualThreadConfig")
+class VirtualThreadConfigTest {
+
+    @Test
+    @DisplayName("Should size the permits from the Hikari pool behind a proxy")
+    void shouldSizePermitsFromHikariPoolBehindProxy() {
+        try (HikariDataSource pool = new HikariDataSource()) {
+            pool.setMaximumPoolSize(7);
+            LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+            proxy.setTargetDataSource(pool);
+
+            assertThat(VirtualThreadConfig.poolSize(pool)).isEqualTo(7);
+            assertThat(VirtualThreadConfig.poolSize(proxy)).isEqualTo(7);
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to Hikari's default without a Hikari pool")
+    void shouldFallBackToDefaultWithoutHikariPool() {
+        assertThat(VirtualThreadConfig.poolSize(new DriverManagerDataSource())).isEqualTo(10);
+    }
+}
@@ -0,0 +1,143 @@
+package com.ipaas.taskmanagement.controller;
+
+import com.ipaas.taskmanagement.entity.Subtask;
+import com.ipaas.taskmanagement.entity.Task;
+import com.ipaas.taskmanagement.entity.User;
+import com.ipaas.taskmanagement.repository.SubtaskRepository;
+import com.ipaas.taskmanagement.repository.TaskRepository;
+import com.ipaas.taskmanagement.repository.UserRepository;
+import com.ipaas.taskmanagement.support.EnableSqlStatementBudgets;
+import com.ipaas.taskmanagement.support.SqlStatementBudget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budgets for the read endpoints, measured through the full MVC stack so
+ * serialization and open-session-in-view lazy loading are included.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@EnableSqlStatementBudgets
+@DisplayName("SQL statement budgets for the REST API")
+class ApiStatementBudgetTest {
+
+    private static final int TASKS = 150;
+    private static final int SUBTASKS_PER_TASK = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private SubtaskRepository subtaskRepository;
+
+    private User user;
+    private Task firstTask;
+    private Subtask firstSubtask;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("Budget User", "budget@api.com"));
+        List<Task> tasks = new ArrayList<>();
+        List<Subtask> subtasks = new ArrayList<>();
+        for (int t = 0; t < TASKS; t++) {
+            Task task = new Task();
+            task.setTitle("Task " + t);
+            task.setUser(user);
+            tasks.add(task);
+            for (int s = 0; s < SUBTASKS_PER_TASK; s++) {
+                Subtask subtask = new Subtask();
+                subtask.setTitle("Subtask " + t + "-" + s);
+                subtask.setTask(task);
+                subtasks.add(subtask);
+            }
+        }
+        taskRepository.saveAll(tasks);
+        subtaskRepository.saveAll(subtasks);
+        firstTask = tasks.get(0);
+        firstSubtask = subtasks.get(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @SqlStatementBudget(value = "GET /api/tasks (page=100)", max = 3)
+    @DisplayName("Should list 100 tasks with subtask counts within budget")
+    void shouldListTasksWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("userId", user.getId().toString()).param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(100))
+                .andExpect(jsonPath("$.totalElements").value(TASKS));
+    }
+
+    @Test
+    @SqlStatementBudget(value = "GET /api/tasks/{id}", max = 3)
+    @DisplayName("Should return a task within budget")
+    void shouldFindTaskWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/tasks/{id}", firstTask.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalSubtasks").value(SUBTASKS_PER_TASK));
+    }
+
+    @Test
+    @SqlStatementBudget(value = "GET /api/tasks/{id} (If-None-Match)", max = 1)
+    @DisplayName("Should answer an unchanged task with 304 from a version-only lookup")
+    void shouldAnswerConditionalGetWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/tasks/{id}", firstTask.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + firstTask.getVersion() + "\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @SqlStatementBudget(value = "GET /api/tasks/{taskId}/subtasks", max = 2)
+    @DisplayName("Should list the subtasks of a task within budget")
+    void shouldListSubtasksWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/tasks/{taskId}/subtasks", firstTask.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(SUBTASKS_PER_TASK));
+    }
+
+    @Test
+    @SqlStatementBudget(value = "GET /api/subtasks/search (page=100)", max = 2)
+    @DisplayName("Should search 100 subtasks with their task titles within budget")
+    void shouldSearchSubtasksWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/subtasks/search").param("status", "PENDING").param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(100))
+                .andExpect(jsonPath("$.content[0].taskTitle").exists());
+    }
+
+    @Test
+    @SqlStatementBudget(value = "GET /api/subtasks/{id}", max = 2)
+    @DisplayName("Should return a subtask and its task title within budget")
+    void shouldFindSubtaskWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/subtasks/{id}", firstSubtask.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.taskTitle").value(firstTask.getTitle()));
+    }
+}
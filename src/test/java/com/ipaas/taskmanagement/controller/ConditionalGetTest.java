@@ -0,0 +1,129 @@
+package com.ipaas.taskmanagement.controller;
+
+import com.ipaas.taskmanagement.dto.TaskDTO;
+import com.ipaas.taskmanagement.dto.UserDTO;
+import com.ipaas.taskmanagement.form.CreateSubtaskForm;
+import com.ipaas.taskmanagement.form.CreateTaskForm;
+import com.ipaas.taskmanagement.form.CreateUserForm;
+import com.ipaas.taskmanagement.repository.TaskRepository;
+import com.ipaas.taskmanagement.repository.UserRepository;
+import com.ipaas.taskmanagement.service.SubtaskService;
+import com.ipaas.taskmanagement.service.TaskService;
+import com.ipaas.taskmanagement.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Tests for conditional GET with ETags")
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private SubtaskService subtaskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UserDTO user;
+    private TaskDTO task;
+
+    @BeforeEach
+    void setUp() {
+        CreateUserForm userForm = new CreateUserForm();
+        userForm.setName("ETag User");
+        userForm.setEmail("etag@email.com");
+        user = userService.createUser(userForm);
+
+        CreateTaskForm taskForm = new CreateTaskForm();
+        taskForm.setTitle("Polled task");
+        taskForm.setUserId(user.getId());
+        task = taskService.createTask(taskForm);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should return 304 without a body while the task is unchanged")
+    void shouldReturnNotModifiedForUnchangedTask() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/tasks/{id}", task.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When / Then
+        assertThat(etag).isNotNull();
+        mockMvc.perform(get("/api/tasks/{id}", task.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should change the task and subtask list ETags when a subtask is added")
+    void shouldChangeETagsWhenSubtaskIsAdded() throws Exception {
+        // Given
+        String taskETag = mockMvc.perform(get("/api/tasks/{id}", task.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String listETag = mockMvc.perform(get("/api/tasks/{taskId}/subtasks", task.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When
+        CreateSubtaskForm subtaskForm = new CreateSubtaskForm();
+        subtaskForm.setTitle("New subtask");
+        subtaskService.createSubtask(task.getId(), subtaskForm);
+
+        // Then
+        String newTaskETag = mockMvc.perform(get("/api/tasks/{id}", task.getId()).header(HttpHeaders.IF_NONE_MATCH, taskETag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newTaskETag).isNotEqualTo(taskETag);
+
+        mockMvc.perform(get("/api/tasks/{taskId}/subtasks", task.getId()).header(HttpHeaders.IF_NONE_MATCH, listETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, newTaskETag));
+    }
+
+    @Test
+    @DisplayName("Should answer conditional user requests, including weak and listed ETags")
+    void shouldReturnNotModifiedForUnchangedUser() throws Exception {
+        String etag = mockMvc.perform(get("/api/users/{id}", user.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/users/{id}", user.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/" + etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/users/{id}", user.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"other\""))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,158 @@
+package com.ipaas.taskmanagement.controller;
+
+import com.ipaas.taskmanagement.dto.TaskDTO;
+import com.ipaas.taskmanagement.dto.UserDTO;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.form.CreateTaskForm;
+import com.ipaas.taskmanagement.form.CreateUserForm;
+import com.ipaas.taskmanagement.form.UpdateTaskStatusForm;
+import com.ipaas.taskmanagement.repository.TaskRepository;
+import com.ipaas.taskmanagement.repository.UserRepository;
+import com.ipaas.taskmanagement.service.TaskService;
+import com.ipaas.taskmanagement.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest(properties = "app.events.heartbeat-interval=PT0.2S")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Tests for the task event stream")
+class TaskEventStreamTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)\\nevent:TASK_CREATED");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UserDTO user;
+    private UserDTO otherUser;
+
+    @BeforeEach
+    void setUp() {
+        user = createUser("stream@email.com");
+        otherUser = createUser("other-stream@email.com");
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should push committed changes for the filtered user only, with heartbeats")
+    void shouldPushFilteredChanges() throws Exception {
+        // Given
+        MvcResult stream = mockMvc.perform(get("/api/tasks/stream").param("userId", user.getId().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        TaskDTO task = createTask(user, "Streamed task");
+        TaskDTO otherTask = createTask(otherUser, "Task of someone else");
+        taskService.updateStatus(task.getId(), status(TaskStatus.IN_PROGRESS));
+
+        // Then
+        String body = await(stream, content -> content.contains("event:TASK_STATUS_CHANGED")
+                && content.contains(":heartbeat"));
+        assertThat(body).contains("event:TASK_CREATED").contains(task.getId().toString())
+                .contains("\"status\":\"IN_PROGRESS\"")
+                .doesNotContain(otherTask.getId().toString());
+    }
+
+    @Test
+    @DisplayName("Should replay the events after Last-Event-ID on reconnect")
+    void shouldResumeFromLastEventId() throws Exception {
+        // Given
+        MvcResult first = mockMvc.perform(get("/api/tasks/stream").param("userId", user.getId().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        TaskDTO task = createTask(user, "Resumed task");
+        Matcher matcher = EVENT_ID.matcher(await(first, content -> content.contains("event:TASK_CREATED")));
+        assertThat(matcher.find()).isTrue();
+        String lastEventId = matcher.group(1);
+
+        // When: the client is away while the task changes
+        taskService.updateStatus(task.getId(), status(TaskStatus.IN_PROGRESS));
+        MvcResult resumed = mockMvc.perform(get("/api/tasks/stream")
+                        .param("userId", user.getId().toString())
+                        .header("Last-Event-ID", lastEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = await(resumed, content -> content.contains("event:TASK_STATUS_CHANGED"));
+        assertThat(body).doesNotContain("event:TASK_CREATED").doesNotContain("event:resync");
+    }
+
+    @Test
+    @DisplayName("Should ask the client to resync when its last event is no longer buffered")
+    void shouldResyncUnknownLastEventId() throws Exception {
+        // When
+        MvcResult stream = mockMvc.perform(get("/api/tasks/stream").header("Last-Event-ID", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        assertThat(await(stream, content -> content.contains("event:resync"))).isNotEmpty();
+    }
+
+    private static String await(MvcResult result, Predicate<String> condition) throws Exception {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        String content = result.getResponse().getContentAsString();
+        while (!condition.test(content) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            content = result.getResponse().getContentAsString();
+        }
+        assertThat(condition).as("stream content: %s", content).accepts(content);
+        return content;
+    }
+
+    private UserDTO createUser(String email) {
+        CreateUserForm form = new CreateUserForm();
+        form.setName("Stream User");
+        form.setEmail(email);
+        return userService.createUser(form);
+    }
+
+    private TaskDTO createTask(UserDTO owner, String title) {
+        CreateTaskForm form = new CreateTaskForm();
+        form.setTitle(title);
+        form.setUserId(owner.getId());
+        return taskService.createTask(form);
+    }
+
+    private static UpdateTaskStatusForm status(TaskStatus status) {
+        UpdateTaskStatusForm form = new UpdateTaskStatusForm();
+        form.setStatus(status);
+        return form;
+    }
+}
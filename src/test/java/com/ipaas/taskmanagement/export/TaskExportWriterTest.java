@@ -0,0 +1,76 @@
+package com.ipaas.taskmanagement.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.projection.TaskExportRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TaskExportWriter.
+ */
+@DisplayName("Tests for TaskExportWriter")
+class TaskExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final UUID taskId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void shouldWriteOneJsonObjectPerLine() throws IOException {
+        String output = export(ExportFormat.NDJSON, row("Test Task", null), row("Other Task", null));
+
+        String[] lines = output.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("title").asText()).isEqualTo("Test Task");
+        assertThat(objectMapper.readTree(lines[1]).get("totalSubtasks").asLong()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should write CSV with header and quoted values")
+    void shouldWriteCsvWithHeaderAndQuotedValues() throws IOException {
+        String output = export(ExportFormat.CSV, row("Fix \"login\", today", "line one\nline two"));
+
+        assertThat(output).startsWith("id,title,description,status,createdAt,completedAt,userId,userName,"
+                + "totalSubtasks,completedSubtasks\r\n");
+        assertThat(output).contains(taskId + ",\"Fix \"\"login\"\", today\",\"line one\nline two\",PENDING,");
+        assertThat(output).endsWith(",John Doe,3,1\r\n");
+    }
+
+    @Test
+    @DisplayName("Should write only the CSV header for an empty export")
+    void shouldWriteOnlyCsvHeaderForEmptyExport() throws IOException {
+        String output = export(ExportFormat.CSV);
+
+        assertThat(output).isEqualTo("id,title,description,status,createdAt,completedAt,userId,userName,"
+                + "totalSubtasks,completedSubtasks\r\n");
+    }
+
+    private String export(ExportFormat format, TaskExportRow... rows) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (TaskExportWriter writer = TaskExportWriter.create(format, outputStream, objectMapper)) {
+            for (TaskExportRow row : rows) {
+                writer.write(row);
+            }
+        }
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private TaskExportRow row(String title, String description) {
+        return new TaskExportRow(taskId, title, description, TaskStatus.PENDING,
+                LocalDateTime.of(2024, 1, 1, 10, 0), null, userId, "John Doe", 3, 1);
+    }
+}
@@ -0,0 +1,50 @@
+package com.ipaas.taskmanagement.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for UuidV7.
+ */
+@DisplayName("Tests for UuidV7")
+class UuidV7Test {
+
+    @Test
+    @DisplayName("Should generate version 7 UUIDs with the RFC variant")
+    void shouldGenerateVersion7Uuids() {
+        UUID uuid = UuidV7.randomUuid();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should generate strictly increasing IDs, also within the same millisecond")
+    void shouldGenerateIncreasingIds() {
+        UUID previous = UuidV7.randomUuid();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.randomUuid();
+            // Databases compare UUIDs as unsigned bytes; the time and sequence are in the high bits
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+                    .isPositive();
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Should encode the creation time")
+    void shouldEncodeCreationTime() {
+        Instant before = Instant.ofEpochMilli(System.currentTimeMillis());
+        Instant timestamp = UuidV7.timestamp(UuidV7.randomUuid());
+
+        assertThat(timestamp).isAfterOrEqualTo(before);
+        assertThat(UuidV7.timestamp(UuidV7.of(1_700_000_000_000L, 0, 0))).isEqualTo(Instant.ofEpochMilli(1_700_000_000_000L));
+        assertThatThrownBy(() -> UuidV7.timestamp(UUID.randomUUID())).isInstanceOf(IllegalArgumentException.class);
+    }
+}
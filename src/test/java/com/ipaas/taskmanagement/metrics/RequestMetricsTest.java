@@ -0,0 +1,69 @@
+package com.ipaas.taskmanagement.metrics;
+
+import com.ipaas.taskmanagement.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Tests for request metrics")
+class RequestMetricsTest {
+
+    private static final String ENDPOINT = "POST /api/users";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should tag service timings and per-request statement counts with the endpoint")
+    void shouldRecordMetricsPerEndpoint() throws Exception {
+        // When
+        mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Metrics User\",\"email\":\"metrics@example.com\"}"))
+                .andExpect(status().isCreated());
+
+        // Then
+        Timer serviceTimer = meterRegistry.find("app.service.method")
+                .tags("service", "UserService", "method", "createUser", "endpoint", ENDPOINT)
+                .timer();
+        assertThat(serviceTimer).isNotNull();
+        assertThat(serviceTimer.count()).isEqualTo(1);
+
+        DistributionSummary statements = meterRegistry.find("app.request.statements")
+                .tag("endpoint", ENDPOINT)
+                .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isGreaterThanOrEqualTo(1);
+
+        assertThat(meterRegistry.find("app.request.entities.loaded").tag("endpoint", ENDPOINT).summary())
+                .isNotNull();
+    }
+}
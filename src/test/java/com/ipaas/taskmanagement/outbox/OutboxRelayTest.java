@@ -0,0 +1,137 @@
+package com.ipaas.taskmanagement.outbox;
+
+import com.ipaas.taskmanagement.dto.TaskDTO;
+import com.ipaas.taskmanagement.dto.UserDTO;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.form.CreateTaskForm;
+import com.ipaas.taskmanagement.form.CreateUserForm;
+import com.ipaas.taskmanagement.form.UpdateTaskStatusForm;
+import com.ipaas.taskmanagement.repository.TaskRepository;
+import com.ipaas.taskmanagement.repository.UserRepository;
+import com.ipaas.taskmanagement.service.TaskService;
+import com.ipaas.taskmanagement.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Writes task changes to the outbox and drains it with the relay, run by hand; the test
+ * profile keeps the scheduled relay idle.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Tests for the transactional outbox")
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryOutboxPublisher publisher;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UserDTO user;
+
+    @BeforeEach
+    void setUp() {
+        CreateUserForm form = new CreateUserForm();
+        form.setName("Outbox User");
+        form.setEmail("outbox@email.com");
+        user = userService.createUser(form);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should publish committed changes in order and empty the outbox")
+    void shouldPublishCommittedChanges() {
+        // Given
+        TaskDTO task = createTask("Announced task");
+        UpdateTaskStatusForm form = new UpdateTaskStatusForm();
+        form.setStatus(TaskStatus.IN_PROGRESS);
+        taskService.updateStatus(task.getId(), form);
+        assertThat(pendingEvents(task.getId())).isEqualTo(2);
+
+        // When
+        outboxRelay.drain();
+
+        // Then
+        List<OutboxMessage> published = publishedFor(task.getId());
+        assertThat(published).extracting(OutboxMessage::eventType)
+                .containsExactly("TASK_CREATED", "TASK_STATUS_CHANGED");
+        assertThat(published).allSatisfy(message -> assertThat(message.aggregateType()).isEqualTo("TASK"));
+        assertThat(published.get(1).payload())
+                .contains("\"taskId\":\"" + task.getId() + "\"")
+                .contains("\"userId\":\"" + user.getId() + "\"")
+                .contains("\"status\":\"IN_PROGRESS\"");
+        assertThat(pendingEvents(task.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not publish changes that were rolled back")
+    void shouldNotPublishRolledBackChanges() {
+        // Given
+        TaskDTO task = transactionTemplate.execute(status -> {
+            TaskDTO created = createTask("Rolled back task");
+            status.setRollbackOnly();
+            return created;
+        });
+
+        // When
+        outboxRelay.drain();
+
+        // Then
+        assertThat(publishedFor(task.getId())).isEmpty();
+        assertThat(pendingEvents(task.getId())).isZero();
+    }
+
+    private TaskDTO createTask(String title) {
+        CreateTaskForm form = new CreateTaskForm();
+        form.setTitle(title);
+        form.setUserId(user.getId());
+        return taskService.createTask(form);
+    }
+
+    private List<OutboxMessage> publishedFor(UUID taskId) {
+        return publisher.getPublished().stream()
+                .filter(message -> message.aggregateId().equals(taskId))
+                .toList();
+    }
+
+    private int pendingEvents(UUID aggregateId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ?",
+                Integer.class, aggregateId);
+    }
+}
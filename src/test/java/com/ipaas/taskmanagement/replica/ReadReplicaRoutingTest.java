@@ -0,0 +1,228 @@
+package com.ipaas.taskmanagement.replica;
+
+import com.ipaas.taskmanagement.dto.TaskDTO;
+import com.ipaas.taskmanagement.dto.UserDTO;
+import com.ipaas.taskmanagement.exception.UserNotFoundException;
+import com.ipaas.taskmanagement.form.CreateTaskForm;
+import com.ipaas.taskmanagement.form.CreateUserForm;
+import com.ipaas.taskmanagement.repository.TaskRepository;
+import com.ipaas.taskmanagement.repository.UserRepository;
+import com.ipaas.taskmanagement.service.TaskService;
+import com.ipaas.taskmanagement.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Routes between two embedded databases: the test database is the primary and a second H2
+ * database stands in for the replica. Nothing replicates between them except {@link #replicate()},
+ * which copies the primary, so a read shows which database served it. The replica is assumed
+ * to lag by an hour, so the token of any write made during the test is ahead of it.
+ */
+@SpringBootTest(properties = {
+        "app.datasource.replicas.enabled=true",
+        "app.datasource.replicas.urls=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "app.datasource.replicas.assumed-lag=PT1H",
+        "app.datasource.replicas.max-lag=PT2H",
+        "app.datasource.replicas.health-check-interval=PT1H"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Tests for read replica routing")
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replicadb;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ReplicaRouter replicaRouter;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        replicate();
+        replicaRouter.checkReplicas();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should serve read-only transactions from the replica and everything else from the primary")
+    void shouldRouteReadOnlyTransactionsToReplica() throws SQLException {
+        // Given
+        CreateUserForm form = new CreateUserForm();
+        form.setName("Routed User");
+        form.setEmail("routed@email.com");
+        userService.createUser(form);
+
+        // When / Then
+        assertThat(countUsers(false)).isEqualTo(1);
+        assertThat(countUsers(true)).isZero();
+
+        replicate();
+        assertThat(countUsers(true)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should read from the primary when the consistency token is ahead of the replica")
+    void shouldReadYourWritesWithConsistencyToken() throws Exception {
+        // Given
+        String token = mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Token User\",\"email\":\"token@email.com\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().exists(ConsistencyTokens.HEADER))
+                .andReturn().getResponse().getHeader(ConsistencyTokens.HEADER);
+
+        // When / Then: the replica has not seen the user yet
+        assertThatThrownBy(() -> mockMvc.perform(get("/api/users/email/token@email.com")))
+                .hasRootCauseInstanceOf(UserNotFoundException.class);
+        mockMvc.perform(get("/api/users/email/token@email.com").header(ConsistencyTokens.HEADER, token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/users/email/token@email.com").header(ConsistencyTokens.HEADER, "not-a-token"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should not cache what a lagging replica returned for a cached endpoint")
+    void shouldNotCacheReplicaReads() throws Exception {
+        // Given: a task the replica has, then a write it has not seen
+        CreateUserForm userForm = new CreateUserForm();
+        userForm.setName("Cached User");
+        userForm.setEmail("cached@email.com");
+        UserDTO user = userService.createUser(userForm);
+        CreateTaskForm taskForm = new CreateTaskForm();
+        taskForm.setTitle("Cached Task");
+        taskForm.setUserId(user.getId());
+        TaskDTO task = taskService.createTask(taskForm);
+        replicate();
+
+        String token = mockMvc.perform(patch("/api/tasks/" + task.getId() + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"IN_PROGRESS\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(ConsistencyTokens.HEADER);
+
+        // When: a read without a token is served by the replica
+        mockMvc.perform(get("/api/tasks/" + task.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        // Then: the token still reads the write, and the primary's answer is what gets cached
+        mockMvc.perform(get("/api/tasks/" + task.getId()).header(ConsistencyTokens.HEADER, token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+        mockMvc.perform(get("/api/tasks/" + task.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+    }
+
+    @Test
+    @DisplayName("Should stream an export from the primary when the consistency token is ahead of the replica")
+    void shouldExportYourWritesWithConsistencyToken() throws Exception {
+        // Given
+        CreateUserForm userForm = new CreateUserForm();
+        userForm.setName("Export User");
+        userForm.setEmail("export@email.com");
+        UserDTO user = userService.createUser(userForm);
+        replicate();
+
+        MvcResult created = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Exported Task\",\"userId\":\"" + user.getId() + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String token = created.getResponse().getHeader(ConsistencyTokens.HEADER);
+
+        // When / Then: the body is written on another thread, which keeps the token
+        assertThat(export(null)).doesNotContain("Exported Task");
+        assertThat(export(token)).contains("Exported Task");
+    }
+
+    private String export(String token) throws Exception {
+        MockHttpServletRequestBuilder export = get("/api/tasks/export");
+        if (token != null) {
+            export.header(ConsistencyTokens.HEADER, token);
+        }
+        MvcResult result = mockMvc.perform(export)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+        return result.getResponse().getContentAsString();
+    }
+
+    private int countUsers(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        template.setReadOnly(readOnly);
+        return template.execute(status -> new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email = 'routed@email.com'", Integer.class));
+    }
+
+    /**
+     * Copies the schema and rows of the primary to the replica.
+     */
+    private void replicate() throws SQLException {
+        List<String> script = new JdbcTemplate(dataSource).queryForList("SCRIPT DROP", String.class);
+        try (Connection replica = DriverManager.getConnection(REPLICA_URL, "sa", "password");
+             Statement statement = replica.createStatement()) {
+            for (String sql : script) {
+                // Row count comments
+                if (!sql.startsWith("--")) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.ipaas.taskmanagement.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.internal.database.postgresql.PostgreSQLConfigurationExtension;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Applies the Flyway migrations to a real PostgreSQL and lets Hibernate validate the
+ * entities against the resulting schema. Skipped when Docker is not available.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Tests for the PostgreSQL migrations")
+class PostgresMigrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        // Deferred initialization makes Flyway and the EntityManagerFactory depend on each other
+        registry.add("spring.jpa.defer-datasource-initialization", () -> "false");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration/postgresql");
+        registry.add("app.search.title.index", () -> "trigram");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Test
+    @DisplayName("Should create the query and title search indexes as valid indexes")
+    void shouldCreateValidIndexes() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid "
+                        + "WHERE i.indisvalid AND c.relname LIKE 'idx_%'", String.class);
+
+        assertThat(indexes).containsExactlyInAnyOrder(
+                "idx_tasks_normalized_title_trgm",
+                "idx_subtasks_normalized_title_trgm",
+                "idx_tasks_user_status_created",
+                "idx_tasks_user_created",
+                "idx_tasks_status_created",
+                "idx_tasks_created",
+                "idx_subtasks_task_status",
+                "idx_subtasks_status_created",
+                "idx_subtasks_created");
+    }
+
+    @Test
+    @DisplayName("Should take the Flyway lock outside a transaction, so concurrent index builds can finish")
+    void shouldUseNonTransactionalLock() {
+        PostgreSQLConfigurationExtension extension = flyway.getConfiguration().getPluginRegister()
+                .getPlugin(PostgreSQLConfigurationExtension.class);
+
+        assertThat(extension.isTransactionalLock()).isFalse();
+    }
+}
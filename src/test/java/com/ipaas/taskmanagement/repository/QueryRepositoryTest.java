@@ -0,0 +1,170 @@
+package com.ipaas.taskmanagement.repository;
+
+import com.ipaas.taskmanagement.entity.Subtask;
+import com.ipaas.taskmanagement.entity.Task;
+import com.ipaas.taskmanagement.entity.User;
+import com.ipaas.taskmanagement.form.TaskFilterForm;
+import com.ipaas.taskmanagement.projection.SubtaskView;
+import com.ipaas.taskmanagement.projection.TaskExportRow;
+import com.ipaas.taskmanagement.projection.TaskView;
+import com.ipaas.taskmanagement.specification.SubtaskSpecification;
+import com.ipaas.taskmanagement.specification.TaskSpecification;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that list reads run a fixed number of statements and leave the
+ * persistence context empty.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({TaskQueryRepository.class, SubtaskQueryRepository.class})
+@DisplayName("Tests for query repositories")
+class QueryRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskQueryRepository taskQueryRepository;
+
+    @Autowired
+    private SubtaskQueryRepository subtaskQueryRepository;
+
+    private Task firstTask;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int u = 0; u < 3; u++) {
+            User user = entityManager.persist(new User("User " + u, "user" + u + "@email.com"));
+            for (int t = 0; t < 3; t++) {
+                Task task = new Task();
+                task.setTitle("Task " + u + "-" + t);
+                task.setUser(user);
+                entityManager.persist(task);
+                if (firstTask == null) {
+                    firstTask = task;
+                }
+
+                for (int s = 0; s < 2; s++) {
+                    Subtask subtask = new Subtask();
+                    subtask.setTitle("Subtask " + u + "-" + t + "-" + s);
+                    subtask.setTask(task);
+                    entityManager.persist(subtask);
+                }
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should list task views with one select and one count")
+    void shouldListTaskViewsWithOneSelectAndOneCount() {
+        Page<TaskView> page = taskQueryRepository.findViews(
+                TaskSpecification.withFilters(new TaskFilterForm()), PageRequest.of(0, 5, Sort.by("createdAt")));
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getTotalElements()).isEqualTo(9);
+        assertThat(page.getContent()).allSatisfy(view -> assertThat(view.getUserName()).startsWith("User "));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(managedEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should match LIKE wildcards in the title filter literally")
+    void shouldMatchTitleWildcardsLiterally() {
+        User user = entityManager.persist(new User("Wildcard User", "wildcard@email.com"));
+        for (String title : List.of("Rate 50% done", "Rate 500 done", "snake_case", "snakeXcase")) {
+            Task task = new Task();
+            task.setTitle(title);
+            task.setUser(user);
+            entityManager.persist(task);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(titlesMatching("50%")).containsExactly("Rate 50% done");
+        assertThat(titlesMatching("E_C")).containsExactly("snake_case");
+    }
+
+    @Test
+    @DisplayName("Should list task slice with a single statement")
+    void shouldListTaskSliceWithSingleStatement() {
+        List<TaskView> slice = taskQueryRepository.findSlice(TaskSpecification.withFilters(new TaskFilterForm()), 4);
+
+        assertThat(slice).hasSize(4);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(managedEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should list subtask views of a task with a single statement")
+    void shouldListSubtaskViewsOfTaskWithSingleStatement() {
+        List<SubtaskView> subtasks = subtaskQueryRepository.findViews(
+                SubtaskSpecification.belongsToTask(firstTask.getId()), Pageable.unpaged())
+                .getContent();
+
+        assertThat(subtasks).hasSize(2);
+        assertThat(subtasks).allSatisfy(view -> assertThat(view.getTaskTitle()).isEqualTo(firstTask.getTitle()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(managedEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should stream export rows with subtask counts from a single statement")
+    void shouldStreamExportRowsWithSubtaskCountsFromSingleStatement() {
+        List<TaskExportRow> rows;
+        try (Stream<TaskExportRow> stream = taskQueryRepository.streamExportRows(
+                TaskSpecification.withFilters(new TaskFilterForm()), 100)) {
+            rows = stream.collect(Collectors.toList());
+        }
+
+        assertThat(rows).hasSize(9);
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.getTotalSubtasks()).isEqualTo(2);
+            assertThat(row.getCompletedSubtasks()).isZero();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(managedEntityCount()).isZero();
+    }
+
+    private List<String> titlesMatching(String title) {
+        TaskFilterForm filters = new TaskFilterForm();
+        filters.setTitle(title);
+        return taskQueryRepository.findSlice(TaskSpecification.withFilters(filters), 10).stream()
+                .map(TaskView::getTitle)
+                .collect(Collectors.toList());
+    }
+
+    private int managedEntityCount() {
+        return entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount();
+    }
+}
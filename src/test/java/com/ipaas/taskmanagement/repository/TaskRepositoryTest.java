@@ -0,0 +1,107 @@
+package com.ipaas.taskmanagement.repository;
+
+import com.ipaas.taskmanagement.entity.Subtask;
+import com.ipaas.taskmanagement.entity.Task;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies batched inserts of nested subtasks and the set-based status updates.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("Tests for TaskRepository")
+class TaskRepositoryTest {
+
+    private static final int SUBTASKS = 50;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private SubtaskRepository subtaskRepository;
+
+    private User user;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persistAndFlush(new User("John Doe", "john.doe@email.com"));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should insert nested subtasks as one batch")
+    void shouldInsertNestedSubtasksAsOneBatch() {
+        Task task = new Task();
+        task.setTitle("Imported Task");
+        task.setUser(user);
+
+        List<Subtask> subtasks = new ArrayList<>();
+        for (int i = 0; i < SUBTASKS; i++) {
+            Subtask subtask = new Subtask();
+            subtask.setTitle("Imported Subtask " + i);
+            subtask.setTask(task);
+            subtasks.add(subtask);
+        }
+        task.setSubtasks(subtasks);
+
+        taskRepository.save(task);
+        entityManager.flush();
+
+        // One statement for the task and one batched statement for all subtasks
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(SUBTASKS + 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(subtaskRepository.countByTaskId(task.getId())).isEqualTo(SUBTASKS);
+    }
+
+    @Test
+    @DisplayName("Should skip tasks with pending subtasks when completing in bulk")
+    void shouldSkipTasksWithPendingSubtasksWhenCompletingInBulk() {
+        Task free = entityManager.persist(task("Free Task"));
+        Task blocked = entityManager.persist(task("Blocked Task"));
+        Subtask pending = new Subtask();
+        pending.setTitle("Pending Subtask");
+        pending.setTask(blocked);
+        entityManager.persistAndFlush(pending);
+
+        int updated = taskRepository.completeAll(List.of(free.getId(), blocked.getId()), LocalDateTime.now());
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(taskRepository.findById(free.getId())).get()
+                .extracting(Task::getStatus).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(taskRepository.findById(blocked.getId())).get()
+                .extracting(Task::getStatus).isEqualTo(TaskStatus.PENDING);
+    }
+
+    private Task task(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setUser(user);
+        return task;
+    }
+}
@@ -0,0 +1,67 @@
+package com.ipaas.taskmanagement.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for NgramIndex.
+ */
+@DisplayName("Tests for NgramIndex")
+class NgramIndexTest {
+
+    private NgramIndex index;
+    private UUID documentation;
+    private UUID database;
+
+    @BeforeEach
+    void setUp() {
+        index = new NgramIndex();
+        documentation = UUID.randomUUID();
+        database = UUID.randomUUID();
+        index.add(documentation, "documentar api");
+        index.add(database, "configurar banco de dados");
+    }
+
+    @Test
+    @DisplayName("Should return documents containing every trigram of the term")
+    void shouldReturnDocumentsContainingEveryTrigramOfTerm() {
+        assertThat(index.candidates("banco", 100, 1000)).containsExactly(database);
+        assertThat(index.candidates("ar ", 100, 1000)).containsExactlyInAnyOrder(documentation, database);
+    }
+
+    @Test
+    @DisplayName("Should return empty set when a trigram is unknown")
+    void shouldReturnEmptySetWhenTrigramIsUnknown() {
+        assertThat(index.candidates("xyz", 100, 1000)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should fall back to scan for terms shorter than a trigram")
+    void shouldFallBackToScanForShortTerms() {
+        assertThat(index.candidates("ap", 100, 1000)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should fall back to scan when the term is not selective")
+    void shouldFallBackToScanWhenTermIsNotSelective() {
+        assertThat(index.candidates("ar ", 1, 1000)).isNull();
+        assertThat(index.candidates("ar ", 100, 1)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should return a superset of substring matches")
+    void shouldReturnSupersetOfSubstringMatches() {
+        UUID other = UUID.randomUUID();
+        index.add(other, "api documentar");
+
+        Set<UUID> candidates = index.candidates("documentar api", 100, 1000);
+
+        assertThat(candidates).contains(documentation);
+    }
+}
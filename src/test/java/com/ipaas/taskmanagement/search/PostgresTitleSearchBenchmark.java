@@ -0,0 +1,147 @@
+package com.ipaas.taskmanagement.search;
+
+import com.ipaas.taskmanagement.entity.Task;
+import com.ipaas.taskmanagement.form.CreateUserForm;
+import com.ipaas.taskmanagement.form.TaskFilterForm;
+import com.ipaas.taskmanagement.projection.TaskView;
+import com.ipaas.taskmanagement.repository.TaskQueryRepository;
+import com.ipaas.taskmanagement.service.UserService;
+import com.ipaas.taskmanagement.specification.TaskSpecification;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares a title search on PostgreSQL served by the pg_trgm GIN index of the Flyway
+ * migrations against the same query with index scans disabled, i.e. a sequential scan,
+ * both through {@link TaskQueryRepository} with the page and count queries the API runs.
+ * Prints the plan of the count query for each mode. Skipped when Docker is not available.
+ * Run with {@code mvn test -Dbenchmarks=true -Dtest=PostgresTitleSearchBenchmark}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Benchmark for title search on PostgreSQL")
+class PostgresTitleSearchBenchmark {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        // Deferred initialization makes Flyway and the EntityManagerFactory depend on each other
+        registry.add("spring.jpa.defer-datasource-initialization", () -> "false");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration/postgresql");
+        registry.add("app.search.title.index", () -> "trigram");
+    }
+
+    @Autowired
+    private TaskQueryRepository taskQueryRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeAll
+    void seed() {
+        CreateUserForm userForm = new CreateUserForm();
+        userForm.setName("Title Search User");
+        userForm.setEmail("title.search@email.com");
+        TitleSearchBenchmarkData.seed(jdbcTemplate, userService.createUser(userForm).getId());
+        jdbcTemplate.execute("ANALYZE tasks");
+
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("Should compare the trigram index and a sequential scan")
+    void shouldCompareTrigramIndexAndSequentialScan() {
+        for (String term : TitleSearchBenchmarkData.TERMS) {
+            TaskFilterForm filters = new TaskFilterForm();
+            filters.setTitle(term);
+            Specification<Task> like = TaskSpecification.withFilters(filters);
+            String pattern = "%" + TitleNormalizer.normalize(term) + "%";
+
+            long indexed = readOnly.execute(status -> taskQueryRepository.findViews(like, FIRST_PAGE).getTotalElements());
+            double indexMillis = TitleSearchBenchmarkData.millisPerRun(() -> readOnly.execute(status ->
+                    taskQueryRepository.findViews(like, FIRST_PAGE)));
+            String indexPlan = readOnly.execute(status -> plan(pattern));
+
+            long scanned = readOnly.execute(status -> {
+                disableIndexScans();
+                return taskQueryRepository.findViews(like, FIRST_PAGE).getTotalElements();
+            });
+            double scanMillis = TitleSearchBenchmarkData.millisPerRun(() -> readOnly.execute(status -> {
+                disableIndexScans();
+                return taskQueryRepository.findViews(like, FIRST_PAGE);
+            }));
+            String scanPlan = readOnly.execute(status -> {
+                disableIndexScans();
+                return plan(pattern);
+            });
+
+            assertThat(indexed).isEqualTo(scanned);
+            System.out.printf("term=%-14s trigram=%8.2f ms [%s]  seq scan=%8.2f ms [%s] (%d matches)%n",
+                    "'" + term + "'", indexMillis, indexPlan, scanMillis, scanPlan, indexed);
+        }
+    }
+
+    /**
+     * Makes the planner fall back to a sequential scan for the rest of the transaction.
+     */
+    private void disableIndexScans() {
+        jdbcTemplate.execute("SET LOCAL enable_indexscan = off");
+        jdbcTemplate.execute("SET LOCAL enable_bitmapscan = off");
+    }
+
+    /**
+     * The scan node of the count query's plan.
+     */
+    private String plan(String pattern) {
+        return jdbcTemplate.queryForList("EXPLAIN SELECT count(*) FROM tasks WHERE normalized_title LIKE ?",
+                        String.class, pattern).stream()
+                .filter(line -> line.contains("Scan"))
+                .map(line -> line.replaceAll("^[\\s\\->]+", "").replaceAll("\\s+\\(cost.*", ""))
+                .findFirst()
+                .orElse("?");
+    }
+}
@@ -0,0 +1,106 @@
+package com.ipaas.taskmanagement.search;
+
+import com.ipaas.taskmanagement.entity.Task;
+import com.ipaas.taskmanagement.form.CreateUserForm;
+import com.ipaas.taskmanagement.form.TaskFilterForm;
+import com.ipaas.taskmanagement.projection.TaskView;
+import com.ipaas.taskmanagement.repository.TaskQueryRepository;
+import com.ipaas.taskmanagement.service.UserService;
+import com.ipaas.taskmanagement.specification.TaskSpecification;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the two H2 query paths of a title search over generated tasks: the plain
+ * {@code LIKE '%term%'} scan and the same query narrowed to the n-gram index candidates,
+ * both through {@link TaskQueryRepository} with the page and count queries the API runs.
+ * Uses its own in-memory database. Run with
+ * {@code mvn test -Dbenchmarks=true -Dtest=TitleSearchBenchmark}.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:titlesearch",
+        "app.reactive.r2dbc.url=r2dbc:h2:mem:///titlesearch"
+})
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Benchmark for title search on H2")
+class TitleSearchBenchmark {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Autowired
+    private TaskQueryRepository taskQueryRepository;
+
+    @Autowired
+    private NgramTitleSearchIndex titleSearchIndex;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        CreateUserForm userForm = new CreateUserForm();
+        userForm.setName("Title Search User");
+        userForm.setEmail("title.search@email.com");
+        TitleSearchBenchmarkData.seed(jdbcTemplate, userService.createUser(userForm).getId());
+
+        long start = System.nanoTime();
+        titleSearchIndex.load();
+        System.out.printf("Loaded the n-gram index in %d ms%n", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("Should compare the LIKE scan and the candidate-narrowed query")
+    void shouldCompareScanAndNarrowedQuery() {
+        for (String term : TitleSearchBenchmarkData.TERMS) {
+            TaskFilterForm filters = new TaskFilterForm();
+            filters.setTitle(term);
+            Specification<Task> like = TaskSpecification.withFilters(filters);
+
+            Page<TaskView> scanned = taskQueryRepository.findViews(like, FIRST_PAGE);
+            double scanMillis = TitleSearchBenchmarkData.millisPerRun(() -> taskQueryRepository.findViews(like, FIRST_PAGE));
+
+            Optional<Set<UUID>> candidates = titleSearchIndex.findTaskCandidates(term);
+            String narrowed = "scan fallback";
+            if (candidates.isPresent()) {
+                Specification<Task> narrowedLike = like.and(TaskSpecification.idIn(candidates.get()));
+                Page<TaskView> page = taskQueryRepository.findViews(narrowedLike, FIRST_PAGE);
+                assertThat(page.getTotalElements()).isEqualTo(scanned.getTotalElements());
+                narrowed = String.format("%8.2f ms (%d candidates)", TitleSearchBenchmarkData.millisPerRun(
+                        () -> taskQueryRepository.findViews(narrowedLike, FIRST_PAGE)), candidates.get().size());
+            }
+
+            System.out.printf("term=%-14s like scan=%8.2f ms (%d matches)  narrowed=%s%n",
+                    "'" + term + "'", scanMillis, scanned.getTotalElements(), narrowed);
+        }
+    }
+}
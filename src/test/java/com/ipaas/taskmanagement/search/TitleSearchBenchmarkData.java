@@ -0,0 +1,71 @@
+package com.ipaas.taskmanagement.search;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Generated titles and timing helpers shared by the title search benchmarks.
+ */
+final class TitleSearchBenchmarkData {
+
+    static final int ROWS = 200_000;
+    static final int ITERATIONS = 10;
+    static final String[] TERMS = {"pagamento", "nota fiscal", "backup de", "relatorio 42", "api", "de"};
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String[] WORDS = {
+        "implementar", "configurar", "documentar", "revisar", "testar", "corrigir", "migrar",
+        "api", "banco", "dados", "usuarios", "relatorio", "deploy", "cache", "fila", "pagamento",
+        "login", "cadastro", "pedido", "estoque", "nota", "fiscal", "backup", "monitoramento"
+    };
+
+    private TitleSearchBenchmarkData() {
+    }
+
+    /**
+     * Inserts {@link #ROWS} tasks with generated titles for the given user, in JDBC batches.
+     */
+    static void seed(JdbcTemplate jdbcTemplate, UUID userId) {
+        Random random = new Random(42);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        long start = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " de " + WORDS[random.nextInt(WORDS.length)] + " " + random.nextInt(1000);
+            batch.add(new Object[]{new UUID(random.nextLong(), random.nextLong()), title,
+                    TitleNormalizer.normalize(title), Timestamp.valueOf(createdAt.plusSeconds(i)), userId});
+            if (batch.size() == BATCH_SIZE) {
+                insert(jdbcTemplate, batch);
+            }
+        }
+        insert(jdbcTemplate, batch);
+        System.out.printf("Inserted %d tasks in %d ms%n", ROWS, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Runs the query {@link #ITERATIONS} times after one warm-up run and returns the
+     * average time in milliseconds.
+     */
+    static double millisPerRun(Supplier<?> query) {
+        query.get();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("INSERT INTO tasks (id, version, title, normalized_title, status, created_at, user_id) "
+                + "VALUES (?, 0, ?, ?, 'PENDING', ?, ?)", batch);
+        batch.clear();
+    }
+}
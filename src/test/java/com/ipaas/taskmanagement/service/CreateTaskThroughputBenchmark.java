@@ -0,0 +1,115 @@
+package com.ipaas.taskmanagement.service;
+
+import com.ipaas.taskmanagement.dto.TaskDTO;
+import com.ipaas.taskmanagement.dto.UserDTO;
+import com.ipaas.taskmanagement.form.CreateSubtaskForm;
+import com.ipaas.taskmanagement.form.CreateTaskForm;
+import com.ipaas.taskmanagement.form.CreateUserForm;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares task creation throughput with 1 and 50 subtasks, nested in one request
+ * versus one request per subtask. Run with
+ * {@code mvn test -Dbenchmarks=true -Dtest=CreateTaskThroughputBenchmark}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Benchmark for task creation")
+class CreateTaskThroughputBenchmark {
+
+    private static final int WARMUP_TASKS = 200;
+    private static final int TASKS = 1000;
+    private static final int[] SUBTASK_COUNTS = {1, 50};
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private SubtaskService subtaskService;
+
+    @Autowired
+    private UserService userService;
+
+    private UUID userId;
+
+    @BeforeAll
+    void createUser() {
+        CreateUserForm form = new CreateUserForm();
+        form.setName("Benchmark User");
+        form.setEmail("benchmark@email.com");
+        UserDTO user = userService.createUser(form);
+        userId = user.getId();
+    }
+
+    @Test
+    @DisplayName("Should compare nested and per-subtask creation")
+    void shouldCompareNestedAndPerSubtaskCreation() {
+        for (int subtasks : SUBTASK_COUNTS) {
+            createNested(WARMUP_TASKS, subtasks);
+            createOneByOne(WARMUP_TASKS, subtasks);
+
+            long nestedStart = System.nanoTime();
+            createNested(TASKS, subtasks);
+            double nestedSeconds = (System.nanoTime() - nestedStart) / 1e9;
+
+            long oneByOneStart = System.nanoTime();
+            createOneByOne(TASKS, subtasks);
+            double oneByOneSeconds = (System.nanoTime() - oneByOneStart) / 1e9;
+
+            System.out.printf("%2d subtasks/task: nested %8.1f tasks/s (%9.1f rows/s), one by one %8.1f tasks/s (%9.1f rows/s)%n",
+                    subtasks,
+                    TASKS / nestedSeconds, TASKS * (subtasks + 1) / nestedSeconds,
+                    TASKS / oneByOneSeconds, TASKS * (subtasks + 1) / oneByOneSeconds);
+        }
+    }
+
+    private void createNested(int tasks, int subtasks) {
+        for (int i = 0; i < tasks; i++) {
+            CreateTaskForm form = taskForm(i);
+            form.setSubtasks(subtaskForms(subtasks));
+            TaskDTO task = taskService.createTask(form);
+            assertThat(task.getTotalSubtasks()).isEqualTo(subtasks);
+        }
+    }
+
+    private void createOneByOne(int tasks, int subtasks) {
+        for (int i = 0; i < tasks; i++) {
+            TaskDTO task = taskService.createTask(taskForm(i));
+            for (CreateSubtaskForm subtaskForm : subtaskForms(subtasks)) {
+                subtaskService.createSubtask(task.getId(), subtaskForm);
+            }
+        }
+    }
+
+    private CreateTaskForm taskForm(int index) {
+        CreateTaskForm form = new CreateTaskForm();
+        form.setTitle("Benchmark Task " + index);
+        form.setUserId(userId);
+        return form;
+    }
+
+    private List<CreateSubtaskForm> subtaskForms(int count) {
+        List<CreateSubtaskForm> forms = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            CreateSubtaskForm form = new CreateSubtaskForm();
+            form.setTitle("Benchmark Subtask " + i);
+            forms.add(form);
+        }
+        return forms;
+    }
+}
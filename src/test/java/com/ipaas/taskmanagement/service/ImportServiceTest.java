@@ -0,0 +1,142 @@
+package com.ipaas.taskmanagement.service;
+
+import com.ipaas.taskmanagement.dto.ImportResultDTO;
+import com.ipaas.taskmanagement.dto.TaskDTO;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.form.TaskFilterForm;
+import com.ipaas.taskmanagement.importer.ImportEntity;
+import com.ipaas.taskmanagement.importer.ImportFormat;
+import com.ipaas.taskmanagement.repository.TaskRepository;
+import com.ipaas.taskmanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Imports users, tasks and subtasks through the batched-insert loader on H2, in chunks of
+ * two rows so bulk checks run across several chunks.
+ */
+@SpringBootTest(properties = "app.import.chunk-size=2")
+@ActiveProfiles("test")
+@DisplayName("Tests for ImportService")
+class ImportServiceTest {
+
+    private static final UUID USER_ID = UUID.fromString("00000000-0000-4000-8000-000000000001");
+    private static final UUID COMPLETED_TASK_ID = UUID.fromString("00000000-0000-4000-8000-000000000011");
+    private static final UUID PENDING_TASK_ID = UUID.fromString("00000000-0000-4000-8000-000000000012");
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should import valid users and reject invalid and duplicate rows into the error file")
+    void shouldImportUsersAndRejectBadRows() throws IOException {
+        // Given
+        String csv = """
+                id,name,email
+                00000000-0000-4000-8000-000000000001,"Silva, João",joao@import.com
+                ,"Maria
+                Santos",maria@import.com
+                ,Pedro,not-an-email
+                ,Ana,joao@import.com
+                ,Carlos,carlos@import.com
+                """;
+
+        // When
+        ImportResultDTO result = importService.importRecords(ImportEntity.USERS, ImportFormat.CSV, input(csv));
+
+        // Then
+        assertThat(result.getTotalRows()).isEqualTo(5);
+        assertThat(result.getImportedRows()).isEqualTo(3);
+        assertThat(result.getRejectedRows()).isEqualTo(2);
+        assertThat(userRepository.findById(USER_ID)).get()
+                .satisfies(user -> assertThat(user.getName()).isEqualTo("Silva, João"));
+        assertThat(userRepository.findByEmail("maria@import.com")).get()
+                .satisfies(user -> assertThat(user.getName()).isEqualTo("Maria\nSantos"));
+
+        List<String> errors = Files.readAllLines(Path.of(result.getErrorFile()));
+        assertThat(errors).hasSize(2);
+        assertThat(errors.get(0)).contains("\"line\":5").contains("Email must be valid");
+        assertThat(errors.get(1)).contains("\"line\":6").contains("Email already exists");
+    }
+
+    @Test
+    @DisplayName("Should import tasks and subtasks, checking references in bulk")
+    void shouldImportTasksAndSubtasks() throws IOException {
+        // Given
+        importService.importRecords(ImportEntity.USERS, ImportFormat.CSV,
+                input("id,name,email\n" + USER_ID + ",Import User,user@import.com\n"));
+        String tasks = """
+                {"id":"%s","title":"Quarterly budget review","status":"COMPLETED","userId":"%s"}
+                {"id":"%s","title":"Migrate billing data","userId":"%s"}
+                {"title":"Orphan task","userId":"%s"}
+                {"title":"Broken JSON",
+                {"title":"Bad status","status":"DONE","userId":"%s"}
+                """.formatted(COMPLETED_TASK_ID, USER_ID, PENDING_TASK_ID, USER_ID, UUID.randomUUID(), USER_ID);
+        String subtasks = """
+                taskId,title,status
+                %s,Collect invoices,COMPLETED
+                %s,Draft summary,PENDING
+                %s,Export old records,PENDING
+                %s,Load new records,IN_PROGRESS
+                %s,Orphan subtask,PENDING
+                """.formatted(COMPLETED_TASK_ID, COMPLETED_TASK_ID, PENDING_TASK_ID, PENDING_TASK_ID, UUID.randomUUID());
+
+        // When
+        ImportResultDTO taskResult = importService.importRecords(ImportEntity.TASKS, ImportFormat.NDJSON, input(tasks));
+        ImportResultDTO subtaskResult = importService.importRecords(ImportEntity.SUBTASKS, ImportFormat.CSV, input(subtasks));
+
+        // Then
+        assertThat(taskResult.getImportedRows()).isEqualTo(2);
+        assertThat(taskResult.getRejectedRows()).isEqualTo(3);
+        assertThat(subtaskResult.getImportedRows()).isEqualTo(4);
+        assertThat(subtaskResult.getRejectedRows()).isEqualTo(1);
+        assertThat(Files.readString(Path.of(subtaskResult.getErrorFile()))).contains("Task not found with ID");
+
+        TaskDTO completed = taskService.findById(COMPLETED_TASK_ID);
+        assertThat(completed.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(completed.getCompletedAt()).isNotNull();
+        assertThat(completed.getTotalSubtasks()).isEqualTo(2);
+        assertThat(taskService.findById(PENDING_TASK_ID).getTotalSubtasks()).isEqualTo(2);
+
+        // Imported titles are searchable through the title index
+        TaskFilterForm filters = new TaskFilterForm();
+        filters.setTitle("billing");
+        Page<TaskDTO> found = taskService.findTasks(filters, PageRequest.of(0, 10));
+        assertThat(found.getContent()).extracting(TaskDTO::getId).containsExactly(PENDING_TASK_ID);
+    }
+
+    private static ByteArrayInputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,169 @@
+package com.ipaas.taskmanagement.service;
+
+import com.ipaas.taskmanagement.dto.SubtaskDTO;
+import com.ipaas.taskmanagement.dto.TaskDTO;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.form.CreateSubtaskForm;
+import com.ipaas.taskmanagement.form.CreateTaskForm;
+import com.ipaas.taskmanagement.form.CreateUserForm;
+import com.ipaas.taskmanagement.form.TaskFilterForm;
+import com.ipaas.taskmanagement.form.UpdateTaskStatusForm;
+import com.ipaas.taskmanagement.repository.TaskRepository;
+import com.ipaas.taskmanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the R2DBC read stack returns the same results as the JPA one,
+ * against the same in-memory H2 database.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Tests for ReactiveTaskService")
+class ReactiveTaskServiceTest {
+
+    private static final String[] TITLES = {"Weekly report", "Fix login bug", "Monthly REPORT review", "Deploy api"};
+
+    @Autowired
+    private ReactiveTaskService reactiveTaskService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private SubtaskService subtaskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<UUID> userIds = new ArrayList<>();
+    private final List<UUID> taskIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int u = 0; u < 2; u++) {
+            CreateUserForm userForm = new CreateUserForm();
+            userForm.setName("User " + u);
+            userForm.setEmail("reactive" + u + "@email.com");
+            userIds.add(userService.createUser(userForm).getId());
+        }
+
+        for (int i = 0; i < 12; i++) {
+            CreateTaskForm taskForm = new CreateTaskForm();
+            taskForm.setTitle(TITLES[i % TITLES.length] + " " + i);
+            taskForm.setUserId(userIds.get(i % 2));
+            taskForm.setSubtasks(subtaskForms(i % 3));
+            TaskDTO task = taskService.createTask(taskForm);
+            taskIds.add(task.getId());
+
+            if (i % 4 == 0) {
+                UpdateTaskStatusForm statusForm = new UpdateTaskStatusForm();
+                statusForm.setStatus(TaskStatus.IN_PROGRESS);
+                taskService.updateStatus(task.getId(), statusForm);
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should list the same task pages as the JPA stack for every filter combination")
+    void shouldListSameTaskPagesAsJpaStack() {
+        List<TaskFilterForm> combinations = List.of(
+                filters(null, null, null),
+                filters(TaskStatus.IN_PROGRESS, null, null),
+                filters(null, userIds.get(1), null),
+                filters(null, null, "report"),
+                filters(TaskStatus.PENDING, userIds.get(0), "REPORT"),
+                filters(null, null, "no such title"),
+                filters(null, null, "t_"));
+        List<Pageable> pages = List.of(
+                PageRequest.of(0, 5, Sort.by("createdAt")),
+                PageRequest.of(1, 5, Sort.by("createdAt")),
+                PageRequest.of(1, 5),
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "title")));
+
+        for (TaskFilterForm filters : combinations) {
+            for (Pageable pageable : pages) {
+                Page<TaskDTO> expected = taskService.findTasks(filters, pageable);
+                Page<TaskDTO> actual = reactiveTaskService.findTasks(filters, pageable).block();
+
+                assertThat(actual).isNotNull();
+                assertThat(actual.getContent()).as("%s %s", filters, pageable).isEqualTo(expected.getContent());
+                assertThat(actual.getTotalElements()).as("%s %s", filters, pageable).isEqualTo(expected.getTotalElements());
+            }
+        }
+        // Unsorted pages fall back to the keyset order on both stacks
+        assertThat(reactiveTaskService.findTasks(filters(null, null, null), PageRequest.of(1, 5)).block())
+                .containsExactlyElementsOf(taskService.findTasks(filters(null, null, null),
+                        PageRequest.of(1, 5, Sort.by("createdAt", "id"))).getContent());
+        // Wildcards in a term too short for the title index match literally on both stacks
+        assertThat(reactiveTaskService.findTasks(filters(null, null, "t_"), PageRequest.of(0, 5)).block())
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should stream every matching task in creation order")
+    void shouldStreamEveryMatchingTaskInCreationOrder() {
+        TaskFilterForm filters = filters(null, userIds.get(0), null);
+
+        List<TaskDTO> streamed = reactiveTaskService.streamTasks(filters).collectList().block();
+
+        assertThat(streamed).isEqualTo(
+                taskService.findTasks(filters, PageRequest.of(0, 100, Sort.by("createdAt", "id"))).getContent());
+    }
+
+    @Test
+    @DisplayName("Should find the same task and subtasks as the JPA stack")
+    void shouldFindSameTaskAndSubtasksAsJpaStack() {
+        UUID taskId = taskIds.get(2);
+
+        assertThat(reactiveTaskService.findById(taskId).block()).isEqualTo(taskService.findById(taskId));
+
+        List<SubtaskDTO> subtasks = reactiveTaskService.findSubtasksByTaskId(taskId).collectList().block();
+        assertThat(subtasks).containsExactlyInAnyOrderElementsOf(subtaskService.findByTaskId(taskId));
+    }
+
+    private TaskFilterForm filters(TaskStatus status, UUID userId, String title) {
+        TaskFilterForm filters = new TaskFilterForm();
+        filters.setStatus(status);
+        filters.setUserId(userId);
+        filters.setTitle(title);
+        return filters;
+    }
+
+    private List<CreateSubtaskForm> subtaskForms(int count) {
+        List<CreateSubtaskForm> forms = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            CreateSubtaskForm form = new CreateSubtaskForm();
+            form.setTitle("Subtask " + i);
+            forms.add(form);
+        }
+        return forms;
+    }
+}
@@ -0,0 +1,172 @@
+package com.ipaas.taskmanagement.service;
+
+import com.ipaas.taskmanagement.dto.CursorPageDTO;
+import com.ipaas.taskmanagement.dto.TaskDTO;
+import com.ipaas.taskmanagement.dto.TaskStatusUpdateResultDTO;
+import com.ipaas.taskmanagement.entity.Subtask;
+import com.ipaas.taskmanagement.entity.Task;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.entity.User;
+import com.ipaas.taskmanagement.form.BulkUpdateTaskStatusForm;
+import com.ipaas.taskmanagement.form.TaskFilterForm;
+import com.ipaas.taskmanagement.repository.SubtaskRepository;
+import com.ipaas.taskmanagement.repository.TaskRepository;
+import com.ipaas.taskmanagement.repository.UserRepository;
+import com.ipaas.taskmanagement.support.EnableSqlStatementBudgets;
+import com.ipaas.taskmanagement.support.SqlStatementBudget;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement budgets for the {@link TaskService} read and bulk paths against H2. The cost of
+ * these operations must not grow with the page size; {@link TaskServiceTest} covers the
+ * behaviour with mocked repositories.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnableSqlStatementBudgets
+@DisplayName("SQL statement budgets for TaskService")
+class TaskServiceStatementBudgetTest {
+
+    private static final int TASKS = 150;
+    private static final int SUBTASKS_PER_TASK = 2;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private SubtaskRepository subtaskRepository;
+
+    private List<Task> tasks;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("Budget User", "budget@service.com"));
+        tasks = new ArrayList<>();
+        List<Subtask> subtasks = new ArrayList<>();
+        for (int t = 0; t < TASKS; t++) {
+            Task task = new Task();
+            task.setTitle("Task " + t);
+            task.setUser(user);
+            tasks.add(task);
+            for (int s = 0; s < SUBTASKS_PER_TASK; s++) {
+                Subtask subtask = new Subtask();
+                subtask.setTitle("Subtask " + t + "-" + s);
+                subtask.setTask(task);
+                subtasks.add(subtask);
+            }
+        }
+        taskRepository.saveAll(tasks);
+        subtaskRepository.saveAll(subtasks);
+
+        // Subtasks are always created pending; complete those of even tasks so they can be completed
+        List<Subtask> completed = new ArrayList<>();
+        for (int t = 0; t < TASKS; t += 2) {
+            for (int s = 0; s < SUBTASKS_PER_TASK; s++) {
+                Subtask subtask = subtasks.get(t * SUBTASKS_PER_TASK + s);
+                subtask.setStatus(TaskStatus.COMPLETED);
+                subtask.setCompletedAt(LocalDateTime.now());
+                completed.add(subtask);
+            }
+        }
+        subtaskRepository.saveAll(completed);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @SqlStatementBudget(value = "findTasks(page=100)", max = 3)
+    @DisplayName("Should list a page of 100 tasks with a select, a count and one subtask count query")
+    void shouldListPageOfTasksWithinBudget() {
+        // When
+        Page<TaskDTO> page = taskService.findTasks(new TaskFilterForm(), PageRequest.of(0, 100));
+
+        // Then
+        assertThat(page.getContent()).hasSize(100)
+                .allSatisfy(task -> assertThat(task.getTotalSubtasks()).isEqualTo(SUBTASKS_PER_TASK));
+        assertThat(page.getTotalElements()).isEqualTo(TASKS);
+    }
+
+    @Test
+    @SqlStatementBudget(value = "scrollTasks(size=100)", max = 2)
+    @DisplayName("Should scroll 100 tasks without a count query")
+    void shouldScrollTasksWithinBudget() {
+        // When
+        CursorPageDTO<TaskDTO> slice = taskService.scrollTasks(new TaskFilterForm(), null, 100);
+
+        // Then
+        assertThat(slice.getContent()).hasSize(100);
+    }
+
+    @Test
+    @SqlStatementBudget(value = "findById", max = 3)
+    @DisplayName("Should load a task and its subtask counts within budget")
+    void shouldFindTaskByIdWithinBudget() {
+        // When
+        TaskDTO task = taskService.findById(tasks.get(0).getId());
+
+        // Then
+        assertThat(task.getTotalSubtasks()).isEqualTo(SUBTASKS_PER_TASK);
+    }
+
+    @Test
+    @SqlStatementBudget(value = "bulkUpdateStatus(100 tasks)", max = 3)
+    @DisplayName("Should check and update 100 tasks with set-based statements")
+    void shouldBulkUpdateStatusWithinBudget() {
+        // Given
+        BulkUpdateTaskStatusForm form = new BulkUpdateTaskStatusForm();
+        form.setTaskIds(tasks.subList(0, 100).stream().map(Task::getId).toList());
+        form.setStatus(TaskStatus.IN_PROGRESS);
+
+        // When
+        List<TaskStatusUpdateResultDTO> results = taskService.bulkUpdateStatus(form);
+
+        // Then
+        assertThat(results).hasSize(100)
+                .allSatisfy(result -> assertThat(result.getOutcome()).isEqualTo(TaskStatusUpdateResultDTO.Outcome.UPDATED));
+    }
+
+    @Test
+    @SqlStatementBudget(value = "bulkUpdateStatus(100 tasks, COMPLETED)", max = 5)
+    @DisplayName("Should lock, check and complete 100 tasks with set-based statements")
+    void shouldBulkCompleteWithinBudget() {
+        // Given
+        BulkUpdateTaskStatusForm form = new BulkUpdateTaskStatusForm();
+        form.setTaskIds(tasks.subList(0, 100).stream().map(Task::getId).toList());
+        form.setStatus(TaskStatus.COMPLETED);
+
+        // When
+        List<TaskStatusUpdateResultDTO> results = taskService.bulkUpdateStatus(form);
+
+        // Then
+        assertThat(results).hasSize(100);
+        for (int t = 0; t < 100; t++) {
+            assertThat(results.get(t).getOutcome()).isEqualTo(t % 2 == 0
+                    ? TaskStatusUpdateResultDTO.Outcome.UPDATED
+                    : TaskStatusUpdateResultDTO.Outcome.REJECTED_PENDING_SUBTASKS);
+        }
+    }
+}
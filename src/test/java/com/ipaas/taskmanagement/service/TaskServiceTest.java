@@ -1,31 +1,61 @@
 package com.ipaas.taskmanagement.service;
 
+import com.ipaas.taskmanagement.cache.CacheInvalidationBus;
+import com.ipaas.taskmanagement.cache.EntityCache;
+import com.ipaas.taskmanagement.cache.ResponseCache;
+import com.ipaas.taskmanagement.dto.CursorPageDTO;
 import com.ipaas.taskmanagement.dto.TaskDTO;
+import com.ipaas.taskmanagement.dto.TaskStatusUpdateResultDTO;
+import com.ipaas.taskmanagement.entity.Subtask;
 import com.ipaas.taskmanagement.entity.Task;
 import com.ipaas.taskmanagement.entity.TaskStatus;
 import com.ipaas.taskmanagement.entity.User;
+import com.ipaas.taskmanagement.events.TaskEventPublisher;
 import com.ipaas.taskmanagement.exception.BusinessRuleException;
 import com.ipaas.taskmanagement.exception.TaskNotFoundException;
+import com.ipaas.taskmanagement.form.BulkUpdateTaskStatusForm;
 import com.ipaas.taskmanagement.form.CreateTaskForm;
+import com.ipaas.taskmanagement.form.TaskFilterForm;
 import com.ipaas.taskmanagement.form.UpdateTaskStatusForm;
 import com.ipaas.taskmanagement.mapper.TaskMapper;
+import com.ipaas.taskmanagement.pagination.KeysetCursor;
+import com.ipaas.taskmanagement.projection.SubtaskCountProjection;
+import com.ipaas.taskmanagement.projection.TaskOwnerProjection;
+import com.ipaas.taskmanagement.projection.TaskView;
 import com.ipaas.taskmanagement.repository.SubtaskRepository;
+import com.ipaas.taskmanagement.repository.TaskQueryRepository;
 import com.ipaas.taskmanagement.repository.TaskRepository;
+import com.ipaas.taskmanagement.search.TitleSearchIndex;
+import com.ipaas.taskmanagement.writebehind.DirectSubtaskStatusBuffer;
+import com.ipaas.taskmanagement.writebehind.SubtaskStatusBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +65,9 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskQueryRepository taskQueryRepository;
+
     @Mock
     private SubtaskRepository subtaskRepository;
 
@@ -44,11 +77,30 @@ class TaskServiceTest {
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private TitleSearchIndex titleSearchIndex;
+
+    @Spy
+    private EntityCache entityCache = new EntityCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private ResponseCache responseCache;
+
+    @Mock
+    private TaskEventPublisher taskEventPublisher;
+
+    @Spy
+    private SubtaskStatusBuffer subtaskStatusBuffer = new DirectSubtaskStatusBuffer();
+
     @InjectMocks
     private TaskService taskService;
 
     private User user;
     private Task task;
+    private TaskView taskView;
     private TaskDTO taskDTO;
     private CreateTaskForm createTaskForm;
     private UUID userId;
@@ -69,6 +121,9 @@ class TaskServiceTest {
         task.setUser(user);
         task.setStatus(TaskStatus.PENDING);
 
+        taskView = new TaskView(taskId, "Test Task", null, TaskStatus.PENDING,
+                LocalDateTime.of(2024, 1, 1, 10, 0), null, userId, "John Doe");
+
         taskDTO = new TaskDTO();
         taskDTO.setId(taskId);
         taskDTO.setTitle("Test Task");
@@ -94,10 +149,34 @@ class TaskServiceTest {
         verify(taskRepository).save(task);
     }
 
+    @Test
+    @DisplayName("Should create task with nested subtasks without count queries")
+    void shouldCreateTaskWithNestedSubtasksWithoutCountQueries() {
+        Subtask first = new Subtask();
+        first.setId(UUID.randomUUID());
+        first.setTitle("First Subtask");
+        Subtask second = new Subtask();
+        second.setId(UUID.randomUUID());
+        second.setTitle("Second Subtask");
+        task.setSubtasks(List.of(first, second));
+
+        when(userService.getUserEntity(userId)).thenReturn(user);
+        when(taskMapper.toEntity(any(CreateTaskForm.class), any(User.class))).thenReturn(task);
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(taskMapper.toDTO(task, 2L, 0L)).thenReturn(taskDTO);
+
+        TaskDTO result = taskService.createTask(createTaskForm);
+
+        assertThat(result).isNotNull();
+        verify(titleSearchIndex).indexSubtask(first.getId(), "First Subtask");
+        verify(titleSearchIndex).indexSubtask(second.getId(), "Second Subtask");
+        verifyNoInteractions(subtaskRepository);
+    }
+
     @Test
     @DisplayName("Should find task by ID successfully")
     void shouldFindTaskByIdSuccessfully() {
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
+        when(taskRepository.findWithUserById(taskId)).thenReturn(Optional.of(task));
         when(taskMapper.toDTO(any(Task.class), anyLong(), anyLong())).thenReturn(taskDTO);
 
         TaskDTO result = taskService.findById(taskId);
@@ -109,13 +188,25 @@ class TaskServiceTest {
     @Test
     @DisplayName("Should throw exception when task not found by ID")
     void shouldThrowExceptionWhenTaskNotFoundById() {
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskRepository.findWithUserById(taskId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> taskService.findById(taskId))
                 .isInstanceOf(TaskNotFoundException.class)
                 .hasMessageContaining("Task not found with ID: " + taskId);
     }
 
+    @Test
+    @DisplayName("Should serve repeated task lookups from the entity cache")
+    void shouldServeRepeatedTaskLookupsFromEntityCache() {
+        when(taskRepository.findWithUserById(taskId)).thenReturn(Optional.of(task));
+        when(taskMapper.toDTO(any(Task.class), anyLong(), anyLong())).thenReturn(taskDTO);
+
+        taskService.findById(taskId);
+        taskService.findById(taskId);
+
+        verify(taskRepository, times(1)).findWithUserById(taskId);
+    }
+
     @Test
     @DisplayName("Should update task status successfully")
     void shouldUpdateTaskStatusSuccessfully() {
@@ -130,6 +221,8 @@ class TaskServiceTest {
 
         assertThat(result).isNotNull();
         verify(taskRepository).save(task);
+        verify(cacheInvalidationBus).invalidateTask(taskId);
+        verify(responseCache).invalidate(List.of("task:" + taskId, "user-tasks:" + userId, "tasks"));
     }
 
     @Test
@@ -147,4 +240,93 @@ class TaskServiceTest {
 
         verify(taskRepository, never()).save(any(Task.class));
     }
+
+    @Test
+    @DisplayName("Should report per-task outcomes for a bulk completion")
+    void shouldReportPerTaskOutcomesForBulkCompletion() {
+        UUID pendingTaskId = UUID.randomUUID();
+        UUID missingTaskId = UUID.randomUUID();
+        BulkUpdateTaskStatusForm form = new BulkUpdateTaskStatusForm();
+        form.setTaskIds(List.of(taskId, pendingTaskId, missingTaskId));
+        form.setStatus(TaskStatus.COMPLETED);
+
+        List<TaskOwnerProjection> owners = List.of(owner(taskId), owner(pendingTaskId));
+        when(taskRepository.findOwnersByIdIn(anyCollection())).thenReturn(owners);
+        when(taskRepository.lockAllById(anyCollection())).thenReturn(List.of(taskId, pendingTaskId));
+        when(subtaskRepository.findTaskIdsWithPendingSubtasks(anyCollection())).thenReturn(List.of(pendingTaskId));
+        when(taskRepository.completeAll(eq(Set.of(taskId)), any(LocalDateTime.class))).thenReturn(1);
+
+        List<TaskStatusUpdateResultDTO> results = taskService.bulkUpdateStatus(form);
+
+        assertThat(results).extracting(TaskStatusUpdateResultDTO::getOutcome).containsExactly(
+                TaskStatusUpdateResultDTO.Outcome.UPDATED,
+                TaskStatusUpdateResultDTO.Outcome.REJECTED_PENDING_SUBTASKS,
+                TaskStatusUpdateResultDTO.Outcome.NOT_FOUND);
+        verify(cacheInvalidationBus).invalidateTask(taskId);
+        verify(taskRepository, never()).findById(any());
+        verify(subtaskRepository, times(1)).findTaskIdsWithPendingSubtasks(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should load subtask counts for a page with one grouped query")
+    @SuppressWarnings("unchecked")
+    void shouldLoadSubtaskCountsForPageWithOneGroupedQuery() {
+        Pageable pageable = PageRequest.of(0, 20);
+        SubtaskCountProjection counts = mock(SubtaskCountProjection.class);
+        when(counts.getTaskId()).thenReturn(taskId);
+
+        when(taskQueryRepository.findViews(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(taskView), pageable, 1));
+        when(subtaskRepository.countByTaskIds(anyCollection())).thenReturn(List.of(counts));
+        when(taskMapper.toDTO(taskView, counts)).thenReturn(taskDTO);
+
+        Page<TaskDTO> result = taskService.findTasks(new TaskFilterForm(), pageable);
+
+        assertThat(result.getContent()).containsExactly(taskDTO);
+        verify(subtaskRepository).countByTaskIds(List.of(taskId));
+        verify(subtaskRepository, never()).countByTaskId(any(UUID.class));
+        verify(subtaskRepository, never()).countByTaskIdAndStatus(any(UUID.class), any(TaskStatus.class));
+    }
+
+    @Test
+    @DisplayName("Should skip subtask count query for an empty page")
+    @SuppressWarnings("unchecked")
+    void shouldSkipSubtaskCountQueryForEmptyPage() {
+        Pageable pageable = PageRequest.of(0, 20);
+        when(taskQueryRepository.findViews(any(Specification.class), any(Pageable.class)))
+                .thenReturn(Page.empty(pageable));
+
+        Page<TaskDTO> result = taskService.findTasks(new TaskFilterForm(), pageable);
+
+        assertThat(result.getContent()).isEmpty();
+        verify(subtaskRepository, never()).countByTaskIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should return next cursor when more tasks are available")
+    @SuppressWarnings("unchecked")
+    void shouldReturnNextCursorWhenMoreTasksAreAvailable() {
+        TaskView next = new TaskView(UUID.randomUUID(), "Next Task", null, TaskStatus.PENDING,
+                LocalDateTime.of(2024, 1, 1, 11, 0), null, userId, "John Doe");
+
+        when(taskQueryRepository.findSlice(any(Specification.class), anyInt())).thenReturn(List.of(taskView, next));
+        when(subtaskRepository.countByTaskIds(anyCollection())).thenReturn(List.of());
+        when(taskMapper.toDTO(taskView, null)).thenReturn(taskDTO);
+
+        CursorPageDTO<TaskDTO> result = taskService.scrollTasks(new TaskFilterForm(), null, 1);
+
+        assertThat(result.getContent()).containsExactly(taskDTO);
+        assertThat(result.isHasNext()).isTrue();
+        KeysetCursor cursor = KeysetCursor.decode(result.getNextCursor());
+        assertThat(cursor.getId()).isEqualTo(taskId);
+        assertThat(cursor.getCreatedAt()).isEqualTo(taskView.getCreatedAt());
+        verify(taskQueryRepository).findSlice(any(Specification.class), eq(2));
+    }
+
+    private TaskOwnerProjection owner(UUID id) {
+        TaskOwnerProjection owner = mock(TaskOwnerProjection.class);
+        when(owner.getTaskId()).thenReturn(id);
+        when(owner.getUserId()).thenReturn(userId);
+        return owner;
+    }
 }
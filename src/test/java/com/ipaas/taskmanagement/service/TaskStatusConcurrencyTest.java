@@ -0,0 +1,230 @@
+package com.ipaas.taskmanagement.service;
+
+import com.ipaas.taskmanagement.dto.TaskDTO;
+import com.ipaas.taskmanagement.dto.TaskStatusUpdateResultDTO;
+import com.ipaas.taskmanagement.entity.Subtask;
+import com.ipaas.taskmanagement.entity.Task;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.entity.User;
+import com.ipaas.taskmanagement.exception.BusinessRuleException;
+import com.ipaas.taskmanagement.form.BulkUpdateTaskStatusForm;
+import com.ipaas.taskmanagement.form.CreateSubtaskForm;
+import com.ipaas.taskmanagement.form.UpdateTaskStatusForm;
+import com.ipaas.taskmanagement.repository.SubtaskRepository;
+import com.ipaas.taskmanagement.repository.TaskRepository;
+import com.ipaas.taskmanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Races task completion, one at a time and in bulk, against subtask creation and subtask
+ * reopening on the same tasks through the services, with their optimistic retries, against
+ * H2. Nothing in the race completes a subtask, so once a subtask write has committed the task
+ * has a pending subtask and every later completion must be rejected.
+ * <p>
+ * Every successful write bumps the task version once, and completions report the version they
+ * wrote. Whatever the interleaving, the completions of a task must therefore have written the
+ * first versions after the initial one, before any subtask write.
+ */
+@SpringBootTest(properties = {
+        "app.concurrency.retry.max-attempts=20",
+        "app.concurrency.retry.initial-backoff=PT0.001S",
+        "app.concurrency.retry.max-backoff=PT0.02S"
+})
+@ActiveProfiles("test")
+@DisplayName("Concurrency stress test for task status transitions")
+class TaskStatusConcurrencyTest {
+
+    private static final int TASKS = 30;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private SubtaskService subtaskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private SubtaskRepository subtaskRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private List<Task> tasks;
+    private List<Subtask> subtasks;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("Racing User", "racing@service.com"));
+        tasks = new ArrayList<>();
+        subtasks = new ArrayList<>();
+        for (int t = 0; t < TASKS; t++) {
+            Task task = new Task();
+            task.setTitle("Contended task " + t);
+            task.setUser(user);
+            tasks.add(task);
+
+            Subtask subtask = new Subtask();
+            subtask.setTitle("Done subtask " + t);
+            subtask.setTask(task);
+            subtasks.add(subtask);
+        }
+        taskRepository.saveAll(tasks);
+        subtaskRepository.saveAll(subtasks);
+
+        // Subtasks are always created pending; complete them so the tasks can be completed
+        for (Subtask subtask : subtasks) {
+            subtask.setStatus(TaskStatus.COMPLETED);
+            subtask.setCompletedAt(LocalDateTime.now());
+        }
+        subtasks = subtaskRepository.saveAll(subtasks);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should never complete a task that has pending subtasks")
+    void shouldNeverCompleteTaskWithPendingSubtasks() throws Exception {
+        // Given
+        Map<UUID, Long> initialVersions = new ConcurrentHashMap<>();
+        for (Task task : tasks) {
+            initialVersions.put(task.getId(), taskRepository.findVersionById(task.getId()).orElseThrow());
+        }
+        Map<UUID, AtomicInteger> completions = new ConcurrentHashMap<>();
+        Map<UUID, AtomicInteger> subtaskWrites = new ConcurrentHashMap<>();
+        Map<UUID, Long> lastCompletedVersions = new ConcurrentHashMap<>();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Callable<Void>> operations = new ArrayList<>();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int t = 0; t < TASKS; t++) {
+                Task task = tasks.get(t);
+                Subtask subtask = subtasks.get(t);
+                operations.add(race(start, unexpected, () -> {
+                    TaskDTO completed = taskService.updateStatus(task.getId(), status(TaskStatus.COMPLETED));
+                    recordCompletion(completions, lastCompletedVersions, task.getId(), completed.getVersion());
+                }));
+                Task next = tasks.get((t + 1) % TASKS);
+                operations.add(race(start, unexpected, () -> {
+                    BulkUpdateTaskStatusForm form = new BulkUpdateTaskStatusForm();
+                    form.setTaskIds(List.of(task.getId(), next.getId()));
+                    form.setStatus(TaskStatus.COMPLETED);
+                    // Read the versions the bulk update wrote while its locks are still held
+                    transactionTemplate.executeWithoutResult(tx -> {
+                        for (TaskStatusUpdateResultDTO result : taskService.bulkUpdateStatus(form)) {
+                            if (result.getOutcome() == TaskStatusUpdateResultDTO.Outcome.UPDATED) {
+                                recordCompletion(completions, lastCompletedVersions, result.getTaskId(),
+                                        taskRepository.findVersionById(result.getTaskId()).orElseThrow());
+                            }
+                        }
+                    });
+                }));
+                operations.add(race(start, unexpected, () -> {
+                    CreateSubtaskForm form = new CreateSubtaskForm();
+                    form.setTitle("Late subtask");
+                    subtaskService.createSubtask(task.getId(), form);
+                    count(subtaskWrites, task.getId());
+                }));
+                operations.add(race(start, unexpected, () -> {
+                    subtaskService.updateStatus(subtask.getId(), status(TaskStatus.IN_PROGRESS));
+                    count(subtaskWrites, task.getId());
+                }));
+            }
+        }
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (Callable<Void> operation : operations) {
+                futures.add(executor.submit(operation));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(unexpected).isEmpty();
+        for (Task task : tasks) {
+            UUID id = task.getId();
+            long initial = initialVersions.get(id);
+            int completed = completions.getOrDefault(id, new AtomicInteger()).get();
+            int written = subtaskWrites.getOrDefault(id, new AtomicInteger()).get();
+            assertThat(taskRepository.findVersionById(id)).as("version of task %s", id)
+                    .contains(initial + completed + written);
+            if (completed > 0) {
+                assertThat(lastCompletedVersions.get(id)).as("last completion of task %s", id)
+                        .isEqualTo(initial + completed);
+            }
+        }
+    }
+
+    private static void recordCompletion(Map<UUID, AtomicInteger> completions, Map<UUID, Long> lastCompletedVersions,
+                                         UUID taskId, long version) {
+        count(completions, taskId);
+        lastCompletedVersions.merge(taskId, version, Math::max);
+    }
+
+    private static void count(Map<UUID, AtomicInteger> counts, UUID taskId) {
+        counts.computeIfAbsent(taskId, id -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private static Callable<Void> race(CountDownLatch start, Queue<Throwable> unexpected, Runnable operation) {
+        return () -> {
+            start.await();
+            try {
+                operation.run();
+            } catch (BusinessRuleException e) {
+                // A completion that found pending subtasks
+            } catch (RuntimeException e) {
+                unexpected.add(e);
+            }
+            return null;
+        };
+    }
+
+    private static UpdateTaskStatusForm status(TaskStatus status) {
+        UpdateTaskStatusForm form = new UpdateTaskStatusForm();
+        form.setStatus(status);
+        return form;
+    }
+}
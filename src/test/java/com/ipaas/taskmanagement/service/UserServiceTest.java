@@ -1,5 +1,7 @@
 package com.ipaas.taskmanagement.service;
 
+import com.ipaas.taskmanagement.cache.EmailBloomFilter;
+import com.ipaas.taskmanagement.cache.EntityCache;
 import com.ipaas.taskmanagement.dto.UserDTO;
 import com.ipaas.taskmanagement.entity.User;
 import com.ipaas.taskmanagement.exception.EmailAlreadyExistsException;
@@ -7,14 +9,19 @@ import com.ipaas.taskmanagement.exception.UserNotFoundException;
 import com.ipaas.taskmanagement.form.CreateUserForm;
 import com.ipaas.taskmanagement.mapper.UserMapper;
 import com.ipaas.taskmanagement.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
@@ -37,6 +44,12 @@ class UserServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private EmailBloomFilter emailBloomFilter;
+
+    @Spy
+    private EntityCache entityCache = new EntityCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+
     @InjectMocks
     private UserService userService;
 
@@ -69,9 +82,10 @@ class UserServiceTest {
     @DisplayName("Should create user successfully")
     void shouldCreateUserSuccessfully() {
         // Given
+        when(emailBloomFilter.mightContain(anyString())).thenReturn(true);
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(userMapper.toEntity(any(CreateUserForm.class))).thenReturn(user);
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(user);
         when(userMapper.toDTO(any(User.class))).thenReturn(userDTO);
 
         // When
@@ -85,14 +99,83 @@ class UserServiceTest {
 
         verify(userRepository).existsByEmail("john.doe@email.com");
         verify(userMapper).toEntity(createUserForm);
-        verify(userRepository).save(user);
+        verify(userRepository).saveAndFlush(user);
         verify(userMapper).toDTO(user);
+        verify(emailBloomFilter).recordFalsePositive();
+        verify(emailBloomFilter).put("john.doe@email.com");
+    }
+
+    @Test
+    @DisplayName("Should skip email existence query when filter reports the email as absent")
+    void shouldSkipEmailExistenceQueryWhenFilterReportsAbsent() {
+        // Given
+        when(emailBloomFilter.mightContain(anyString())).thenReturn(false);
+        when(userMapper.toEntity(any(CreateUserForm.class))).thenReturn(user);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(user);
+        when(userMapper.toDTO(any(User.class))).thenReturn(userDTO);
+
+        // When
+        UserDTO result = userService.createUser(createUserForm);
+
+        // Then
+        assertThat(result).isNotNull();
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(emailBloomFilter, never()).recordFalsePositive();
+    }
+
+    @Test
+    @DisplayName("Should map unique constraint violation to email already exists")
+    void shouldMapUniqueConstraintViolationToEmailAlreadyExists() {
+        // Given
+        when(emailBloomFilter.mightContain(anyString())).thenReturn(false);
+        when(userMapper.toEntity(any(CreateUserForm.class))).thenReturn(user);
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key",
+                        new ConstraintViolationException("duplicate key", null, "PUBLIC.UK_USERS_EMAIL")));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.createUser(createUserForm))
+                .isInstanceOf(EmailAlreadyExistsException.class)
+                .hasMessageContaining("Email already in use: john.doe@email.com");
+
+        verify(emailBloomFilter, never()).put(anyString());
+    }
+
+    @Test
+    @DisplayName("Should rethrow integrity violations other than a duplicate email")
+    void shouldRethrowOtherIntegrityViolations() {
+        // Given
+        when(emailBloomFilter.mightContain(anyString())).thenReturn(false);
+        when(userMapper.toEntity(any(CreateUserForm.class))).thenReturn(user);
+        when(userRepository.saveAndFlush(any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("value too long",
+                        new ConstraintViolationException("value too long", null, null)));
+
+        // When & Then
+        assertThatThrownBy(() -> userService.createUser(createUserForm))
+                .isInstanceOf(DataIntegrityViolationException.class)
+                .isNotInstanceOf(EmailAlreadyExistsException.class);
+    }
+
+    @Test
+    @DisplayName("Should not query database when email is definitely absent")
+    void shouldNotQueryDatabaseWhenEmailIsDefinitelyAbsent() {
+        // Given
+        when(emailBloomFilter.isDefinitelyAbsent("missing@email.com")).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> userService.findByEmail("missing@email.com"))
+                .isInstanceOf(UserNotFoundException.class)
+                .hasMessageContaining("User not found with email: missing@email.com");
+
+        verify(userRepository, never()).findByEmail(anyString());
     }
 
     @Test
     @DisplayName("Should throw exception when creating user with existing email")
     void shouldThrowExceptionWhenCreatingUserWithExistingEmail() {
         // Given
+        when(emailBloomFilter.mightContain(anyString())).thenReturn(true);
         when(userRepository.existsByEmail(anyString())).thenReturn(true);
 
         // When & Then
@@ -101,7 +184,7 @@ class UserServiceTest {
                 .hasMessageContaining("Email already in use: john.doe@email.com");
 
         verify(userRepository).existsByEmail("john.doe@email.com");
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -135,4 +218,20 @@ class UserServiceTest {
 
         verify(userRepository).findById(userId);
     }
+
+    @Test
+    @DisplayName("Should serve repeated user lookups from the entity cache")
+    void shouldServeRepeatedUserLookupsFromEntityCache() {
+        // Given
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(userMapper.toDTO(any(User.class))).thenReturn(userDTO);
+
+        // When
+        userService.findById(userId);
+        userService.findById(userId);
+
+        // Then
+        verify(userRepository, times(1)).findById(userId);
+        verify(userMapper, times(2)).toDTO(user);
+    }
 }
@@ -0,0 +1,20 @@
+package com.ipaas.taskmanagement.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enforces {@link SqlStatementBudget} on the methods of a Spring Boot test class by counting
+ * statements through a proxied data source.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlStatementBudgetExtension.class)
+@Import(SqlStatementCounterConfiguration.class)
+public @interface EnableSqlStatementBudgets {
+}
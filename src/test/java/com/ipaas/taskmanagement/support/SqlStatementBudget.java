@@ -0,0 +1,26 @@
+package com.ipaas.taskmanagement.support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails the test when its body executes more SQL statements than {@link #max()}.
+ * Setup in {@code @BeforeEach} methods is not counted. Requires {@link EnableSqlStatementBudgets}
+ * on the test class.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlStatementBudget {
+
+    /**
+     * The operation under test, e.g. {@code "listTasks(page=100)"}, used in the failure message.
+     */
+    String value();
+
+    /**
+     * Maximum number of statements the operation may execute.
+     */
+    int max();
+}
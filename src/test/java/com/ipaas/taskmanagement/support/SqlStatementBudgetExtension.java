@@ -0,0 +1,49 @@
+package com.ipaas.taskmanagement.support;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Counts the statements executed by a test method annotated with {@link SqlStatementBudget}
+ * and fails it when the budget is exceeded, listing the statements so the extra queries
+ * (typically an N+1) are easy to spot.
+ */
+public class SqlStatementBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (budget(context).isPresent()) {
+            counter(context).start();
+        }
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        Optional<SqlStatementBudget> budget = budget(context);
+        if (budget.isEmpty()) {
+            return;
+        }
+        List<String> statements = counter(context).stop();
+        if (context.getExecutionException().isPresent() || statements.size() <= budget.get().max()) {
+            return;
+        }
+        throw new AssertionFailedError(String.format("%s executed %d SQL statements, budget is %d:%n  %s",
+                budget.get().value(), statements.size(), budget.get().max(), String.join("\n  ", statements)),
+                budget.get().max(), statements.size());
+    }
+
+    private static Optional<SqlStatementBudget> budget(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getTestMethod(), SqlStatementBudget.class);
+    }
+
+    private static SqlStatementCounter counter(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(SqlStatementCounter.class);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ipaas.taskmanagement.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Records the SQL statements executed on the recording thread between {@link #start()} and
+ * {@link #stop()}. A JDBC batch is one round trip and counts as one statement. Statements run
+ * by other threads (scheduled jobs, async exports) are ignored.
+ */
+public class SqlStatementCounter implements QueryExecutionListener {
+
+    private final List<String> statements = new ArrayList<>();
+    private volatile Thread recordingThread;
+
+    public void start() {
+        statements.clear();
+        recordingThread = Thread.currentThread();
+    }
+
+    /**
+     * Stops recording and returns the statements executed since {@link #start()}.
+     */
+    public List<String> stop() {
+        recordingThread = null;
+        return List.copyOf(statements);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (Thread.currentThread() != recordingThread) {
+            return;
+        }
+        String sql = queryInfoList.stream()
+                .map(QueryInfo::getQuery)
+                .collect(Collectors.joining("; "));
+        statements.add(execInfo.isBatch() ? "[batch of " + execInfo.getBatchSize() + "] " + sql : sql);
+    }
+}
@@ -0,0 +1,295 @@
+package com.ipaas.taskmanagement.writebehind;
+
+import com.ipaas.taskmanagement.dto.SubtaskDTO;
+import com.ipaas.taskmanagement.dto.TaskDTO;
+import com.ipaas.taskmanagement.dto.TaskStatusUpdateResultDTO;
+import com.ipaas.taskmanagement.dto.UserDTO;
+import com.ipaas.taskmanagement.entity.TaskStatus;
+import com.ipaas.taskmanagement.exception.BusinessRuleException;
+import com.ipaas.taskmanagement.form.BulkUpdateTaskStatusForm;
+import com.ipaas.taskmanagement.form.CreateSubtaskForm;
+import com.ipaas.taskmanagement.form.CreateTaskForm;
+import com.ipaas.taskmanagement.form.CreateUserForm;
+import com.ipaas.taskmanagement.form.UpdateTaskStatusForm;
+import com.ipaas.taskmanagement.repository.TaskRepository;
+import com.ipaas.taskmanagement.repository.UserRepository;
+import com.ipaas.taskmanagement.service.SubtaskService;
+import com.ipaas.taskmanagement.service.TaskService;
+import com.ipaas.taskmanagement.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+
+/**
+ * Buffers subtask status updates and flushes them by hand; the flush interval is long enough
+ * that the scheduled flush never runs during a test.
+ */
+@SpringBootTest(properties = {
+        "app.subtasks.status-writes=write-behind",
+        "app.subtasks.write-behind.flush-interval=PT1H",
+        "app.subtasks.write-behind.journal-dir=${java.io.tmpdir}/subtask-status-journal-test"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Tests for write-behind subtask status updates")
+class SubtaskWriteBehindTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WriteBehindSubtaskStatusBuffer buffer;
+
+    @Autowired
+    private SubtaskService subtaskService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @SpyBean
+    private SubtaskStatusFlusher flusher;
+
+    private TaskDTO task;
+
+    @BeforeEach
+    void setUp() {
+        CreateUserForm userForm = new CreateUserForm();
+        userForm.setName("Write Behind User");
+        userForm.setEmail("write.behind@email.com");
+        UserDTO user = userService.createUser(userForm);
+
+        CreateTaskForm taskForm = new CreateTaskForm();
+        taskForm.setTitle("Buffered task");
+        taskForm.setUserId(user.getId());
+        task = taskService.createTask(taskForm);
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.flush();
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should acknowledge from the buffer, read its own writes and flush only the last update")
+    void shouldCoalesceUpdatesUntilFlush() {
+        // Given
+        SubtaskDTO subtask = createSubtask("Buffered subtask");
+        long version = subtaskVersion(subtask.getId());
+
+        // When
+        subtaskService.bufferStatus(subtask.getId(), status(TaskStatus.IN_PROGRESS));
+        subtaskService.bufferStatus(subtask.getId(), status(TaskStatus.PENDING));
+        SubtaskDTO acknowledged = subtaskService.bufferStatus(subtask.getId(), status(TaskStatus.COMPLETED)).orElseThrow();
+
+        // Then
+        assertThat(acknowledged.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(subtaskService.findById(subtask.getId()).getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(subtaskService.findByTaskId(task.getId()))
+                .extracting(SubtaskDTO::getStatus).containsExactly(TaskStatus.COMPLETED);
+        assertThat(subtaskStatus(subtask.getId())).isEqualTo("PENDING");
+
+        // When
+        buffer.flush();
+
+        // Then
+        assertThat(subtaskStatus(subtask.getId())).isEqualTo("COMPLETED");
+        assertThat(subtaskVersion(subtask.getId())).isEqualTo(version + 1);
+        assertThat(subtaskService.findById(subtask.getId()).getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should drop a buffered update when its task is deleted before the flush")
+    void shouldRejectUpdateOfDeletedTaskAtFlush() {
+        // Given
+        SubtaskDTO subtask = createSubtask("Orphaned subtask");
+        subtaskService.bufferStatus(subtask.getId(), status(TaskStatus.COMPLETED));
+        taskRepository.deleteById(task.getId());
+        double rejected = meterRegistry.counter("app.writebehind.rejected").count();
+
+        // When
+        buffer.flush();
+
+        // Then
+        assertThat(meterRegistry.counter("app.writebehind.rejected").count()).isEqualTo(rejected + 1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM subtasks WHERE id = ?", Long.class,
+                subtask.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep reading a drained update until its flush has committed")
+    void shouldReadInFlightUpdateUntilFlushCommits() throws Exception {
+        // Given
+        SubtaskDTO subtask = createSubtask("In-flight subtask");
+        subtaskService.bufferStatus(subtask.getId(), status(TaskStatus.IN_PROGRESS));
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            flushing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(flusher).flush(any());
+
+        // When
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(buffer::flush);
+        assertThat(flushing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(subtaskStatus(subtask.getId())).isEqualTo("PENDING");
+        assertThat(subtaskService.findById(subtask.getId()).getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+
+        // When
+        release.countDown();
+        flush.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(subtaskStatus(subtask.getId())).isEqualTo("IN_PROGRESS");
+        assertThat(subtaskService.findById(subtask.getId()).getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+    }
+
+    @Test
+    @DisplayName("Should change the task and subtask list ETags when an update is buffered and when it is flushed")
+    void shouldChangeETagsForBufferedUpdate() throws Exception {
+        // Given
+        SubtaskDTO subtask = createSubtask("Polled subtask");
+        String listETag = mockMvc.perform(get("/api/tasks/{taskId}/subtasks", task.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String taskETag = mockMvc.perform(get("/api/tasks/{id}", task.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // When
+        mockMvc.perform(patch("/api/subtasks/{id}/status", subtask.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"COMPLETED\"}"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        // Then
+        String bufferedListETag = mockMvc.perform(get("/api/tasks/{taskId}/subtasks", task.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, listETag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(jsonPath("$[0].status").value("COMPLETED"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String bufferedTaskETag = mockMvc.perform(get("/api/tasks/{id}", task.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, taskETag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(jsonPath("$.completedSubtasks").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(bufferedListETag).isNotEqualTo(listETag);
+        assertThat(bufferedTaskETag).isNotEqualTo(taskETag);
+        mockMvc.perform(get("/api/tasks/{taskId}/subtasks", task.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, bufferedListETag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        // When
+        buffer.flush();
+
+        // Then
+        mockMvc.perform(get("/api/tasks/{taskId}/subtasks", task.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, bufferedListETag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(jsonPath("$[0].status").value("COMPLETED"));
+        mockMvc.perform(get("/api/tasks/{id}", task.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, bufferedTaskETag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(jsonPath("$.completedSubtasks").value(1));
+    }
+
+    @Test
+    @DisplayName("Should complete a task whose subtasks were completed in the buffer")
+    void shouldCompleteTaskAfterBufferedSubtaskCompletions() {
+        // Given
+        SubtaskDTO first = createSubtask("First buffered subtask");
+        SubtaskDTO second = createSubtask("Second buffered subtask");
+        subtaskService.bufferStatus(first.getId(), status(TaskStatus.COMPLETED));
+
+        // When / Then: one subtask is still pending
+        assertThatThrownBy(() -> taskService.updateStatus(task.getId(), status(TaskStatus.COMPLETED)))
+                .isInstanceOf(BusinessRuleException.class);
+        assertThat(bulkComplete()).isEqualTo(TaskStatusUpdateResultDTO.Outcome.REJECTED_PENDING_SUBTASKS);
+
+        // When
+        subtaskService.bufferStatus(second.getId(), status(TaskStatus.COMPLETED));
+
+        // Then
+        assertThat(bulkComplete()).isEqualTo(TaskStatusUpdateResultDTO.Outcome.UPDATED);
+        TaskDTO completed = taskService.updateStatus(task.getId(), status(TaskStatus.COMPLETED));
+        assertThat(completed.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(completed.getCompletedSubtasks()).isEqualTo(2);
+
+        // When: a completed subtask is reopened in the buffer
+        subtaskService.bufferStatus(first.getId(), status(TaskStatus.IN_PROGRESS));
+
+        // Then
+        assertThatThrownBy(() -> taskService.updateStatus(task.getId(), status(TaskStatus.COMPLETED)))
+                .isInstanceOf(BusinessRuleException.class);
+    }
+
+    private TaskStatusUpdateResultDTO.Outcome bulkComplete() {
+        BulkUpdateTaskStatusForm form = new BulkUpdateTaskStatusForm();
+        form.setTaskIds(List.of(task.getId()));
+        form.setStatus(TaskStatus.COMPLETED);
+        return taskService.bulkUpdateStatus(form).get(0).getOutcome();
+    }
+
+    private SubtaskDTO createSubtask(String title) {
+        CreateSubtaskForm form = new CreateSubtaskForm();
+        form.setTitle(title);
+        return subtaskService.createSubtask(task.getId(), form);
+    }
+
+    private static UpdateTaskStatusForm status(TaskStatus status) {
+        UpdateTaskStatusForm form = new UpdateTaskStatusForm();
+        form.setStatus(status);
+        return form;
+    }
+
+    private String subtaskStatus(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM subtasks WHERE id = ?", String.class, id);
+    }
+
+    private long subtaskVersion(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT version FROM subtasks WHERE id = ?", Long.class, id);
+    }
+}